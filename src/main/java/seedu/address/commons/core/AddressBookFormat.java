@@ -0,0 +1,48 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * The file formats that address book data can be stored in.
+ */
+public enum AddressBookFormat {
+    /** Human-readable JSON. */
+    JSON(".json"),
+    /** A compact binary snapshot that is faster to load. */
+    BINARY(".bin"),
+    /** A manifest of JSON files, one for each section, that are saved independently. */
+    SHARDED(".manifest");
+
+    private final String fileExtension;
+
+    AddressBookFormat(String fileExtension) {
+        this.fileExtension = fileExtension;
+    }
+
+    /**
+     * Returns the extension of files in this format, including the leading dot.
+     */
+    public String getFileExtension() {
+        return fileExtension;
+    }
+
+    /**
+     * Returns the format whose file extension {@code filePath} has, or {@code Optional.empty()} if there is none.
+     */
+    public static Optional<AddressBookFormat> fromFilePath(Path filePath) {
+        requireNonNull(filePath);
+        Path fileName = filePath.getFileName();
+        if (fileName == null) {
+            return Optional.empty();
+        }
+        for (AddressBookFormat format : values()) {
+            if (fileName.toString().toLowerCase().endsWith(format.fileExtension)) {
+                return Optional.of(format);
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,82 @@
+package seedu.address.commons.core;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * A Serializable class that contains the limits of the undo history.
+ * Guarantees: immutable.
+ */
+public class UndoHistorySettings implements Serializable {
+
+    public static final String MESSAGE_CONSTRAINTS =
+            "The maximum undo depth must be positive and the maximum undo memory must not be negative";
+
+    private static final int DEFAULT_MAX_DEPTH = 100;
+    private static final long DEFAULT_MAX_BYTES_IN_MEMORY = 16L * 1024 * 1024;
+
+    private final int maxDepth;
+    private final long maxBytesInMemory;
+
+    /**
+     * Constructs an {@code UndoHistorySettings} with the default limits.
+     */
+    public UndoHistorySettings() {
+        maxDepth = DEFAULT_MAX_DEPTH;
+        maxBytesInMemory = DEFAULT_MAX_BYTES_IN_MEMORY;
+    }
+
+    /**
+     * Constructs an {@code UndoHistorySettings} with the specified limits.
+     *
+     * @param maxDepth The maximum number of commands that can be undone.
+     * @param maxBytesInMemory The estimated memory that the undo history may use before older commands are moved to
+     *     disk.
+     */
+    public UndoHistorySettings(int maxDepth, long maxBytesInMemory) {
+        checkArgument(maxDepth > 0 && maxBytesInMemory >= 0, MESSAGE_CONSTRAINTS);
+        this.maxDepth = maxDepth;
+        this.maxBytesInMemory = maxBytesInMemory;
+    }
+
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
+    public long getMaxBytesInMemory() {
+        return maxBytesInMemory;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof UndoHistorySettings)) {
+            return false;
+        }
+
+        UndoHistorySettings otherSettings = (UndoHistorySettings) other;
+        return maxDepth == otherSettings.maxDepth
+                && maxBytesInMemory == otherSettings.maxBytesInMemory;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(maxDepth, maxBytesInMemory);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("maxDepth", maxDepth)
+                .add("maxBytesInMemory", maxBytesInMemory)
+                .toString();
+    }
+}
@@ -18,6 +18,7 @@ public final class AttendanceMessages {
     public static final String MESSAGE_EVENT_NOT_FOUND = "Event not found";
     public static final String MESSAGE_MEMBER_NOT_FOUND = "Member not found: %1$s";
     public static final String MESSAGE_MEMBER_NOT_FOUND_IN_LIST = "Member not found in attendance list: %1$s";
+    public static final String MESSAGE_NO_MEMBER_WITH_TAGS = "No member has all of the tags: %1$s";
 
     public static final String MESSAGE_ALREADY_ADDED_SINGLE = "Member already added: %1$s";
     public static final String MESSAGE_ALREADY_ADDED_MULTIPLE = "Members already added: %1$s";
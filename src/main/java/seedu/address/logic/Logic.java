@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -8,6 +10,7 @@ import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UndoHistoryUsage;
 import seedu.address.model.event.Event;
 import seedu.address.model.person.Person;
 import seedu.address.model.task.Task;
@@ -55,4 +58,22 @@ public interface Logic {
      * Set the user prefs' GUI settings.
      */
     void setGuiSettings(GuiSettings guiSettings);
+
+    /**
+     * Returns how many commands can be undone and redone, and the space their history takes up.
+     */
+    UndoHistoryUsage getUndoHistoryUsage();
+
+    /**
+     * Sets the handler that is given an error message whenever the address book could not be saved.
+     * Saving happens in the background, so the handler may be called on a background thread.
+     */
+    void setSaveFailureHandler(Consumer<String> failureHandler);
+
+    /**
+     * Waits for the address book to finish saving, and saves it again if the last save failed.
+     *
+     * @throws IOException If the address book could not be saved.
+     */
+    void flush() throws IOException;
 }
@@ -1,8 +1,13 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -15,9 +20,12 @@ import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReversibleEdit;
+import seedu.address.model.UndoHistoryUsage;
 import seedu.address.model.event.Event;
 import seedu.address.model.person.Person;
 import seedu.address.model.task.Task;
+import seedu.address.storage.AddressBookSaver;
 import seedu.address.storage.Storage;
 
 /**
@@ -34,6 +42,9 @@ public class LogicManager implements Logic {
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private final AddressBookSaver saver;
+    private final List<ReversibleEdit> unsavedChanges = new ArrayList<>();
+    private long savedVersion; // modification version of the address book when it was last saved or loaded
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
@@ -42,6 +53,9 @@ public class LogicManager implements Logic {
         this.model = model;
         this.storage = storage;
         addressBookParser = new AddressBookParser();
+        saver = new AddressBookSaver(storage);
+        model.setAddressBookChangeListener(unsavedChanges::add);
+        savedVersion = model.getAddressBook().getModificationVersion();
     }
 
     @Override
@@ -60,14 +74,17 @@ public class LogicManager implements Logic {
         try {
             commandResult = command.execute(model);
 
-            try {
-                storage.saveAddressBook(model.getAddressBook());
-            } catch (AccessDeniedException e) {
-                throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
-            } catch (IOException ioe) {
-                throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            long version = model.getAddressBook().getModificationVersion();
+            if (version == savedVersion) {
+                logger.fine("Address book not modified, skipping save");
+                return commandResult;
             }
 
+            // The snapshot is saved in the background while the next command runs
+            saver.save(model.getAddressBook().snapshot(), List.copyOf(unsavedChanges));
+            unsavedChanges.clear();
+            savedVersion = version;
+
             return commandResult;
         } catch (CommandException e) {
             // If command execution fails and we committed state, we need to rollback the commit
@@ -78,6 +95,35 @@ public class LogicManager implements Logic {
         }
     }
 
+    @Override
+    public void setSaveFailureHandler(Consumer<String> failureHandler) {
+        requireNonNull(failureHandler);
+        saver.setFailureHandler(e -> failureHandler.accept(getSaveErrorMessage(e)));
+    }
+
+    @Override
+    public void flush() throws IOException {
+        boolean hasFailed;
+        try {
+            hasFailed = saver.flush();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            hasFailed = true;
+        }
+
+        if (hasFailed) {
+            // Retry in full, as the changes that failed to save are no longer pending
+            storage.saveAddressBook(model.getAddressBook());
+        }
+    }
+
+    private static String getSaveErrorMessage(IOException e) {
+        if (e instanceof AccessDeniedException) {
+            return String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage());
+        }
+        return String.format(FILE_OPS_ERROR_FORMAT, e.getMessage());
+    }
+
     /**
      * Returns true if the command should save state before execution for undo functionality.
      * Commands that modify the address book data should save state.
@@ -140,4 +186,9 @@ public class LogicManager implements Logic {
     public void setGuiSettings(GuiSettings guiSettings) {
         model.setGuiSettings(guiSettings);
     }
+
+    @Override
+    public UndoHistoryUsage getUndoHistoryUsage() {
+        return model.getUndoHistoryUsage();
+    }
 }
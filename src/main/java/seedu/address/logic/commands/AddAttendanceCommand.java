@@ -7,6 +7,7 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.AttendanceMessages;
@@ -16,26 +17,33 @@ import seedu.address.model.attendance.Attendance;
 import seedu.address.model.event.Event;
 import seedu.address.model.event.EventId;
 import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonQuery;
+import seedu.address.model.tag.Tag;
 
 /**
- * Adds members to the attendance list of an event.
+ * Adds members to the attendance list of an event, named or found by their tags.
  */
 public class AddAttendanceCommand extends Command {
 
     public static final String COMMAND_WORD = "addattendance";
 
-    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Adds members to an event's attendance list. "
-            + "Format: " + COMMAND_WORD + " e/EVENTID m/MEMBER[/MEMBER]...\n"
-            + "Example: " + COMMAND_WORD + " e/Orientation2023 m/John Doe/Jane Smith";
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Adds members to an event's attendance list, "
+            + "including every member with all of the given tags. "
+            + "Format: " + COMMAND_WORD + " e/EVENTID [m/MEMBER[/MEMBER]...] [t/TAG]...\n"
+            + "Example: " + COMMAND_WORD + " e/Orientation2023 m/John Doe/Jane Smith\n"
+            + "Example: " + COMMAND_WORD + " e/Orientation2023 t/exco t/committee";
 
     public static final String MESSAGE_EVENT_NOT_FOUND = AttendanceMessages.MESSAGE_EVENT_NOT_FOUND;
     public static final String MESSAGE_MEMBER_NOT_FOUND = AttendanceMessages.MESSAGE_MEMBER_NOT_FOUND;
     public static final String MESSAGE_RESULT = AttendanceMessages.MESSAGE_ADD_ATTENDANCE_RESULT;
+    public static final String MESSAGE_NO_MEMBER_WITH_TAGS = AttendanceMessages.MESSAGE_NO_MEMBER_WITH_TAGS;
 
     private static final Logger logger = LogsCenter.getLogger(AddAttendanceCommand.class);
 
     private final EventId eventId;
     private final List<Name> memberNames;
+    private final Set<Tag> tags;
     /**
      * Creates an {@code AddAttendanceCommand} to add the given members to the specified event.
      *
@@ -43,10 +51,24 @@ public class AddAttendanceCommand extends Command {
      * @param memberNames The list of member names to add to the event's attendance.
      */
     public AddAttendanceCommand(EventId eventId, List<Name> memberNames) {
+        this(eventId, memberNames, Set.of());
+    }
+
+    /**
+     * Creates an {@code AddAttendanceCommand} to add the given members, and every member with all of {@code tags},
+     * to the specified event.
+     *
+     * @param eventId The ID of the event to which members are added.
+     * @param memberNames The list of member names to add to the event's attendance.
+     * @param tags The tags of the other members to add, or an empty set to add only the members named.
+     */
+    public AddAttendanceCommand(EventId eventId, List<Name> memberNames, Set<Tag> tags) {
         requireNonNull(eventId);
         requireNonNull(memberNames);
+        requireNonNull(tags);
         this.eventId = eventId;
         this.memberNames = List.copyOf(memberNames);
+        this.tags = Set.copyOf(tags);
     }
 
     @Override
@@ -59,6 +81,15 @@ public class AddAttendanceCommand extends Command {
         }
 
         Set<Name> uniqueNames = new LinkedHashSet<>(memberNames);
+        AttendanceCommandUtil.requireMembersExist(model, uniqueNames);
+        if (!tags.isEmpty()) {
+            List<Person> taggedMembers = model.findPersons(PersonQuery.withAllTags(tags));
+            if (taggedMembers.isEmpty()) {
+                throw new CommandException(String.format(MESSAGE_NO_MEMBER_WITH_TAGS,
+                        tags.stream().map(tag -> tag.tagName).sorted().collect(Collectors.joining(", "))));
+            }
+            taggedMembers.forEach(member -> uniqueNames.add(member.getName()));
+        }
         AttendanceUpdateSummary summary = addMembersToEvent(model, uniqueNames);
 
         logger.fine(() -> String.format(
@@ -77,16 +108,11 @@ public class AddAttendanceCommand extends Command {
         return new CommandResult(resultMessage);
     }
 
-    private AttendanceUpdateSummary addMembersToEvent(Model model,
-                                                      Set<Name> uniqueNames) throws CommandException {
+    private AttendanceUpdateSummary addMembersToEvent(Model model, Set<Name> uniqueNames) {
         List<Name> membersToAdd = new ArrayList<>();
         List<Name> duplicateMembers = new ArrayList<>();
 
         for (Name name : uniqueNames) {
-            if (!memberExists(model, name)) {
-                throw new CommandException(String.format(MESSAGE_MEMBER_NOT_FOUND, name));
-            }
-
             Attendance attendance = new Attendance(eventId, name);
             if (model.hasAttendance(attendance)) {
                 assert !duplicateMembers.contains(name);
@@ -107,11 +133,6 @@ public class AddAttendanceCommand extends Command {
         return new AttendanceUpdateSummary(addedMembers, duplicateMembers);
     }
 
-    private boolean memberExists(Model model, Name name) {
-        return model.getAddressBook().getPersonList().stream()
-                .anyMatch(person -> person.getName().equals(name));
-    }
-
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -124,7 +145,8 @@ public class AddAttendanceCommand extends Command {
 
         AddAttendanceCommand otherCommand = (AddAttendanceCommand) other;
         return eventId.equals(otherCommand.eventId)
-                && memberNames.equals(otherCommand.memberNames);
+                && memberNames.equals(otherCommand.memberNames)
+                && tags.equals(otherCommand.tags);
     }
 
     private static final class AttendanceUpdateSummary {
@@ -2,9 +2,12 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
+import seedu.address.logic.AttendanceMessages;
+import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.attendance.Attendance;
 import seedu.address.model.event.EventId;
@@ -27,9 +30,26 @@ public final class AttendanceCommandUtil {
         requireNonNull(eventId);
 
         Map<Name, Attendance> result = new LinkedHashMap<>();
-        model.getAddressBook().getAttendanceList().stream()
-                .filter(attendance -> attendance.getEventId().equals(eventId))
-                .forEach(attendance -> result.put(attendance.getMemberName(), attendance));
+        for (Attendance attendance : model.getAttendanceForEvent(eventId)) {
+            result.put(attendance.getMemberName(), attendance);
+        }
         return result;
     }
+
+    /**
+     * Resolves every name in {@code memberNames} against the member name index in one batch, before any
+     * attendance record is changed.
+     *
+     * @throws CommandException if a name does not belong to any member, naming the first such name.
+     */
+    public static void requireMembersExist(Model model, Collection<Name> memberNames) throws CommandException {
+        requireNonNull(model);
+        requireNonNull(memberNames);
+
+        for (Name name : memberNames) {
+            if (model.findPersonsByName(name).isEmpty()) {
+                throw new CommandException(String.format(AttendanceMessages.MESSAGE_MEMBER_NOT_FOUND, name));
+            }
+        }
+    }
 }
@@ -7,6 +7,7 @@ import seedu.address.model.Model;
 import seedu.address.model.budget.Budget;
 import seedu.address.model.common.Money;
 import seedu.address.model.event.Event;
+import seedu.address.model.event.EventsInRange;
 
 /**
  * Shows the budget report.
@@ -21,8 +22,9 @@ public class BudgetReportCommand extends Command {
         if (budget == null) {
             return new CommandResult("No budget set. Use budgetset to set one.");
         }
-        List<Event> events = model.getEventsWithin(budget.getStartDate(), budget.getEndDate());
-        Money spent = model.computeTotalExpensesWithin(budget.getStartDate(), budget.getEndDate());
+        EventsInRange eventsInRange = model.getEventsInRange(budget.getStartDate(), budget.getEndDate());
+        List<Event> events = eventsInRange.getEvents();
+        Money spent = eventsInRange.getTotalExpense();
         String remaining = budget.remaining(spent);
 
         StringBuilder sb = new StringBuilder();
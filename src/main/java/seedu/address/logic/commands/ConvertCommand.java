@@ -0,0 +1,126 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.Optional;
+
+import seedu.address.commons.core.AddressBookFormat;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.storage.AddressBookStorage;
+
+/**
+ * Converts address book data between the file formats in {@link AddressBookFormat}.
+ * The format of each file is given by its extension.
+ */
+public class ConvertCommand extends Command {
+
+    public static final String COMMAND_WORD = "convert";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Saves address book data in another file format. The format is given by the file extension: "
+            + AddressBookFormat.JSON.getFileExtension() + " for JSON, "
+            + AddressBookFormat.BINARY.getFileExtension() + " for binary, "
+            + AddressBookFormat.SHARDED.getFileExtension() + " for JSON files saved by section.\n"
+            + "Converts the current data if no source file is given, or if it is the data file in use.\n"
+            + "Parameters: [" + PREFIX_FROM + "SOURCE_FILE] " + PREFIX_TO + "TARGET_FILE\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_TO + "data/addressbook.bin";
+
+    public static final String MESSAGE_SUCCESS = "Converted %1$s to %2$s (%3$s format)";
+    public static final String MESSAGE_UNKNOWN_FORMAT = "Unknown data file format: %1$s";
+    public static final String MESSAGE_SOURCE_NOT_FOUND = "Data file not found: %1$s";
+    public static final String MESSAGE_TARGET_IS_DATA_FILE =
+            "Cannot convert to the data file in use, as it is overwritten whenever the data changes";
+    public static final String MESSAGE_FAILURE = "Failed to convert data: %1$s";
+
+    private final Path sourcePath; // null to convert the current address book
+    private final Path targetPath;
+
+    /**
+     * Creates a ConvertCommand that converts the data file at {@code sourcePath}, or the current address book if
+     * {@code sourcePath} is null or the data file in use, to {@code targetPath}.
+     */
+    public ConvertCommand(Path sourcePath, Path targetPath) {
+        requireNonNull(targetPath);
+        this.sourcePath = sourcePath;
+        this.targetPath = targetPath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        AddressBookFormat targetFormat = getFormat(targetPath);
+        if (isSameFile(targetPath, model.getAddressBookFilePath())) {
+            throw new CommandException(MESSAGE_TARGET_IS_DATA_FILE);
+        }
+
+        ReadOnlyAddressBook addressBook;
+        String sourceDescription;
+        if (sourcePath == null || isSameFile(sourcePath, model.getAddressBookFilePath())) {
+            // The data file in use may not hold the latest changes yet, as they are journaled next to it
+            addressBook = model.getAddressBook().snapshot();
+            sourceDescription = model.getAddressBookFilePath().toString();
+        } else {
+            addressBook = read(sourcePath);
+            sourceDescription = sourcePath.toString();
+        }
+
+        try {
+            AddressBookStorage.forFormat(targetFormat, targetPath).saveAddressBook(addressBook);
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_FAILURE, e.getMessage()), e);
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, sourceDescription, targetPath, targetFormat));
+    }
+
+    private static AddressBookFormat getFormat(Path filePath) throws CommandException {
+        return AddressBookFormat.fromFilePath(filePath)
+                .orElseThrow(() -> new CommandException(String.format(MESSAGE_UNKNOWN_FORMAT, filePath)));
+    }
+
+    private static boolean isSameFile(Path first, Path second) {
+        return first.toAbsolutePath().normalize().equals(second.toAbsolutePath().normalize());
+    }
+
+    private static ReadOnlyAddressBook read(Path filePath) throws CommandException {
+        Optional<ReadOnlyAddressBook> addressBook;
+        try {
+            addressBook = AddressBookStorage.forFormat(getFormat(filePath), filePath).readAddressBook();
+        } catch (DataLoadingException e) {
+            throw new CommandException(String.format(MESSAGE_FAILURE, e.getCause().getMessage()), e);
+        }
+        return addressBook.orElseThrow(() -> new CommandException(String.format(MESSAGE_SOURCE_NOT_FOUND, filePath)));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ConvertCommand)) {
+            return false;
+        }
+
+        ConvertCommand otherConvertCommand = (ConvertCommand) other;
+        return Objects.equals(sourcePath, otherConvertCommand.sourcePath)
+                && targetPath.equals(otherConvertCommand.targetPath);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("sourcePath", sourcePath)
+                .add("targetPath", targetPath)
+                .toString();
+    }
+}
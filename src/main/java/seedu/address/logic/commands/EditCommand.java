@@ -89,11 +89,11 @@ public class EditCommand extends Command {
         Person personToEdit = lastShownList.get(index.getZeroBased());
         Person editedPerson = createEditedPerson(personToEdit, editPersonDescriptor);
 
-        // Check if student number is being changed and if the new student number already exists
+        // Check if the new student number already belongs to another member
         StudentNumber editedStudentNumber = editPersonDescriptor.getStudentNumber()
                 .orElse(personToEdit.getStudentNumber());
-        if (!personToEdit.getStudentNumber().equals(editedStudentNumber)
-                && model.hasStudentNumber(editedStudentNumber)) {
+        Optional<Person> studentNumberOwner = model.findByStudentNumber(editedStudentNumber);
+        if (studentNumberOwner.isPresent() && !studentNumberOwner.get().isSamePerson(personToEdit)) {
             throw new CommandException(MESSAGE_DUPLICATE_STUDENT_NUMBER);
         }
 
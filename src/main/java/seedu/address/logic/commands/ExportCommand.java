@@ -5,41 +5,58 @@ import static java.util.Objects.requireNonNull;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.Set;
 
 import seedu.address.commons.util.CsvManager;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonQuery;
+import seedu.address.model.tag.Tag;
 
 /**
- * Exports all members in the address book to a CSV file.
+ * Exports the members listed, or all members in the address book with every one of the given tags, to a CSV file.
  */
 public class ExportCommand extends Command {
 
     public static final String COMMAND_WORD = "export";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
-        + ": Exports all members to a CSV file.\n"
-        + "Format: " + COMMAND_WORD + " [/to FILEPATH]\n"
-        + "Example: " + COMMAND_WORD + " /to members.csv";
+        + ": Exports all members, or only those with every tag given, to a CSV file.\n"
+        + "Format: " + COMMAND_WORD + " [t/TAG]... [/to FILEPATH]\n"
+        + "Example: " + COMMAND_WORD + " /to members.csv\n"
+        + "Example: " + COMMAND_WORD + " t/exco t/committee /to exco.csv";
 
     public static final String MESSAGE_SUCCESS = "Export successful: %1$s";
     public static final String MESSAGE_FAILURE = "Failed to export members: %1$s";
 
     private final String filePath;
+    private final Set<Tag> tags;
 
     /**
      * Creates an ExportCommand with an optional file path.
      */
     public ExportCommand(String filePath) {
+        this(filePath, Set.of());
+    }
+
+    /**
+     * Creates an ExportCommand with an optional file path, exporting the members with all of {@code tags}, or the
+     * members listed if there are none.
+     */
+    public ExportCommand(String filePath, Set<Tag> tags) {
+        requireNonNull(tags);
         this.filePath = filePath;
+        this.tags = Set.copyOf(tags);
     }
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Person> persons = model.getFilteredPersonList();
+        List<Person> persons = tags.isEmpty()
+            ? model.getFilteredPersonList()
+            : model.findPersons(PersonQuery.withAllTags(tags));
 
         try {
             Path exportedFile = CsvManager.exportPersons(persons, filePath);
@@ -60,14 +77,16 @@ public class ExportCommand extends Command {
         }
 
         ExportCommand otherExportCommand = (ExportCommand) other;
-        return (filePath == null && otherExportCommand.filePath == null)
-            || (filePath != null && filePath.equals(otherExportCommand.filePath));
+        return ((filePath == null && otherExportCommand.filePath == null)
+            || (filePath != null && filePath.equals(otherExportCommand.filePath)))
+            && tags.equals(otherExportCommand.tags);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
             .add("filePath", filePath)
+            .add("tags", tags)
             .toString();
     }
 }
@@ -20,7 +20,17 @@ public class FindCommand extends Command {
             + "Searches across name, year, student number, email, phone, dietary requirements, role, and tags.\n"
             + "Uses AND logic - all keywords must be found in the person's fields.\n"
             + "Format: " + COMMAND_WORD + " KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " year 3 vegetarian (finds students who are BOTH year 3 AND vegetarian)";
+            + "Example: " + COMMAND_WORD + " year 3 vegetarian (finds students who are BOTH year 3 AND vegetarian)\n"
+            + "Start with " + FuzzyFindCommand.FUZZY_MARKER + " to match the starts of words, allowing for typos, "
+            + "closest matches first.\n"
+            + "Example: " + COMMAND_WORD + " " + FuzzyFindCommand.FUZZY_MARKER + "jon tan w\n"
+            + "Start with " + QueryFindCommand.QUERY_MARKER + " to write a query: limit a keyword to a field with "
+            + "n/, y/, s/, e/, p/, d/, r/ or t/, exclude it with " + QueryFindCommand.NOT_MARKER
+            + ", and separate alternatives with " + QueryFindCommand.OR_KEYWORD + ". Follow "
+            + QueryFindCommand.QUERY_MARKER + " with " + QueryFindCommand.EXPLAIN_KEYWORD
+            + " to show how the search is done.\n"
+            + "Example: " + COMMAND_WORD + " " + QueryFindCommand.QUERY_MARKER + "y/2 t/exco "
+            + QueryFindCommand.NOT_MARKER + "t/alumni " + QueryFindCommand.OR_KEYWORD + " r/treasurer";
 
     private final PersonContainsKeywordsPredicate predicate;
 
@@ -0,0 +1,65 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+
+/**
+ * Finds and lists the persons in address book with a word in their fields starting with each of the argument words,
+ * allowing for a few typos in each. The closest matches are listed first.
+ */
+public class FuzzyFindCommand extends Command {
+
+    /** Marks the words given to {@code find} as the starts of words that may be misspelt. */
+    public static final String FUZZY_MARKER = "~";
+
+    /** The most persons listed, as matches needing many typos are seldom wanted. */
+    public static final int MAX_RESULTS = 20;
+
+    private final List<String> words;
+
+    /**
+     * Creates a FuzzyFindCommand to find the persons matching every one of {@code words}.
+     */
+    public FuzzyFindCommand(List<String> words) {
+        requireNonNull(words);
+        this.words = List.copyOf(words);
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        List<Person> matches = model.findPersonsApproximately(words, MAX_RESULTS);
+        model.showRankedPersons(matches);
+        return new CommandResult(
+                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size())
+                + "\n\n(Use 'list' to go back)");
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FuzzyFindCommand)) {
+            return false;
+        }
+
+        FuzzyFindCommand otherFuzzyFindCommand = (FuzzyFindCommand) other;
+        return words.equals(otherFuzzyFindCommand.words);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("words", words)
+                .toString();
+    }
+}
@@ -0,0 +1,75 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.person.PersonQuery;
+
+/**
+ * Finds and lists the persons in address book matching a query of words limited to fields, which may be negated
+ * and combined with OR. Optionally shows the plan by which the query was answered, along with its estimated cost.
+ */
+public class QueryFindCommand extends Command {
+
+    /** Marks the words given to {@code find} as a query rather than plain keywords. */
+    public static final String QUERY_MARKER = "?";
+
+    /** Marks a query whose plan should be shown, when given as the first word after {@link #QUERY_MARKER}. */
+    public static final String EXPLAIN_KEYWORD = "explain";
+
+    /** Separates the alternatives of a query, each of which matches persons satisfying all of its conditions. */
+    public static final String OR_KEYWORD = "OR";
+
+    /** Marks a condition that persons must not satisfy. */
+    public static final String NOT_MARKER = "-";
+
+    private final PersonQuery query;
+    private final boolean isExplained;
+
+    /**
+     * Creates a QueryFindCommand to find the persons matching {@code query}, showing its plan if
+     * {@code isExplained}.
+     */
+    public QueryFindCommand(PersonQuery query, boolean isExplained) {
+        requireNonNull(query);
+        this.query = query;
+        this.isExplained = isExplained;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.updateFilteredPersonList(query);
+        String message = String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size())
+                + "\n\n(Use 'list' to go back)";
+        if (isExplained) {
+            message += "\n\n" + model.planPersonQuery(query).describe();
+        }
+        return new CommandResult(message);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof QueryFindCommand)) {
+            return false;
+        }
+
+        QueryFindCommand otherQueryFindCommand = (QueryFindCommand) other;
+        return query.equals(otherQueryFindCommand.query) && isExplained == otherQueryFindCommand.isExplained;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("query", query)
+                .add("isExplained", isExplained)
+                .toString();
+    }
+}
@@ -55,9 +55,7 @@ public class ShowAttendanceCommand extends Command {
             throw new CommandException(MESSAGE_EVENT_NOT_FOUND);
         }
 
-        List<Attendance> eventAttendances = model.getAddressBook().getAttendanceList().stream()
-                .filter(attendance -> attendance.getEventId().equals(eventId))
-                .collect(Collectors.toList());
+        List<Attendance> eventAttendances = model.getAttendanceForEvent(eventId);
 
         List<String> attendedNames = eventAttendances.stream()
                 .filter(Attendance::hasAttended)
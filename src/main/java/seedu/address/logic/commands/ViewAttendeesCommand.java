@@ -46,9 +46,7 @@ public class ViewAttendeesCommand extends Command {
         }
 
         // Get all attendance records for this event
-        List<Attendance> eventAttendances = model.getAddressBook().getAttendanceList().stream()
-                .filter(attendance -> attendance.getEventId().equals(eventId))
-                .collect(Collectors.toList());
+        List<Attendance> eventAttendances = model.getAttendanceForEvent(eventId);
 
         if (eventAttendances.isEmpty()) {
             return new CommandResult(MESSAGE_NO_ATTENDANCE);
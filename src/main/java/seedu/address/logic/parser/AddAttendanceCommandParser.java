@@ -7,13 +7,16 @@ import static seedu.address.logic.parser.AttendanceParserUtil.parseMemberNames;
 import static seedu.address.logic.parser.AttendanceParserUtil.propagateAttendanceParseException;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EVENT_ID;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_MEMBER;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
 import java.util.List;
+import java.util.Set;
 
 import seedu.address.logic.commands.AddAttendanceCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.event.EventId;
 import seedu.address.model.person.Name;
+import seedu.address.model.tag.Tag;
 
 /**
  * Parses input arguments and creates a new AddAttendanceCommand object.
@@ -22,22 +25,23 @@ public class AddAttendanceCommandParser implements Parser<AddAttendanceCommand>
 
     @Override
     public AddAttendanceCommand parse(String args) throws ParseException {
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_EVENT_ID, PREFIX_MEMBER);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_EVENT_ID, PREFIX_MEMBER, PREFIX_TAG);
 
-        if (!arePrefixesPresent(argMultimap, PREFIX_EVENT_ID, PREFIX_MEMBER)
+        boolean hasMembers = arePrefixesPresent(argMultimap, PREFIX_MEMBER);
+        boolean hasTags = arePrefixesPresent(argMultimap, PREFIX_TAG);
+        if (!arePrefixesPresent(argMultimap, PREFIX_EVENT_ID) || !(hasMembers || hasTags)
                 || !argMultimap.getPreamble().isEmpty()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
                     AddAttendanceCommand.MESSAGE_USAGE));
         }
 
         if (!hasExactlyOneValue(argMultimap, PREFIX_EVENT_ID)
-                || !hasExactlyOneValue(argMultimap, PREFIX_MEMBER)) {
+                || (hasMembers && !hasExactlyOneValue(argMultimap, PREFIX_MEMBER))) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
                     AddAttendanceCommand.MESSAGE_USAGE));
         }
 
         String rawEventId = argMultimap.getValue(PREFIX_EVENT_ID).get().trim();
-        String rawMembers = argMultimap.getValue(PREFIX_MEMBER).get();
 
         if (rawEventId.isEmpty()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
@@ -46,8 +50,11 @@ public class AddAttendanceCommandParser implements Parser<AddAttendanceCommand>
 
         try {
             EventId eventId = ParserUtil.parseEventId(rawEventId);
-            List<Name> memberNames = parseMemberNames(rawMembers);
-            return new AddAttendanceCommand(eventId, memberNames);
+            List<Name> memberNames = hasMembers
+                    ? parseMemberNames(argMultimap.getValue(PREFIX_MEMBER).get())
+                    : List.of();
+            Set<Tag> tags = ParserUtil.parseTags(argMultimap.getAllValues(PREFIX_TAG));
+            return new AddAttendanceCommand(eventId, memberNames, tags);
         } catch (ParseException pe) {
             throw propagateAttendanceParseException(pe, AddAttendanceCommand.MESSAGE_USAGE);
         }
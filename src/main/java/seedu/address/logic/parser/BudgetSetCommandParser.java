@@ -33,6 +33,9 @@ public class BudgetSetCommandParser implements Parser<BudgetSetCommand> {
         } catch (IllegalArgumentException e) {
             throw new ParseException("Invalid amount format: " + e.getMessage());
         }
+        if (amount.toBigDecimal().compareTo(Money.MAX_AMOUNT) > 0) {
+            throw new ParseException(Money.MESSAGE_MAX_AMOUNT);
+        }
 
         LocalDate from = ParserUtil.parseDate(argMultimap.getValue(PREFIX_FROM).get());
         LocalDate to = ParserUtil.parseDate(argMultimap.getValue(PREFIX_TO).get());
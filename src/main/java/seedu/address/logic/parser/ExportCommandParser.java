@@ -1,13 +1,20 @@
 package seedu.address.logic.parser;
 
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.Set;
+
 import seedu.address.logic.commands.ExportCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.tag.Tag;
 
 /**
  * Parses input arguments and creates a new ExportCommand object.
  */
 public class ExportCommandParser implements Parser<ExportCommand> {
 
+    private static final Prefix PREFIX_FILE_PATH = new Prefix("/to");
+
     /**
      * Parses the given {@code String} of arguments in the context of the ExportCommand
      * and returns an ExportCommand object for execution.
@@ -17,19 +24,15 @@ public class ExportCommandParser implements Parser<ExportCommand> {
      */
     @Override
     public ExportCommand parse(String args) throws ParseException {
-        String trimmedArgs = args.trim();
-        String filePath = null;
-
-        // Optional syntax: export /to <file>
-        if (trimmedArgs.contains("/to")) {
-            filePath = trimmedArgs.replace("/to", "").trim();
-            if (filePath.isEmpty()) {
-                filePath = null; // Let CsvManager handle default file creation
-            }
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(" " + args, PREFIX_TAG, PREFIX_FILE_PATH);
+
+        // Optional syntax: export [t/TAG]... /to <file>
+        String filePath = argMultimap.getValue(PREFIX_FILE_PATH).map(String::trim).orElse("");
+        if (filePath.isEmpty()) {
+            filePath = null; // Let CsvManager handle default file creation
         }
 
-        // No validation errors: CsvManager handles default cases internally
-        return new ExportCommand(filePath);
+        Set<Tag> tags = ParserUtil.parseTags(argMultimap.getAllValues(PREFIX_TAG));
+        return new ExportCommand(filePath, tags);
     }
 }
-
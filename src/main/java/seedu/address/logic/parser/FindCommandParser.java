@@ -1,33 +1,149 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DIETARY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ROLE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_STUDENT_NUMBER;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_YEAR;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
+import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.FuzzyFindCommand;
+import seedu.address.logic.commands.QueryFindCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.PersonContainsKeywordsPredicate;
+import seedu.address.model.person.PersonQuery;
+import seedu.address.model.person.QueryClause;
+import seedu.address.model.person.SearchField;
 
 /**
- * Parses input arguments and creates a new FindCommand object
+ * Parses input arguments and creates a new FindCommand object, or a FuzzyFindCommand object if the arguments start
+ * with {@link FuzzyFindCommand#FUZZY_MARKER}, or a QueryFindCommand object if they start with
+ * {@link QueryFindCommand#QUERY_MARKER}.
  */
-public class FindCommandParser implements Parser<FindCommand> {
+public class FindCommandParser implements Parser<Command> {
+
+    private static final Map<Prefix, SearchField> FIELDS_BY_PREFIX = new LinkedHashMap<>();
+
+    static {
+        FIELDS_BY_PREFIX.put(PREFIX_NAME, SearchField.NAME);
+        FIELDS_BY_PREFIX.put(PREFIX_YEAR, SearchField.YEAR);
+        FIELDS_BY_PREFIX.put(PREFIX_STUDENT_NUMBER, SearchField.STUDENT_NUMBER);
+        FIELDS_BY_PREFIX.put(PREFIX_EMAIL, SearchField.EMAIL);
+        FIELDS_BY_PREFIX.put(PREFIX_PHONE, SearchField.PHONE);
+        FIELDS_BY_PREFIX.put(PREFIX_DIETARY, SearchField.DIETARY_REQUIREMENTS);
+        FIELDS_BY_PREFIX.put(PREFIX_ROLE, SearchField.ROLE);
+        FIELDS_BY_PREFIX.put(PREFIX_TAG, SearchField.TAG);
+    }
 
     /**
      * Parses the given {@code String} of arguments in the context of the FindCommand
-     * and returns a FindCommand object for execution.
+     * and returns a FindCommand, FuzzyFindCommand or QueryFindCommand object for execution.
      * @throws ParseException if the user input does not conform the expected format
      */
-    public FindCommand parse(String args) throws ParseException {
+    public Command parse(String args) throws ParseException {
         String trimmedArgs = args.trim();
+        boolean isFuzzy = trimmedArgs.startsWith(FuzzyFindCommand.FUZZY_MARKER);
+        if (isFuzzy) {
+            trimmedArgs = trimmedArgs.substring(FuzzyFindCommand.FUZZY_MARKER.length()).trim();
+        }
+        boolean isQuery = !isFuzzy && trimmedArgs.startsWith(QueryFindCommand.QUERY_MARKER);
+        if (isQuery) {
+            trimmedArgs = trimmedArgs.substring(QueryFindCommand.QUERY_MARKER.length()).trim();
+        }
         if (trimmedArgs.isEmpty()) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
 
+        if (isFuzzy) {
+            return new FuzzyFindCommand(Arrays.asList(trimmedArgs.split("\\s+")));
+        }
+
         String[] keywords = trimmedArgs.split("\\s+");
 
+        if (isQuery) {
+            boolean isExplained = keywords[0].equals(QueryFindCommand.EXPLAIN_KEYWORD);
+            List<String> words = Arrays.asList(keywords).subList(isExplained ? 1 : 0, keywords.length);
+            return new QueryFindCommand(parseQuery(words), isExplained);
+        }
+
+        for (String keyword : keywords) {
+            if (!PersonContainsKeywordsPredicate.isValidKeyword(keyword)) {
+                throw new ParseException(PersonContainsKeywordsPredicate.MESSAGE_CONSTRAINTS);
+            }
+        }
         return new FindCommand(new PersonContainsKeywordsPredicate(Arrays.asList(keywords)));
     }
 
+    /**
+     * Parses {@code words} into a query, whose alternatives are separated by {@link QueryFindCommand#OR_KEYWORD}.
+     * Unlike in keyword searches, the word "year" is an ordinary keyword, as the year is searched with its prefix.
+     * @throws ParseException if an alternative has no conditions or a prefix has no word
+     */
+    private static PersonQuery parseQuery(List<String> words) throws ParseException {
+        List<List<QueryClause>> branches = new ArrayList<>();
+        List<QueryClause> branch = new ArrayList<>();
+        for (String word : words) {
+            if (!word.equals(QueryFindCommand.OR_KEYWORD)) {
+                branch.add(parseClause(word));
+                continue;
+            }
+            if (branch.isEmpty()) {
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+            }
+            branches.add(branch);
+            branch = new ArrayList<>();
+        }
+        if (branch.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        }
+        branches.add(branch);
+        return new PersonQuery(branches);
+    }
+
+    /**
+     * Parses {@code word} into a condition, limited to the field of its prefix, if any.
+     * @throws ParseException if the prefix has no word, or the word is not a single word
+     */
+    private static QueryClause parseClause(String word) throws ParseException {
+        boolean isNegated = isNegated(word);
+        String condition = isNegated ? word.substring(QueryFindCommand.NOT_MARKER.length()) : word;
+        Prefix prefix = getPrefix(condition);
+        String value = (prefix == null) ? condition : condition.substring(prefix.getPrefix().length());
+        if (value.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        }
+        if (!QueryClause.isValidWord(value)) {
+            throw new ParseException(QueryClause.MESSAGE_CONSTRAINTS);
+        }
+        return new QueryClause(prefix == null ? SearchField.ANY : FIELDS_BY_PREFIX.get(prefix), value, isNegated);
+    }
+
+    private static boolean isNegated(String word) {
+        return word.startsWith(QueryFindCommand.NOT_MARKER) && word.length() > QueryFindCommand.NOT_MARKER.length();
+    }
+
+    /**
+     * Returns the prefix of a field that {@code condition} starts with, or null if none.
+     */
+    private static Prefix getPrefix(String condition) {
+        for (Prefix prefix : FIELDS_BY_PREFIX.keySet()) {
+            if (condition.startsWith(prefix.getPrefix())) {
+                return prefix;
+            }
+        }
+        return null;
+    }
+
 }
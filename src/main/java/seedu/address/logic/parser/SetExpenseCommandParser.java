@@ -59,6 +59,9 @@ public class SetExpenseCommandParser implements Parser<SetExpenseCommand> {
             if (bd.compareTo(BigDecimal.ZERO) < 0) {
                 throw new ParseException(MESSAGE_NEGATIVE_AMOUNT);
             }
+            if (bd.compareTo(Money.MAX_AMOUNT) > 0) {
+                throw new ParseException(Money.MESSAGE_MAX_AMOUNT);
+            }
         } catch (NumberFormatException e) {
             throw new ParseException(MESSAGE_INVALID_AMOUNT_FORMAT);
         }
@@ -2,19 +2,28 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.attendance.Attendance;
 import seedu.address.model.attendance.UniqueAttendanceList;
 import seedu.address.model.budget.Budget;
+import seedu.address.model.common.Money;
 import seedu.address.model.event.Event;
+import seedu.address.model.event.EventId;
+import seedu.address.model.event.EventsInRange;
 import seedu.address.model.event.UniqueEventList;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonContainsKeywordsPredicate;
+import seedu.address.model.person.PersonQuery;
+import seedu.address.model.person.QueryPlan;
 import seedu.address.model.person.StudentNumber;
 import seedu.address.model.person.UniquePersonList;
 import seedu.address.model.task.Task;
@@ -26,11 +35,18 @@ import seedu.address.model.task.UniqueTaskList;
  */
 public class AddressBook implements ReadOnlyAddressBook {
 
+    // Rough retained sizes used to estimate the memory held by recorded edits
+    private static final long ESTIMATED_EDIT_BYTES = 32;
+    private static final long ESTIMATED_ELEMENT_BYTES = 256;
+
     private final UniquePersonList persons;
     private final UniqueEventList events;
     private final UniqueAttendanceList attendances;
     private final UniqueTaskList tasks;
     private Budget budget; // nullable
+    private long budgetModificationCount;
+    private Consumer<ReversibleEdit> editRecorder; // null if changes are not being recorded
+    private Consumer<ReversibleEdit> changeListener; // null if no one is listening for changes
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -88,11 +104,87 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
 
+        if (newData instanceof AddressBook) {
+            // The lists of another AddressBook are known to be unique, so they are copied
+            // along with their identity indexes instead of being re-checked.
+            AddressBook otherAddressBook = (AddressBook) newData;
+            persons.setPersons(otherAddressBook.persons);
+            events.setEvents(otherAddressBook.events);
+            attendances.setAttendances(otherAddressBook.attendances);
+            tasks.setTasks(otherAddressBook.tasks);
+            changeBudget(otherAddressBook.budget);
+            return;
+        }
+
+        if (newData instanceof AddressBookSnapshot) {
+            // Sections that have not changed since the snapshot was taken are left untouched.
+            AddressBookSnapshot snapshot = (AddressBookSnapshot) newData;
+            persons.restore(snapshot.getPersons());
+            events.restore(snapshot.getEvents());
+            attendances.restore(snapshot.getAttendances());
+            tasks.restore(snapshot.getTasks());
+            changeBudget(snapshot.getBudget().orElse(null));
+            return;
+        }
+
         setPersons(newData.getPersonList());
         setEvents(newData.getEventList());
         setAttendances(newData.getAttendanceList());
         setTasks(newData.getTaskList());
-        this.budget = newData.getBudget().orElse(null);
+        changeBudget(newData.getBudget().orElse(null));
+    }
+
+    /**
+     * Returns an immutable snapshot of the current state of this {@code AddressBook}.
+     * Sections that have not changed since the previous snapshot are shared with it instead of being copied.
+     */
+    @Override
+    public ReadOnlyAddressBook snapshot() {
+        return new AddressBookSnapshot(persons.freeze(), events.freeze(), attendances.freeze(), tasks.freeze(),
+                budget, getSectionVersions(), this);
+    }
+
+    /**
+     * Reports every subsequent change to this {@code AddressBook} to {@code editRecorder} as a
+     * {@code ReversibleEdit}, or stops reporting if it is null.
+     */
+    protected void setEditRecorder(Consumer<ReversibleEdit> editRecorder) {
+        this.editRecorder = editRecorder;
+        updateSectionRecorders();
+    }
+
+    /**
+     * Reports every subsequent change to this {@code AddressBook} to {@code changeListener} as a
+     * {@code ReversibleEdit}, or stops reporting if it is null.
+     * Unlike the edit recorder, the change listener is also told about the changes made by undo and redo, so the
+     * edits it receives always take the address book from its previous state to its current one.
+     */
+    public void setChangeListener(Consumer<ReversibleEdit> changeListener) {
+        this.changeListener = changeListener;
+        updateSectionRecorders();
+    }
+
+    private void updateSectionRecorders() {
+        if (editRecorder == null && changeListener == null) {
+            persons.setEditRecorder(null);
+            events.setEditRecorder(null);
+            attendances.setEditRecorder(null);
+            tasks.setEditRecorder(null);
+            return;
+        }
+        persons.setEditRecorder(edit -> reportEdit(new PersonsEdit(edit)));
+        events.setEditRecorder(edit -> reportEdit(new EventsEdit(edit)));
+        attendances.setEditRecorder(edit -> reportEdit(new AttendancesEdit(edit)));
+        tasks.setEditRecorder(edit -> reportEdit(new TasksEdit(edit)));
+    }
+
+    private void reportEdit(ReversibleEdit edit) {
+        if (editRecorder != null) {
+            editRecorder.accept(edit);
+        }
+        if (changeListener != null) {
+            changeListener.accept(edit);
+        }
     }
 
     //// person-level operations
@@ -110,11 +202,67 @@ public class AddressBook implements ReadOnlyAddressBook {
      * Comparison is case-insensitive to prevent duplicates like 'a1234567a' and 'A1234567A'.
      */
     public boolean hasStudentNumber(StudentNumber studentNumber) {
+        return findByStudentNumber(studentNumber).isPresent();
+    }
+
+    /**
+     * Returns the member whose student number matches {@code studentNumber}, ignoring case.
+     */
+    public Optional<Person> findByStudentNumber(StudentNumber studentNumber) {
         requireNonNull(studentNumber);
-        String studentNumberLower = studentNumber.value.toLowerCase();
-        return persons.asUnmodifiableObservableList().stream()
-            .anyMatch(existingPerson -> existingPerson.getStudentNumber().value
-                    .toLowerCase().equals(studentNumberLower));
+        return persons.findByStudentNumber(studentNumber);
+    }
+
+    /**
+     * Returns the members named {@code name}, in list order.
+     */
+    public List<Person> findPersonsByName(Name name) {
+        requireNonNull(name);
+        return persons.findByName(name);
+    }
+
+    /**
+     * Returns a predicate equivalent to {@code predicate} that tests the members currently in the address book by
+     * looking them up in the result found through an index of the words in their fields, which is cheaper than
+     * comparing their fields, although each member is still tested.
+     */
+    public Predicate<Person> createIndexedPersonPredicate(PersonContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        return persons.createIndexedPredicate(predicate);
+    }
+
+    /**
+     * Returns a predicate equivalent to {@code query} that tests the members currently in the address book by
+     * looking them up in the result found through the indexes of their details, although each member is still tested.
+     */
+    public Predicate<Person> createIndexedPersonPredicate(PersonQuery query) {
+        requireNonNull(query);
+        return persons.createIndexedPredicate(query);
+    }
+
+    /**
+     * Returns the members matching {@code query}, ordered by name, then by student number.
+     */
+    public List<Person> findPersons(PersonQuery query) {
+        requireNonNull(query);
+        return persons.find(query);
+    }
+
+    /**
+     * Returns the plan by which {@code query} is answered for the members currently in the address book.
+     */
+    public QueryPlan planPersonQuery(PersonQuery query) {
+        requireNonNull(query);
+        return persons.planQuery(query);
+    }
+
+    /**
+     * Returns up to {@code limit} members with a word in their details starting with each of {@code words}, allowing
+     * for a few typos in each, with the closest matches first.
+     */
+    public List<Person> findPersonsApproximately(List<String> words, int limit) {
+        requireNonNull(words);
+        return persons.findApproximately(words, limit);
     }
 
     /**
@@ -184,12 +332,23 @@ public class AddressBook implements ReadOnlyAddressBook {
     /**
      * Returns the event with the specified event ID, or null if not found.
      */
-    public Event getEventByEventId(seedu.address.model.event.EventId eventId) {
+    public Event getEventByEventId(EventId eventId) {
         requireNonNull(eventId);
-        return events.asUnmodifiableObservableList().stream()
-                .filter(event -> event.getEventId().equals(eventId))
-                .findFirst()
-                .orElse(null);
+        return events.getEvent(eventId);
+    }
+
+    /**
+     * Returns the events dated from {@code start} to {@code end} inclusive, together with their total expense.
+     */
+    public EventsInRange getEventsWithin(LocalDate start, LocalDate end) {
+        return events.getEventsWithin(start, end);
+    }
+
+    /**
+     * Returns the total expense of the events dated from {@code start} to {@code end} inclusive.
+     */
+    public Money getTotalExpenseWithin(LocalDate start, LocalDate end) {
+        return events.getTotalExpenseWithin(start, end);
     }
 
     //// attendance-level operations
@@ -216,6 +375,20 @@ public class AddressBook implements ReadOnlyAddressBook {
         attendances.removeAttendancesByMember(memberName);
     }
 
+    /**
+     * Returns the attendance records of the event identified by {@code eventId}.
+     */
+    public List<Attendance> getAttendanceForEvent(EventId eventId) {
+        return attendances.getAttendancesForEvent(eventId);
+    }
+
+    /**
+     * Returns the attendance records of the member named {@code memberName}.
+     */
+    public List<Attendance> getAttendanceForMember(Name memberName) {
+        return attendances.getAttendancesForMember(memberName);
+    }
+
     /**
      * Returns true if an attendance record with the same identity as {@code attendance} exists in the address book.
      */
@@ -325,11 +498,77 @@ public class AddressBook implements ReadOnlyAddressBook {
     }
 
     public void setBudget(Budget budget) {
-        this.budget = budget;
+        changeBudget(budget);
     }
 
     public void clearBudget() {
-        this.budget = null;
+        changeBudget(null);
+    }
+
+    private void changeBudget(Budget newBudget) {
+        Budget previousBudget = budget;
+        budget = newBudget;
+        if (!Objects.equals(previousBudget, newBudget)) {
+            budgetModificationCount++;
+            reportEdit(new BudgetEdit(previousBudget, newBudget));
+        }
+    }
+
+    /**
+     * Changes the element at {@code index} of {@code section} from {@code before} to {@code after}, as described to
+     * an {@code EditVisitor}. Both must be elements of the type held by the section, or null.
+     *
+     * @throws IllegalArgumentException if {@code section} is not a list of elements.
+     * @throws RuntimeException if the section is not in the state that the change was made from.
+     */
+    public void applyElementChange(AddressBookSection section, int index, Object before, Object after) {
+        requireNonNull(section);
+        getList(section).applyElementChange(index, before, after);
+    }
+
+    /**
+     * Replaces the contents of {@code section} with {@code elements}, as described to an {@code EditVisitor}.
+     * They must be elements of the type held by the section.
+     *
+     * @throws IllegalArgumentException if {@code section} is not a list of elements.
+     */
+    public void applySectionReset(AddressBookSection section, List<?> elements) {
+        requireNonNull(section);
+        requireNonNull(elements);
+        getList(section).applyReset(elements);
+    }
+
+    private UniqueList<?> getList(AddressBookSection section) {
+        switch (section) {
+        case PERSONS:
+            return persons;
+        case EVENTS:
+            return events;
+        case TASKS:
+            return tasks;
+        case ATTENDANCE:
+            return attendances;
+        default:
+            throw new IllegalArgumentException("Not a list of elements: " + section);
+        }
+    }
+
+    @Override
+    public long getSectionVersion(AddressBookSection section) {
+        switch (section) {
+        case PERSONS:
+            return persons.getModificationCount();
+        case EVENTS:
+            return events.getModificationCount();
+        case TASKS:
+            return tasks.getModificationCount();
+        case ATTENDANCE:
+            return attendances.getModificationCount();
+        case BUDGET:
+            return budgetModificationCount;
+        default:
+            throw new AssertionError("Unknown section: " + section);
+        }
     }
 
     @Override
@@ -354,4 +593,188 @@ public class AddressBook implements ReadOnlyAddressBook {
     public int hashCode() {
         return Objects.hash(persons, events, attendances, tasks, budget);
     }
+
+    /**
+     * A change to one of the lists of an address book.
+     */
+    private abstract static class SectionEdit<T> implements ReversibleEdit {
+        private static final long serialVersionUID = 1L;
+
+        private final ListEdit<T> edit;
+
+        private SectionEdit(ListEdit<T> edit) {
+            this.edit = edit;
+        }
+
+        abstract UniqueList<T> getSection(AddressBook addressBook);
+
+        abstract AddressBookSection getAddressBookSection();
+
+        @Override
+        public void undo(AddressBook addressBook) {
+            edit.undo(getSection(addressBook));
+        }
+
+        @Override
+        public void redo(AddressBook addressBook) {
+            edit.redo(getSection(addressBook));
+        }
+
+        @Override
+        public long estimateBytes() {
+            return ESTIMATED_EDIT_BYTES + edit.getElementCount() * ESTIMATED_ELEMENT_BYTES;
+        }
+
+        @Override
+        public void accept(EditVisitor visitor) {
+            edit.accept(getAddressBookSection(), visitor);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // handles nulls, and edits of different sections
+            if (other == null || other.getClass() != getClass()) {
+                return false;
+            }
+
+            SectionEdit<?> otherEdit = (SectionEdit<?>) other;
+            return edit.equals(otherEdit.edit);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(getClass(), edit);
+        }
+    }
+
+    private static class PersonsEdit extends SectionEdit<Person> {
+        private static final long serialVersionUID = 1L;
+
+        private PersonsEdit(ListEdit<Person> edit) {
+            super(edit);
+        }
+
+        @Override
+        UniqueList<Person> getSection(AddressBook addressBook) {
+            return addressBook.persons;
+        }
+
+        @Override
+        AddressBookSection getAddressBookSection() {
+            return AddressBookSection.PERSONS;
+        }
+    }
+
+    private static class EventsEdit extends SectionEdit<Event> {
+        private static final long serialVersionUID = 1L;
+
+        private EventsEdit(ListEdit<Event> edit) {
+            super(edit);
+        }
+
+        @Override
+        UniqueList<Event> getSection(AddressBook addressBook) {
+            return addressBook.events;
+        }
+
+        @Override
+        AddressBookSection getAddressBookSection() {
+            return AddressBookSection.EVENTS;
+        }
+    }
+
+    private static class AttendancesEdit extends SectionEdit<Attendance> {
+        private static final long serialVersionUID = 1L;
+
+        private AttendancesEdit(ListEdit<Attendance> edit) {
+            super(edit);
+        }
+
+        @Override
+        UniqueList<Attendance> getSection(AddressBook addressBook) {
+            return addressBook.attendances;
+        }
+
+        @Override
+        AddressBookSection getAddressBookSection() {
+            return AddressBookSection.ATTENDANCE;
+        }
+    }
+
+    private static class TasksEdit extends SectionEdit<Task> {
+        private static final long serialVersionUID = 1L;
+
+        private TasksEdit(ListEdit<Task> edit) {
+            super(edit);
+        }
+
+        @Override
+        UniqueList<Task> getSection(AddressBook addressBook) {
+            return addressBook.tasks;
+        }
+
+        @Override
+        AddressBookSection getAddressBookSection() {
+            return AddressBookSection.TASKS;
+        }
+    }
+
+    /**
+     * A change of the budget.
+     */
+    private static class BudgetEdit implements ReversibleEdit {
+        private static final long serialVersionUID = 1L;
+
+        private final Budget before; // nullable
+        private final Budget after; // nullable
+
+        private BudgetEdit(Budget before, Budget after) {
+            this.before = before;
+            this.after = after;
+        }
+
+        @Override
+        public void undo(AddressBook addressBook) {
+            addressBook.changeBudget(before);
+        }
+
+        @Override
+        public void redo(AddressBook addressBook) {
+            addressBook.changeBudget(after);
+        }
+
+        @Override
+        public long estimateBytes() {
+            return ESTIMATED_EDIT_BYTES + 2 * ESTIMATED_ELEMENT_BYTES;
+        }
+
+        @Override
+        public void accept(EditVisitor visitor) {
+            visitor.visitBudgetChange(after);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof BudgetEdit)) {
+                return false;
+            }
+
+            BudgetEdit otherEdit = (BudgetEdit) other;
+            return Objects.equals(before, otherEdit.before) && Objects.equals(after, otherEdit.after);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(before, after);
+        }
+    }
 }
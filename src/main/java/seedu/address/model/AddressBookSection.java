@@ -0,0 +1,12 @@
+package seedu.address.model;
+
+/**
+ * The sections of an address book that can be modified, and saved, independently of each other.
+ */
+public enum AddressBookSection {
+    PERSONS,
+    EVENTS,
+    TASKS,
+    ATTENDANCE,
+    BUDGET
+}
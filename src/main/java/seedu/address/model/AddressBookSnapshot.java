@@ -0,0 +1,141 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.attendance.Attendance;
+import seedu.address.model.budget.Budget;
+import seedu.address.model.event.Event;
+import seedu.address.model.person.Person;
+import seedu.address.model.task.Task;
+
+/**
+ * An immutable state of an {@code AddressBook}, as captured by {@link AddressBook#snapshot()}.
+ * Each section is an immutable list that is shared with the address book it was taken from, and with any other
+ * snapshot taken while that section was unchanged, so a snapshot only costs memory for the sections that changed.
+ */
+final class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final List<Person> persons;
+    private final List<Event> events;
+    private final List<Attendance> attendances;
+    private final List<Task> tasks;
+    private final Budget budget; // nullable
+    private final Map<AddressBookSection, Long> sectionVersions;
+    private final Object versionOwner;
+
+    /**
+     * Every list must be an immutable snapshot returned by {@link UniqueList#freeze()}, and
+     * {@code sectionVersions} must hold the modification versions of the sections of {@code versionOwner} when they
+     * were frozen.
+     */
+    AddressBookSnapshot(List<Person> persons, List<Event> events, List<Attendance> attendances, List<Task> tasks,
+            Budget budget, Map<AddressBookSection, Long> sectionVersions, Object versionOwner) {
+        requireAllNonNull(persons, events, attendances, tasks, sectionVersions, versionOwner);
+        this.persons = persons;
+        this.events = events;
+        this.attendances = attendances;
+        this.tasks = tasks;
+        this.budget = budget;
+        this.sectionVersions = new EnumMap<>(sectionVersions);
+        this.versionOwner = versionOwner;
+    }
+
+    List<Person> getPersons() {
+        return persons;
+    }
+
+    List<Event> getEvents() {
+        return events;
+    }
+
+    List<Attendance> getAttendances() {
+        return attendances;
+    }
+
+    List<Task> getTasks() {
+        return tasks;
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return FXCollections.unmodifiableObservableList(FXCollections.observableList(persons));
+    }
+
+    @Override
+    public ObservableList<Event> getEventList() {
+        return FXCollections.unmodifiableObservableList(FXCollections.observableList(events));
+    }
+
+    @Override
+    public ObservableList<Attendance> getAttendanceList() {
+        return FXCollections.unmodifiableObservableList(FXCollections.observableList(attendances));
+    }
+
+    @Override
+    public ObservableList<Task> getTaskList() {
+        return FXCollections.unmodifiableObservableList(FXCollections.observableList(tasks));
+    }
+
+    @Override
+    public Optional<Budget> getBudget() {
+        return Optional.ofNullable(budget);
+    }
+
+    @Override
+    public long getSectionVersion(AddressBookSection section) {
+        return sectionVersions.getOrDefault(section, 0L);
+    }
+
+    @Override
+    public Object getVersionOwner() {
+        return versionOwner;
+    }
+
+    @Override
+    public ReadOnlyAddressBook snapshot() {
+        return this;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AddressBookSnapshot)) {
+            return false;
+        }
+
+        AddressBookSnapshot otherSnapshot = (AddressBookSnapshot) other;
+        return persons.equals(otherSnapshot.persons)
+                && events.equals(otherSnapshot.events)
+                && attendances.equals(otherSnapshot.attendances)
+                && tasks.equals(otherSnapshot.tasks)
+                && Objects.equals(budget, otherSnapshot.budget);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(persons, events, attendances, tasks, budget);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("persons", persons.size())
+                .add("events", events.size())
+                .add("attendances", attendances.size())
+                .add("tasks", tasks.size())
+                .toString();
+    }
+}
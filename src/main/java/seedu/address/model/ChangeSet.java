@@ -0,0 +1,81 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The edits made to an address book by one undoable command, in the order they were made.
+ */
+final class ChangeSet implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final List<ReversibleEdit> edits = new ArrayList<>();
+    private long estimatedBytes;
+
+    /**
+     * Appends {@code edit} to this change set.
+     */
+    void add(ReversibleEdit edit) {
+        requireNonNull(edit);
+        edits.add(edit);
+        estimatedBytes += edit.estimateBytes();
+    }
+
+    /**
+     * Appends the edits of {@code other} to this change set.
+     */
+    void addAll(ChangeSet other) {
+        requireNonNull(other);
+        edits.addAll(other.edits);
+        estimatedBytes += other.estimatedBytes;
+    }
+
+    /**
+     * Reverts every edit of this change set on {@code addressBook}, starting from the last.
+     */
+    void undo(AddressBook addressBook) {
+        for (int i = edits.size() - 1; i >= 0; i--) {
+            edits.get(i).undo(addressBook);
+        }
+    }
+
+    /**
+     * Makes every edit of this change set again on {@code addressBook}, starting from the first.
+     */
+    void redo(AddressBook addressBook) {
+        for (ReversibleEdit edit : edits) {
+            edit.redo(addressBook);
+        }
+    }
+
+    /**
+     * Returns a rough estimate of the heap memory held by the edits of this change set, in bytes.
+     */
+    long getEstimatedBytes() {
+        return estimatedBytes;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ChangeSet)) {
+            return false;
+        }
+
+        ChangeSet otherChangeSet = (ChangeSet) other;
+        return edits.equals(otherChangeSet.edits);
+    }
+
+    @Override
+    public int hashCode() {
+        return edits.hashCode();
+    }
+}
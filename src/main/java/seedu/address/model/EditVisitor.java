@@ -0,0 +1,28 @@
+package seedu.address.model;
+
+import java.util.List;
+
+import seedu.address.model.budget.Budget;
+
+/**
+ * Receives what a {@code ReversibleEdit} changes, so that the edit can be recorded in a form that does not depend on
+ * the classes of the model. Only what is needed to make the edit again is passed on.
+ */
+public interface EditVisitor {
+
+    /**
+     * Visits the change of the element at {@code index} of {@code section} from {@code before} to {@code after}.
+     * {@code before} is null if the element was inserted, and {@code after} is null if it was removed.
+     */
+    void visitElementChange(AddressBookSection section, int index, Object before, Object after);
+
+    /**
+     * Visits the replacement of the whole contents of {@code section} with {@code elements}.
+     */
+    void visitSectionReset(AddressBookSection section, List<?> elements);
+
+    /**
+     * Visits the change of the budget to {@code budget}, which is null if the budget was cleared.
+     */
+    void visitBudgetChange(Budget budget);
+}
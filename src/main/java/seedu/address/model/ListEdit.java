@@ -0,0 +1,34 @@
+package seedu.address.model;
+
+import java.io.Serializable;
+
+/**
+ * A single change made to a {@code UniqueList}, recorded without a reference to the list itself so that it can be
+ * serialized and applied later to the same list, or to an equal one.
+ *
+ * @param <T> The type of elements in the list
+ */
+abstract class ListEdit<T> implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Reverts this edit on {@code list}, which must be in the state it was in right after this edit was made.
+     */
+    abstract void undo(UniqueList<T> list);
+
+    /**
+     * Makes this edit again on {@code list}, which must be in the state it was in right before this edit was made.
+     */
+    abstract void redo(UniqueList<T> list);
+
+    /**
+     * Returns the number of element references held by this edit.
+     */
+    abstract int getElementCount();
+
+    /**
+     * Describes this edit to {@code visitor} as an edit of {@code section}.
+     */
+    abstract void accept(AddressBookSection section, EditVisitor visitor);
+}
@@ -4,6 +4,7 @@ import java.nio.file.Path;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
@@ -13,8 +14,11 @@ import seedu.address.model.budget.Budget;
 import seedu.address.model.common.Money;
 import seedu.address.model.event.Event;
 import seedu.address.model.event.EventId;
+import seedu.address.model.event.EventsInRange;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonQuery;
+import seedu.address.model.person.QueryPlan;
 import seedu.address.model.person.StudentNumber;
 import seedu.address.model.task.Task;
 
@@ -65,6 +69,12 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Reports every subsequent change to the address book to {@code changeListener}, including the changes made by
+     * undo and redo, or stops reporting if it is null.
+     */
+    void setAddressBookChangeListener(Consumer<ReversibleEdit> changeListener);
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
@@ -113,6 +123,40 @@ public interface Model {
      */
     boolean hasStudentNumber(StudentNumber studentNumber);
 
+    /**
+     * Returns the member whose student number matches {@code studentNumber}, ignoring case,
+     * or an empty {@code Optional} if there is no such member.
+     *
+     * @throws NullPointerException if {@code studentNumber} is null.
+     */
+    Optional<Person> findByStudentNumber(StudentNumber studentNumber);
+
+    /**
+     * Returns the members named {@code name}, or an empty list if there are none.
+     * Names are not unique, so more than one member may be returned.
+     */
+    List<Person> findPersonsByName(Name name);
+
+    /**
+     * Returns up to {@code limit} members with a word in their details starting with each of {@code words}, allowing
+     * for a few typos in each, with the closest matches first.
+     */
+    List<Person> findPersonsApproximately(List<String> words, int limit);
+
+    /**
+     * Returns the members matching {@code query}, ordered by name, then by student number.
+     * Queries of tags alone, such as those of {@link PersonQuery#withAllTags}, are answered by combining
+     * bitmaps of the members with each tag.
+     * @throws NullPointerException if {@code query} is null.
+     */
+    List<Person> findPersons(PersonQuery query);
+
+    /**
+     * Returns the plan by which {@code query} is answered when the filtered person list is updated to it.
+     * @throws NullPointerException if {@code query} is null.
+     */
+    QueryPlan planPersonQuery(PersonQuery query);
+
 
     /**
      * Adds the given event.
@@ -190,6 +234,16 @@ public interface Model {
      */
     void renameAttendanceForMember(Name oldName, Name newName);
 
+    /**
+     * Returns the attendance records of the event identified by {@code eventId}, in the order they were recorded.
+     */
+    List<Attendance> getAttendanceForEvent(EventId eventId);
+
+    /**
+     * Returns the attendance records of the member named {@code memberName}, in the order they were recorded.
+     */
+    List<Attendance> getAttendanceForMember(Name memberName);
+
     /**
      * Returns an unmodifiable view of the filtered event list
      */
@@ -209,6 +263,13 @@ public interface Model {
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
 
+    /**
+     * Updates the filtered person list to show only {@code persons}, in the given order.
+     * The order is kept until the filter is next updated.
+     * @throws NullPointerException if {@code persons} is null.
+     */
+    void showRankedPersons(List<Person> persons);
+
     /**
      * Updates the filter of the filtered event list to filter by the given {@code predicate}.
      * @throws NullPointerException if {@code predicate} is null.
@@ -250,6 +311,11 @@ public interface Model {
      */
     boolean canRedo();
 
+    /**
+     * Returns how many states can be undone and redone, and the space their history takes up.
+     */
+    UndoHistoryUsage getUndoHistoryUsage();
+
     /**
      * Removes the last committed state from the history.
      * This is used when a command fails after commit.
@@ -273,4 +339,12 @@ public interface Model {
     default List<Event> getEventsWithin(LocalDate start, LocalDate end) {
         return java.util.Collections.emptyList();
     }
+
+    /**
+     * Returns the events dated from {@code start} to {@code end} inclusive, ordered by date, together with their
+     * total expense, in a single pass.
+     */
+    default EventsInRange getEventsInRange(LocalDate start, LocalDate end) {
+        return EventsInRange.empty();
+    }
 }
@@ -5,14 +5,18 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
 import java.time.LocalDate;
-import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.attendance.Attendance;
@@ -20,8 +24,12 @@ import seedu.address.model.budget.Budget;
 import seedu.address.model.common.Money;
 import seedu.address.model.event.Event;
 import seedu.address.model.event.EventId;
+import seedu.address.model.event.EventsInRange;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonContainsKeywordsPredicate;
+import seedu.address.model.person.PersonQuery;
+import seedu.address.model.person.QueryPlan;
 import seedu.address.model.person.StudentNumber;
 import seedu.address.model.task.Task;
 
@@ -34,6 +42,7 @@ public class ModelManager implements Model {
     private final VersionedAddressBook addressBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
+    private final SortedList<Person> rankedPersons;
     private final FilteredList<Event> filteredEvents;
     private final FilteredList<Task> filteredTasks;
     private Budget budget; // nullable
@@ -48,7 +57,9 @@ public class ModelManager implements Model {
 
         this.addressBook = new VersionedAddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
+        this.addressBook.setUndoHistorySettings(this.userPrefs.getUndoHistorySettings());
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
+        rankedPersons = new SortedList<>(filteredPersons);
         filteredEvents = new FilteredList<>(this.addressBook.getEventList());
         filteredTasks = new FilteredList<>(this.addressBook.getTaskList());
         this.budget = addressBook.getBudget().orElse(null);
@@ -64,6 +75,7 @@ public class ModelManager implements Model {
     public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
         requireNonNull(userPrefs);
         this.userPrefs.resetData(userPrefs);
+        addressBook.setUndoHistorySettings(this.userPrefs.getUndoHistorySettings());
     }
 
     @Override
@@ -106,6 +118,11 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public void setAddressBookChangeListener(Consumer<ReversibleEdit> changeListener) {
+        addressBook.setChangeListener(changeListener);
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
@@ -118,6 +135,36 @@ public class ModelManager implements Model {
         return addressBook.hasStudentNumber(studentNumber);
     }
 
+    @Override
+    public Optional<Person> findByStudentNumber(StudentNumber studentNumber) {
+        requireNonNull(studentNumber);
+        return addressBook.findByStudentNumber(studentNumber);
+    }
+
+    @Override
+    public List<Person> findPersonsByName(Name name) {
+        requireNonNull(name);
+        return addressBook.findPersonsByName(name);
+    }
+
+    @Override
+    public List<Person> findPersonsApproximately(List<String> words, int limit) {
+        requireNonNull(words);
+        return addressBook.findPersonsApproximately(words, limit);
+    }
+
+    @Override
+    public List<Person> findPersons(PersonQuery query) {
+        requireNonNull(query);
+        return addressBook.findPersons(query);
+    }
+
+    @Override
+    public QueryPlan planPersonQuery(PersonQuery query) {
+        requireNonNull(query);
+        return addressBook.planPersonQuery(query);
+    }
+
     @Override
     public void deletePerson(Person target) {
         logger.info("Deleting person: " + target.getName());
@@ -241,23 +288,60 @@ public class ModelManager implements Model {
         addressBook.renameAttendanceForMember(oldName, newName);
     }
 
+    @Override
+    public List<Attendance> getAttendanceForEvent(EventId eventId) {
+        requireNonNull(eventId);
+        return addressBook.getAttendanceForEvent(eventId);
+    }
+
+    @Override
+    public List<Attendance> getAttendanceForMember(Name memberName) {
+        requireNonNull(memberName);
+        return addressBook.getAttendanceForMember(memberName);
+    }
+
     //=========== Filtered Person List Accessors =============================================================
 
     /**
      * Returns an unmodifiable view of the list of {@code Person} backed by the internal list of
-     * {@code versionedAddressBook}
+     * {@code versionedAddressBook}, in the order last set by {@link #showRankedPersons(List)}, if any
      */
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return filteredPersons;
+        return rankedPersons;
     }
 
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
+        rankedPersons.setComparator(null);
+        if (predicate instanceof PersonContainsKeywordsPredicate) {
+            // Keyword searches are answered from the word index, so that the filtered list need only look up
+            // whether each member was found, rather than compare their fields. The list still tests every member,
+            // so this is a constant-factor speedup rather than a search independent of the roster size
+            filteredPersons.setPredicate(
+                    addressBook.createIndexedPersonPredicate((PersonContainsKeywordsPredicate) predicate));
+            return;
+        }
+        if (predicate instanceof PersonQuery) {
+            filteredPersons.setPredicate(addressBook.createIndexedPersonPredicate((PersonQuery) predicate));
+            return;
+        }
         filteredPersons.setPredicate(predicate);
     }
 
+    @Override
+    public void showRankedPersons(List<Person> persons) {
+        requireNonNull(persons);
+        // Persons are immutable, so ranks are kept by identity: a person edited later is no longer shown
+        Map<Person, Integer> ranks = new IdentityHashMap<>();
+        for (int i = 0; i < persons.size(); i++) {
+            ranks.put(persons.get(i), i);
+        }
+        filteredPersons.setPredicate(ranks::containsKey);
+        rankedPersons.setComparator(Comparator.comparingInt(ranks::get));
+    }
+
     //=========== Filtered Event List Accessors =============================================================
 
     /**
@@ -349,6 +433,11 @@ public class ModelManager implements Model {
         return addressBook.canRedo();
     }
 
+    @Override
+    public UndoHistoryUsage getUndoHistoryUsage() {
+        return addressBook.getUndoHistoryUsage();
+    }
+
     @Override
     public void rollbackLastCommit() {
         logger.info("Rolling back last commit due to command failure");
@@ -378,26 +467,19 @@ public class ModelManager implements Model {
 
     @Override
     public Money computeTotalExpensesWithin(LocalDate start, LocalDate end) {
-        Money total = Money.zero();
-        for (Event e : addressBook.getEventList()) {
-            LocalDate d = e.getDate();
-            if ((d.isEqual(start) || d.isAfter(start)) && (d.isEqual(end) || d.isBefore(end))) {
-                total = total.plus(e.getExpense());
-            }
-        }
-        return total;
+        requireAllNonNull(start, end);
+        return addressBook.getTotalExpenseWithin(start, end);
     }
 
     @Override
     public List<Event> getEventsWithin(LocalDate start, LocalDate end) {
-        List<Event> result = new ArrayList<>();
-        for (Event e : addressBook.getEventList()) {
-            LocalDate d = e.getDate();
-            if ((d.isEqual(start) || d.isAfter(start)) && (d.isEqual(end) || d.isBefore(end))) {
-                result.add(e);
-            }
-        }
-        return result;
+        return getEventsInRange(start, end).getEvents();
+    }
+
+    @Override
+    public EventsInRange getEventsInRange(LocalDate start, LocalDate end) {
+        requireAllNonNull(start, end);
+        return addressBook.getEventsWithin(start, end);
     }
 
     @Override
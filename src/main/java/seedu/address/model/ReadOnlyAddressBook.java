@@ -1,6 +1,10 @@
 package seedu.address.model;
 
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.ObservableList;
 import seedu.address.model.attendance.Attendance;
@@ -45,4 +49,64 @@ public interface ReadOnlyAddressBook {
         return Optional.empty();
     }
 
+    /**
+     * Returns an immutable copy of the current state of this address book, which can be read from any thread.
+     */
+    default ReadOnlyAddressBook snapshot() {
+        return new AddressBook(this).snapshot();
+    }
+
+    /**
+     * Returns the address book whose modification versions this address book reports, such as the address book a
+     * snapshot was taken from. Versions are only comparable between address books with the same version owner.
+     */
+    default Object getVersionOwner() {
+        return this;
+    }
+
+    /**
+     * Returns the modification version of {@code section}, which increases whenever that section is modified.
+     * Versions of different address books are not comparable.
+     */
+    default long getSectionVersion(AddressBookSection section) {
+        return 0;
+    }
+
+    /**
+     * Returns the modification version of this address book, which increases whenever any section is modified.
+     */
+    default long getModificationVersion() {
+        long version = 0;
+        for (AddressBookSection section : AddressBookSection.values()) {
+            version += getSectionVersion(section);
+        }
+        return version;
+    }
+
+    /**
+     * Returns the current modification version of every section.
+     */
+    default Map<AddressBookSection, Long> getSectionVersions() {
+        Map<AddressBookSection, Long> sectionVersions = new EnumMap<>(AddressBookSection.class);
+        for (AddressBookSection section : AddressBookSection.values()) {
+            sectionVersions.put(section, getSectionVersion(section));
+        }
+        return sectionVersions;
+    }
+
+    /**
+     * Returns the sections that have been modified since they were at {@code savedVersions}, as previously returned
+     * by {@link #getSectionVersions()}. Sections missing from {@code savedVersions} are treated as modified.
+     */
+    default Set<AddressBookSection> getDirtySections(Map<AddressBookSection, Long> savedVersions) {
+        Set<AddressBookSection> dirtySections = EnumSet.noneOf(AddressBookSection.class);
+        for (AddressBookSection section : AddressBookSection.values()) {
+            Long savedVersion = savedVersions.get(section);
+            if (savedVersion == null || savedVersion != getSectionVersion(section)) {
+                dirtySections.add(section);
+            }
+        }
+        return dirtySections;
+    }
+
 }
@@ -2,7 +2,9 @@ package seedu.address.model;
 
 import java.nio.file.Path;
 
+import seedu.address.commons.core.AddressBookFormat;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.UndoHistorySettings;
 
 /**
  * Unmodifiable view of user prefs.
@@ -13,4 +15,8 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    UndoHistorySettings getUndoHistorySettings();
+
+    AddressBookFormat getAddressBookFormat();
+
 }
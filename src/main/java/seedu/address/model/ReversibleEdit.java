@@ -0,0 +1,33 @@
+package seedu.address.model;
+
+import java.io.Serializable;
+
+/**
+ * A single change made to an {@code AddressBook} that can be undone and redone.
+ * An edit holds no reference to the address book it was made to, so it can be serialized and applied later to the
+ * same address book, or to an equal one.
+ */
+public interface ReversibleEdit extends Serializable {
+
+    /**
+     * Reverts this edit on {@code addressBook}.
+     * The address book must be in the state it was in right after this edit was made.
+     */
+    void undo(AddressBook addressBook);
+
+    /**
+     * Makes this edit again on {@code addressBook}.
+     * The address book must be in the state it was in right before this edit was made.
+     */
+    void redo(AddressBook addressBook);
+
+    /**
+     * Returns a rough estimate of the heap memory held by this edit, in bytes.
+     */
+    long estimateBytes();
+
+    /**
+     * Describes this edit to {@code visitor}.
+     */
+    void accept(EditVisitor visitor);
+}
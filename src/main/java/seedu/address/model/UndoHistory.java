@@ -0,0 +1,171 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.UndoHistorySettings;
+
+/**
+ * The undo history of a {@code VersionedAddressBook}: a stack of change sets, newest on top, bounded by an
+ * {@code UndoHistorySettings}.
+ * Once the change sets in memory are estimated to use more than the memory limit, the oldest of them are moved to an
+ * {@code UndoHistorySpill} on disk and read back when undo reaches them. The newest change set always stays in memory,
+ * as it is still being recorded. Change sets beyond the maximum depth are discarded.
+ */
+final class UndoHistory {
+
+    private static final Logger logger = LogsCenter.getLogger(UndoHistory.class);
+
+    private final Deque<ChangeSet> changeSetsInMemory = new ArrayDeque<>(); // oldest first
+    private final UndoHistorySpill spill = new UndoHistorySpill(); // holds the change sets older than those in memory
+    private UndoHistorySettings settings = new UndoHistorySettings();
+    private long bytesInMemory;
+
+    /**
+     * Replaces the limits of this history with {@code settings}, and applies them.
+     */
+    void setSettings(UndoHistorySettings settings) {
+        requireNonNull(settings);
+        this.settings = settings;
+        enforceLimits();
+    }
+
+    /**
+     * Pushes {@code changeSet} onto the history, moving or discarding older change sets to stay within the limits.
+     */
+    void push(ChangeSet changeSet) {
+        requireNonNull(changeSet);
+        changeSetsInMemory.addLast(changeSet);
+        bytesInMemory += changeSet.getEstimatedBytes();
+        enforceLimits();
+    }
+
+    /**
+     * Appends {@code edit} to the newest change set. The history must not be empty.
+     */
+    void record(ReversibleEdit edit) {
+        assert !changeSetsInMemory.isEmpty();
+        changeSetsInMemory.peekLast().add(edit);
+        bytesInMemory += edit.estimateBytes();
+    }
+
+    /**
+     * Removes the newest change set from the history and returns it, reading it back from disk if needed.
+     * Returns null if the history is empty, or if the change set could not be read back.
+     */
+    ChangeSet pop() {
+        if (changeSetsInMemory.isEmpty() && !spill.isEmpty()) {
+            try {
+                return spill.pop();
+            } catch (IOException e) {
+                logger.warning("Could not read back older undo history, discarding it: " + e.getMessage());
+                clearSpill();
+                return null;
+            }
+        }
+
+        ChangeSet changeSet = changeSetsInMemory.pollLast();
+        if (changeSet != null) {
+            bytesInMemory -= changeSet.getEstimatedBytes();
+        }
+        return changeSet;
+    }
+
+    /**
+     * Removes every change set from the history.
+     */
+    void clear() {
+        changeSetsInMemory.clear();
+        bytesInMemory = 0;
+        clearSpill();
+    }
+
+    boolean isEmpty() {
+        return changeSetsInMemory.isEmpty() && spill.isEmpty();
+    }
+
+    int size() {
+        return changeSetsInMemory.size() + spill.size();
+    }
+
+    /**
+     * Returns the estimated memory used by the change sets in memory, in bytes.
+     */
+    long getBytesInMemory() {
+        return bytesInMemory;
+    }
+
+    /**
+     * Returns the size of the change sets moved to disk, in bytes.
+     */
+    long getBytesOnDisk() {
+        return spill.getBytesOnDisk();
+    }
+
+    private void enforceLimits() {
+        // The newest change set is kept even if the settings were loaded from a file with a depth below 1
+        while (size() > settings.getMaxDepth() && size() > 1) {
+            if (!spill.isEmpty()) {
+                dropOldestSpilled();
+            } else {
+                bytesInMemory -= changeSetsInMemory.removeFirst().getEstimatedBytes();
+            }
+        }
+
+        while (bytesInMemory > settings.getMaxBytesInMemory() && changeSetsInMemory.size() > 1) {
+            ChangeSet oldest = changeSetsInMemory.removeFirst();
+            bytesInMemory -= oldest.getEstimatedBytes();
+            try {
+                spill.push(oldest);
+            } catch (IOException e) {
+                // The spilled change sets are older than the one that was lost, so they cannot be undone either
+                logger.warning("Could not move older undo history to disk, discarding it: " + e.getMessage());
+                clearSpill();
+            }
+        }
+    }
+
+    private void dropOldestSpilled() {
+        try {
+            spill.dropOldest();
+        } catch (IOException e) {
+            logger.warning("Could not discard older undo history on disk: " + e.getMessage());
+        }
+    }
+
+    private void clearSpill() {
+        try {
+            spill.clear();
+        } catch (IOException e) {
+            logger.warning("Could not discard older undo history on disk: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof UndoHistory)) {
+            return false;
+        }
+
+        UndoHistory otherHistory = (UndoHistory) other;
+        return new ArrayList<>(changeSetsInMemory).equals(new ArrayList<>(otherHistory.changeSetsInMemory))
+                && spill.size() == otherHistory.spill.size()
+                && settings.equals(otherHistory.settings);
+    }
+
+    @Override
+    public int hashCode() {
+        return changeSetsInMemory.size() + spill.size();
+    }
+}
@@ -0,0 +1,123 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * A stack of change sets kept in a temporary file, each serialized and compressed with GZIP.
+ * The file is created on the first push and deleted when the application exits.
+ */
+final class UndoHistorySpill {
+
+    private static final ObjectInputFilter CLASS_FILTER =
+            ObjectInputFilter.Config.createFilter("seedu.address.**;java.**;!*");
+
+    private final Deque<Long> offsets = new ArrayDeque<>(); // start of each change set in the file, oldest first
+    private Path file;
+    private long end; // end of the newest change set in the file
+
+    /**
+     * Writes {@code changeSet} to the spill file as the newest change set.
+     */
+    void push(ChangeSet changeSet) throws IOException {
+        requireNonNull(changeSet);
+        if (file == null) {
+            file = Files.createTempFile("addressbook-undo-", ".spill");
+            file.toFile().deleteOnExit();
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(new GZIPOutputStream(bytes))) {
+            out.writeObject(changeSet);
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes.toByteArray());
+            while (buffer.hasRemaining()) {
+                channel.write(buffer, end + buffer.position());
+            }
+        }
+        offsets.addLast(end);
+        end += bytes.size();
+    }
+
+    /**
+     * Removes the newest change set from the spill file and returns it.
+     * The spill file must not be empty.
+     */
+    ChangeSet pop() throws IOException {
+        assert !offsets.isEmpty();
+        long start = offsets.removeLast();
+        ByteBuffer buffer = ByteBuffer.allocate(Math.toIntExact(end - start));
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, start + buffer.position()) < 0) {
+                    throw new IOException("Undo history spill file is truncated");
+                }
+            }
+            channel.truncate(start);
+        }
+        end = start;
+
+        try (ObjectInputStream in = new ObjectInputStream(
+                new GZIPInputStream(new ByteArrayInputStream(buffer.array())))) {
+            in.setObjectInputFilter(CLASS_FILTER);
+            return (ChangeSet) in.readObject();
+        } catch (ClassNotFoundException | ClassCastException e) {
+            throw new IOException("Undo history spill file is corrupted", e);
+        }
+    }
+
+    /**
+     * Forgets the oldest change set in the spill file.
+     * Its space in the file is reclaimed once the spill file is empty.
+     */
+    void dropOldest() throws IOException {
+        offsets.removeFirst();
+        if (offsets.isEmpty()) {
+            clear();
+        }
+    }
+
+    /**
+     * Forgets every change set in the spill file.
+     */
+    void clear() throws IOException {
+        offsets.clear();
+        end = 0;
+        if (file != null) {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                channel.truncate(0);
+            }
+        }
+    }
+
+    boolean isEmpty() {
+        return offsets.isEmpty();
+    }
+
+    int size() {
+        return offsets.size();
+    }
+
+    /**
+     * Returns the size of the change sets in the spill file, in bytes.
+     */
+    long getBytesOnDisk() {
+        return offsets.isEmpty() ? 0 : end - offsets.peekFirst();
+    }
+}
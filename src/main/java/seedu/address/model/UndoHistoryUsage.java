@@ -0,0 +1,77 @@
+package seedu.address.model;
+
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * How many commands can be undone and redone, and the space taken up by their history.
+ * The memory figure is an estimate.
+ * Guarantees: immutable.
+ */
+public final class UndoHistoryUsage {
+
+    private final int undoSteps;
+    private final int redoSteps;
+    private final long bytesInMemory;
+    private final long bytesOnDisk;
+
+    /**
+     * Constructs an {@code UndoHistoryUsage} with the given figures.
+     */
+    public UndoHistoryUsage(int undoSteps, int redoSteps, long bytesInMemory, long bytesOnDisk) {
+        this.undoSteps = undoSteps;
+        this.redoSteps = redoSteps;
+        this.bytesInMemory = bytesInMemory;
+        this.bytesOnDisk = bytesOnDisk;
+    }
+
+    public int getUndoSteps() {
+        return undoSteps;
+    }
+
+    public int getRedoSteps() {
+        return redoSteps;
+    }
+
+    public long getBytesInMemory() {
+        return bytesInMemory;
+    }
+
+    public long getBytesOnDisk() {
+        return bytesOnDisk;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof UndoHistoryUsage)) {
+            return false;
+        }
+
+        UndoHistoryUsage otherUsage = (UndoHistoryUsage) other;
+        return undoSteps == otherUsage.undoSteps
+                && redoSteps == otherUsage.redoSteps
+                && bytesInMemory == otherUsage.bytesInMemory
+                && bytesOnDisk == otherUsage.bytesOnDisk;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(undoSteps, redoSteps, bytesInMemory, bytesOnDisk);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("undoSteps", undoSteps)
+                .add("redoSteps", redoSteps)
+                .add("bytesInMemory", bytesInMemory)
+                .add("bytesOnDisk", bytesOnDisk)
+                .toString();
+    }
+}
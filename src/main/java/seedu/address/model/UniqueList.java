@@ -3,8 +3,18 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -12,6 +22,18 @@ import javafx.collections.ObservableList;
 /**
  * A generic list that enforces uniqueness between its elements and does not allow nulls.
  * Elements are considered unique by comparing using a custom equality method provided by subclasses.
+ * Each element is also indexed by an identity key supplied by subclasses, so that identity lookups
+ * do not need to scan the list. The identity key must agree with the custom equality method.
+ * The position of each element is indexed by the same key, so that replacing an element does not need to scan the
+ * list either. Positions shift when an element is inserted before the end of the list or removed, so the position
+ * index is then dropped and rebuilt on the next lookup.
+ *
+ * The list can also be frozen into an immutable snapshot of its elements. The snapshot is cached until the list is
+ * next modified, so freezing a list that has not changed since it was last frozen or restored costs nothing, and
+ * equal snapshots are shared rather than copied.
+ *
+ * If an edit recorder is set, every change to the list is also reported to it as a {@code ListEdit}, so that the
+ * change can later be undone and redone without copying the list.
  *
  * @param <T> The type of elements in the list
  */
@@ -20,13 +42,18 @@ public abstract class UniqueList<T> implements Iterable<T> {
     protected final ObservableList<T> internalList = FXCollections.observableArrayList();
     private final ObservableList<T> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private Map<Object, T> identityIndex = new HashMap<>();
+    private Map<Object, Integer> positionIndex; // null if positions have shifted since it was last built
+    private List<T> frozenElements; // null if the list has been modified since it was last frozen or restored
+    private Consumer<ListEdit<T>> editRecorder; // null if changes are not being recorded
+    private long modificationCount;
 
     /**
      * Returns true if the list contains an equivalent element as the given argument.
      */
     public boolean contains(T toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(item -> isSameElement(item, toCheck));
+        return identityIndex.containsKey(getIdentityKey(toCheck));
     }
 
     /**
@@ -38,7 +65,7 @@ public abstract class UniqueList<T> implements Iterable<T> {
         if (contains(toAdd)) {
             throw createDuplicateException();
         }
-        internalList.add(toAdd);
+        insertAt(internalList.size(), toAdd);
     }
 
     /**
@@ -49,7 +76,7 @@ public abstract class UniqueList<T> implements Iterable<T> {
     public void setElement(T target, T editedElement) {
         requireAllNonNull(target, editedElement);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw createNotFoundException();
         }
@@ -58,7 +85,7 @@ public abstract class UniqueList<T> implements Iterable<T> {
             throw createDuplicateException();
         }
 
-        internalList.set(index, editedElement);
+        replaceAt(index, editedElement);
     }
 
     /**
@@ -67,9 +94,43 @@ public abstract class UniqueList<T> implements Iterable<T> {
      */
     public void remove(T toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw createNotFoundException();
         }
+        removeAt(index);
+    }
+
+    /**
+     * Removes all elements that satisfy {@code filter}.
+     * Subclasses should remove elements through this method rather than through {@code internalList}
+     * so that the identity index stays in sync.
+     */
+    protected void removeElementsIf(Predicate<T> filter) {
+        requireNonNull(filter);
+        List<Integer> indexesToRemove = new ArrayList<>();
+        for (int i = 0; i < internalList.size(); i++) {
+            if (filter.test(internalList.get(i))) {
+                indexesToRemove.add(i);
+            }
+        }
+        if (indexesToRemove.isEmpty()) {
+            return;
+        }
+
+        List<T> toRemove = indexesToRemove.stream().map(internalList::get).collect(Collectors.toList());
+        internalList.removeAll(new HashSet<>(toRemove));
+        positionIndex = null;
+        frozenElements = null;
+        modificationCount++;
+        for (T element : toRemove) {
+            identityIndex.remove(getIdentityKey(element));
+            onElementRemoved(element);
+        }
+        // Recorded from the back, so that each recorded index is valid when the removals are redone in order
+        for (int i = indexesToRemove.size() - 1; i >= 0; i--) {
+            recordElementEdit(indexesToRemove.get(i), toRemove.get(i), null);
+        }
     }
 
     /**
@@ -78,10 +139,43 @@ public abstract class UniqueList<T> implements Iterable<T> {
      */
     public void setElements(List<T> elements) {
         requireAllNonNull(elements);
-        if (!elementsAreUnique(elements)) {
+        if (!setElementsIfUnique(elements).isEmpty()) {
             throw createDuplicateException();
         }
-        internalList.setAll(elements);
+    }
+
+    /**
+     * Replaces the contents of this list with {@code elements} if {@code elements} contains no duplicate elements.
+     * Uniqueness is checked in a single hashed pass, followed by a single {@code setAll} on the backing list.
+     *
+     * @return the identity keys that occur more than once in {@code elements}, in encounter order.
+     *     If this is not empty, the contents of this list are left unchanged.
+     */
+    public Set<Object> setElementsIfUnique(List<T> elements) {
+        requireNonNull(elements);
+        Map<Object, T> newIdentityIndex = new HashMap<>();
+        Set<Object> duplicateKeys = new LinkedHashSet<>();
+        for (T element : elements) {
+            requireNonNull(element);
+            Object key = getIdentityKey(element);
+            if (newIdentityIndex.putIfAbsent(key, element) != null) {
+                duplicateKeys.add(key);
+            }
+        }
+
+        if (duplicateKeys.isEmpty()) {
+            List<T> previousElements = editRecorder == null ? null : freeze();
+            internalList.setAll(elements);
+            identityIndex = newIdentityIndex;
+            positionIndex = null;
+            frozenElements = null;
+            modificationCount++;
+            onElementsReset();
+            if (previousElements != null) {
+                editRecorder.accept(new ResetEdit<>(previousElements, freeze()));
+            }
+        }
+        return duplicateKeys;
     }
 
     /**
@@ -96,7 +190,152 @@ public abstract class UniqueList<T> implements Iterable<T> {
      * This method is protected to allow subclasses to implement their own set methods.
      */
     protected void setAllFromOther(UniqueList<T> other) {
+        List<T> previousElements = editRecorder == null ? null : freeze();
         internalList.setAll(other.internalList);
+        identityIndex.clear();
+        identityIndex.putAll(other.identityIndex);
+        positionIndex = null;
+        frozenElements = other.frozenElements;
+        modificationCount++;
+        onElementsReset();
+        if (previousElements != null) {
+            editRecorder.accept(new ResetEdit<>(previousElements, freeze()));
+        }
+    }
+
+    /**
+     * Returns an immutable snapshot of the elements of this list.
+     * The same snapshot is returned until this list is next modified.
+     */
+    protected List<T> freeze() {
+        if (frozenElements == null) {
+            frozenElements = List.copyOf(internalList);
+        }
+        return frozenElements;
+    }
+
+    /**
+     * Replaces the contents of this list with a snapshot previously returned by {@link #freeze()}.
+     * Does nothing if this list has not been modified since it was frozen into, or restored from, {@code frozen}.
+     */
+    protected void restore(List<T> frozen) {
+        requireNonNull(frozen);
+        if (frozen == frozenElements) {
+            return;
+        }
+        Set<Object> duplicateKeys = setElementsIfUnique(frozen);
+        assert duplicateKeys.isEmpty() : "a frozen snapshot cannot contain duplicate elements";
+        frozenElements = frozen;
+    }
+
+    /**
+     * Reports every subsequent change to this list to {@code editRecorder}, or stops reporting if it is null.
+     */
+    protected void setEditRecorder(Consumer<ListEdit<T>> editRecorder) {
+        this.editRecorder = editRecorder;
+    }
+
+    /**
+     * Returns the number of times this list has been modified, which only ever increases.
+     */
+    protected long getModificationCount() {
+        return modificationCount;
+    }
+
+    /**
+     * Returns the element whose identity key is {@code key}, or null if there is no such element.
+     */
+    protected T getByIdentityKey(Object key) {
+        requireNonNull(key);
+        return identityIndex.get(key);
+    }
+
+    /**
+     * Returns the position of the element equal to {@code element}, or -1 if there is no such element.
+     */
+    protected int indexOf(T element) {
+        if (positionIndex == null) {
+            positionIndex = new HashMap<>();
+            for (int i = 0; i < internalList.size(); i++) {
+                positionIndex.put(getIdentityKey(internalList.get(i)), i);
+            }
+        }
+        Integer index = positionIndex.get(getIdentityKey(element));
+        return index != null && internalList.get(index).equals(element) ? index : -1;
+    }
+
+    /**
+     * Changes the element at {@code index} from {@code before} to {@code after}, as described to an
+     * {@code EditVisitor}. Both must be elements of the type held by this list.
+     *
+     * @throws RuntimeException if this list is not in the state that the change was made from.
+     */
+    @SuppressWarnings("unchecked")
+    void applyElementChange(int index, Object before, Object after) {
+        if (before == null && after == null) {
+            throw new IllegalArgumentException("An element change must insert, replace or remove an element");
+        }
+        if (index < 0 || index > internalList.size() - (before == null ? 0 : 1)) {
+            throw createNotFoundException();
+        }
+        new ElementEdit<>(index, (T) before, (T) after).redo(this);
+    }
+
+    /**
+     * Replaces the contents of this list with {@code elements}, as described to an {@code EditVisitor}.
+     * They must be elements of the type held by this list.
+     */
+    @SuppressWarnings("unchecked")
+    void applyReset(List<?> elements) {
+        setElements((List<T>) elements);
+    }
+
+    private void insertAt(int index, T element) {
+        internalList.add(index, element);
+        frozenElements = null;
+        modificationCount++;
+        identityIndex.put(getIdentityKey(element), element);
+        if (positionIndex != null && index == internalList.size() - 1) {
+            positionIndex.put(getIdentityKey(element), index);
+        } else {
+            positionIndex = null;
+        }
+        onElementInserted(index, element);
+        recordElementEdit(index, null, element);
+    }
+
+    private void replaceAt(int index, T editedElement) {
+        T target = internalList.set(index, editedElement);
+        frozenElements = null;
+        modificationCount++;
+        identityIndex.remove(getIdentityKey(target));
+        identityIndex.put(getIdentityKey(editedElement), editedElement);
+        if (positionIndex != null) {
+            positionIndex.remove(getIdentityKey(target));
+            positionIndex.put(getIdentityKey(editedElement), index);
+        }
+        onElementReplaced(target, editedElement);
+        recordElementEdit(index, target, editedElement);
+    }
+
+    private void removeAt(int index) {
+        T removed = internalList.remove(index);
+        frozenElements = null;
+        modificationCount++;
+        identityIndex.remove(getIdentityKey(removed));
+        if (positionIndex != null && index == internalList.size()) {
+            positionIndex.remove(getIdentityKey(removed));
+        } else {
+            positionIndex = null;
+        }
+        onElementRemoved(removed);
+        recordElementEdit(index, removed, null);
+    }
+
+    private void recordElementEdit(int index, T before, T after) {
+        if (editRecorder != null) {
+            editRecorder.accept(new ElementEdit<>(index, before, after));
+        }
     }
 
     @Override
@@ -129,12 +368,56 @@ public abstract class UniqueList<T> implements Iterable<T> {
         return internalList.toString();
     }
 
+    // Hooks that subclasses may override to maintain secondary indexes over the list
+
+    /**
+     * Called after {@code element} is added to the list.
+     */
+    protected void onElementAdded(T element) {}
+
+    /**
+     * Called after {@code element} is inserted at {@code index}, which may be before the end of the list when an
+     * earlier removal is undone. Subclasses whose indexes follow the list order should override this method if they
+     * can update those indexes without a full rebuild.
+     */
+    protected void onElementInserted(int index, T element) {
+        if (index == internalList.size() - 1) {
+            onElementAdded(element);
+        } else {
+            onElementsReset();
+        }
+    }
+
+    /**
+     * Called after {@code element} is removed from the list.
+     */
+    protected void onElementRemoved(T element) {}
+
+    /**
+     * Called after {@code target} is replaced by {@code editedElement} at the same position in the list.
+     */
+    protected void onElementReplaced(T target, T editedElement) {
+        onElementRemoved(target);
+        onElementAdded(editedElement);
+    }
+
+    /**
+     * Called after the whole contents of the list are replaced.
+     */
+    protected void onElementsReset() {}
+
     // Abstract methods to be implemented by subclasses
     /**
      * Returns true if the two elements are considered the same for uniqueness purposes.
      */
     protected abstract boolean isSameElement(T element1, T element2);
 
+    /**
+     * Returns the identity key of {@code element}.
+     * Two elements must have equal identity keys if and only if {@link #isSameElement} returns true for them.
+     */
+    protected abstract Object getIdentityKey(T element);
+
     /**
      * Creates the appropriate duplicate exception for this list type.
      */
@@ -146,16 +429,137 @@ public abstract class UniqueList<T> implements Iterable<T> {
     protected abstract RuntimeException createNotFoundException();
 
     /**
-     * Returns true if {@code elements} contains only unique elements.
+     * The insertion, replacement or removal of a single element at a position in the list.
      */
-    private boolean elementsAreUnique(List<T> elements) {
-        for (int i = 0; i < elements.size() - 1; i++) {
-            for (int j = i + 1; j < elements.size(); j++) {
-                if (isSameElement(elements.get(i), elements.get(j))) {
-                    return false;
-                }
+    private static class ElementEdit<T> extends ListEdit<T> {
+        private static final long serialVersionUID = 1L;
+
+        private final int index;
+        private final T before; // null if the element was inserted
+        private final T after; // null if the element was removed
+
+        private ElementEdit(int index, T before, T after) {
+            this.index = index;
+            this.before = before;
+            this.after = after;
+        }
+
+        @Override
+        void undo(UniqueList<T> list) {
+            change(list, after, before);
+        }
+
+        @Override
+        void redo(UniqueList<T> list) {
+            change(list, before, after);
+        }
+
+        @Override
+        int getElementCount() {
+            return (before == null ? 0 : 1) + (after == null ? 0 : 1);
+        }
+
+        @Override
+        void accept(AddressBookSection section, EditVisitor visitor) {
+            visitor.visitElementChange(section, index, before, after);
+        }
+
+        /**
+         * Changes the element at {@code index} from {@code from} to {@code to}, after checking that the list is in
+         * the state that the change was made from.
+         */
+        private void change(UniqueList<T> list, T from, T to) {
+            if (from != null && !from.equals(list.internalList.get(index))) {
+                throw list.createNotFoundException();
+            }
+            if (to != null && (from == null || !list.isSameElement(from, to)) && list.contains(to)) {
+                throw list.createDuplicateException();
+            }
+
+            if (from == null) {
+                list.insertAt(index, to);
+            } else if (to == null) {
+                list.removeAt(index);
+            } else {
+                list.replaceAt(index, to);
+            }
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof ElementEdit)) {
+                return false;
             }
+
+            ElementEdit<?> otherEdit = (ElementEdit<?>) other;
+            return index == otherEdit.index
+                    && Objects.equals(before, otherEdit.before)
+                    && Objects.equals(after, otherEdit.after);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(index, before, after);
+        }
+    }
+
+    /**
+     * The replacement of the whole contents of the list.
+     */
+    private static class ResetEdit<T> extends ListEdit<T> {
+        private static final long serialVersionUID = 1L;
+
+        private final List<T> before;
+        private final List<T> after;
+
+        private ResetEdit(List<T> before, List<T> after) {
+            this.before = before;
+            this.after = after;
+        }
+
+        @Override
+        void undo(UniqueList<T> list) {
+            list.restore(before);
+        }
+
+        @Override
+        void redo(UniqueList<T> list) {
+            list.restore(after);
+        }
+
+        @Override
+        int getElementCount() {
+            return before.size() + after.size();
+        }
+
+        @Override
+        void accept(AddressBookSection section, EditVisitor visitor) {
+            visitor.visitSectionReset(section, after);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof ResetEdit)) {
+                return false;
+            }
+
+            ResetEdit<?> otherEdit = (ResetEdit<?>) other;
+            return before.equals(otherEdit.before) && after.equals(otherEdit.after);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(before, after);
         }
-        return true;
     }
 }
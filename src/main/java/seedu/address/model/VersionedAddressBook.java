@@ -1,22 +1,32 @@
 package seedu.address.model;
 
+import static java.util.Objects.requireNonNull;
+
 import java.util.Stack;
+import java.util.function.Consumer;
 
+import seedu.address.commons.core.UndoHistorySettings;
 import seedu.address.commons.util.ToStringBuilder;
 
 /**
  * A versioned address book that maintains a history of states for undo functionality.
+ * Instead of copies of past states, the history holds one change set per commit: the {@code ReversibleEdit}s
+ * made since that commit, in order. Undo reverts the edits of the last change set and redo makes them again, so
+ * both only touch the elements that the undone or redone command changed.
+ * The undo history is bounded by an {@code UndoHistorySettings}: older change sets are moved to disk once the history
+ * uses too much memory, and dropped once it is too deep.
  */
 public class VersionedAddressBook extends AddressBook {
-    private final Stack<ReadOnlyAddressBook> addressBookStateHistory;
-    private final Stack<ReadOnlyAddressBook> addressBookRedoHistory;
+    private final UndoHistory addressBookStateHistory;
+    private final Stack<ChangeSet> addressBookRedoHistory;
+    private final Consumer<ReversibleEdit> editRecorder = this::recordEdit;
 
     /**
      * Creates a VersionedAddressBook with the given initial state.
      */
     public VersionedAddressBook(ReadOnlyAddressBook initialState) {
         super(initialState);
-        this.addressBookStateHistory = new Stack<>();
+        this.addressBookStateHistory = new UndoHistory();
         this.addressBookRedoHistory = new Stack<>();
     }
 
@@ -25,7 +35,7 @@ public class VersionedAddressBook extends AddressBook {
      */
     public VersionedAddressBook() {
         super();
-        this.addressBookStateHistory = new Stack<>();
+        this.addressBookStateHistory = new UndoHistory();
         this.addressBookRedoHistory = new Stack<>();
     }
 
@@ -34,18 +44,29 @@ public class VersionedAddressBook extends AddressBook {
      * This should be called before making any modifications.
      */
     public void commit() {
-        addressBookStateHistory.push(new AddressBook(this));
+        addressBookStateHistory.push(new ChangeSet());
         // Clear redo history when a new state is committed
         addressBookRedoHistory.clear();
+        setEditRecorder(editRecorder);
     }
 
     /**
      * Removes the last committed state from the history.
      * This is used when a command fails after commit.
+     * Any changes made since that commit are kept, and become part of the previous commit.
      */
     public void rollbackLastCommit() {
-        if (!addressBookStateHistory.isEmpty()) {
-            addressBookStateHistory.pop();
+        if (addressBookStateHistory.isEmpty()) {
+            return;
+        }
+
+        ChangeSet failedChangeSet = addressBookStateHistory.pop();
+        ChangeSet previousChangeSet = addressBookStateHistory.pop();
+        if (previousChangeSet == null) {
+            setEditRecorder(null);
+        } else {
+            previousChangeSet.addAll(failedChangeSet);
+            addressBookStateHistory.push(previousChangeSet);
         }
     }
 
@@ -58,12 +79,18 @@ public class VersionedAddressBook extends AddressBook {
             return false;
         }
 
-        // Save current state to redo history
-        addressBookRedoHistory.push(new AddressBook(this));
-
-        // Restore previous state
-        ReadOnlyAddressBook previousState = addressBookStateHistory.pop();
-        resetData(previousState);
+        ChangeSet changeSet = addressBookStateHistory.pop();
+        if (changeSet == null) {
+            // The change set was on disk and could not be read back
+            setEditRecorder(null);
+            return false;
+        }
+        setEditRecorder(null);
+        changeSet.undo(this);
+        addressBookRedoHistory.push(changeSet);
+        if (!addressBookStateHistory.isEmpty()) {
+            setEditRecorder(editRecorder);
+        }
 
         return true;
     }
@@ -77,16 +104,46 @@ public class VersionedAddressBook extends AddressBook {
             return false;
         }
 
-        // Save current state to undo history
-        addressBookStateHistory.push(new AddressBook(this));
-
-        // Restore next state
-        ReadOnlyAddressBook nextState = addressBookRedoHistory.pop();
-        resetData(nextState);
+        ChangeSet changeSet = addressBookRedoHistory.pop();
+        setEditRecorder(null);
+        changeSet.redo(this);
+        addressBookStateHistory.push(changeSet);
+        setEditRecorder(editRecorder);
 
         return true;
     }
 
+    /**
+     * Adds {@code edit} to the change set of the last commit.
+     * The redo history no longer applies once the address book has been changed outside of undo and redo.
+     */
+    private void recordEdit(ReversibleEdit edit) {
+        assert !addressBookStateHistory.isEmpty() : "edits are only recorded after a commit";
+        addressBookStateHistory.record(edit);
+        addressBookRedoHistory.clear();
+    }
+
+    /**
+     * Replaces the limits of the undo history with {@code settings}.
+     * Older states are moved to disk or dropped right away if the history is over the new limits.
+     */
+    public void setUndoHistorySettings(UndoHistorySettings settings) {
+        requireNonNull(settings);
+        addressBookStateHistory.setSettings(settings);
+    }
+
+    /**
+     * Returns how many states can be undone and redone, and the space their history takes up.
+     */
+    public UndoHistoryUsage getUndoHistoryUsage() {
+        long redoBytes = 0;
+        for (ChangeSet changeSet : addressBookRedoHistory) {
+            redoBytes += changeSet.getEstimatedBytes();
+        }
+        return new UndoHistoryUsage(addressBookStateHistory.size(), addressBookRedoHistory.size(),
+                addressBookStateHistory.getBytesInMemory() + redoBytes, addressBookStateHistory.getBytesOnDisk());
+    }
+
     /**
      * Returns true if there are states available to undo.
      */
@@ -2,6 +2,7 @@ package seedu.address.model.attendance;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.io.Serializable;
 import java.util.Objects;
 
 import seedu.address.commons.util.ToStringBuilder;
@@ -12,7 +13,9 @@ import seedu.address.model.person.Name;
  * Represents an Attendance record in the address book.
  * Guarantees: details are present and not null, field values are validated, immutable.
  */
-public class Attendance {
+public class Attendance implements Serializable {
+
+    private static final long serialVersionUID = 1L;
 
     private final EventId eventId;
     private final Name memberName;
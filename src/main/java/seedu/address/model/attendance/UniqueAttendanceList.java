@@ -3,11 +3,18 @@ package seedu.address.model.attendance;
 import static java.util.Objects.requireNonNull;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 
 import seedu.address.model.UniqueList;
 import seedu.address.model.attendance.exceptions.AttendanceNotFoundException;
 import seedu.address.model.attendance.exceptions.DuplicateAttendanceException;
+import seedu.address.model.event.EventId;
 import seedu.address.model.person.Name;
 
 /**
@@ -18,12 +25,18 @@ import seedu.address.model.person.Name;
  * UniqueAttendanceList. However, the removal of an attendance record uses Attendance#equals(Object) so
  * as to ensure that the attendance record with exactly the same fields will be removed.
  *
+ * Attendance records are also indexed by event and by member, in list order, so that the records of one event
+ * or one member can be found without scanning the whole list.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Attendance#isSameAttendance(Attendance)
  */
 public class UniqueAttendanceList extends UniqueList<Attendance> {
 
+    private final Map<EventId, Map<Name, Attendance>> attendancesByEvent = new HashMap<>();
+    private final Map<Name, Map<EventId, Attendance>> attendancesByMember = new HashMap<>();
+
     /**
      * Replaces the attendance record {@code target} in the list with {@code editedAttendance}.
      * {@code target} must exist in the list.
@@ -47,21 +60,45 @@ public class UniqueAttendanceList extends UniqueList<Attendance> {
         setAllFromOther(replacement);
     }
 
+    /**
+     * Returns the attendance records of the event identified by {@code eventId}, in list order.
+     */
+    public List<Attendance> getAttendancesForEvent(EventId eventId) {
+        requireNonNull(eventId);
+        return List.copyOf(attendancesByEvent.getOrDefault(eventId, Collections.emptyMap()).values());
+    }
+
+    /**
+     * Returns the attendance records of the member named {@code memberName}, in list order.
+     */
+    public List<Attendance> getAttendancesForMember(Name memberName) {
+        requireNonNull(memberName);
+        return List.copyOf(attendancesByMember.getOrDefault(memberName, Collections.emptyMap()).values());
+    }
+
     /**
      * Renames the member in all attendance records from {@code oldName} to {@code newName}.
+     * Each record is replaced where it is, so that only the renamed records are changed.
      */
     public void renameMember(Name oldName, Name newName) {
         requireNonNull(oldName);
         requireNonNull(newName);
-        List<Attendance> updatedAttendances = new ArrayList<>();
-        for (Attendance attendance : internalList) {
-            if (attendance.getMemberName().equals(oldName)) {
-                updatedAttendances.add(new Attendance(attendance.getEventId(), newName, attendance.hasAttended()));
-            } else {
-                updatedAttendances.add(attendance);
+        if (!attendancesByMember.containsKey(oldName)) {
+            return;
+        }
+        List<Attendance> targets = List.copyOf(attendancesByMember.get(oldName).values());
+        List<Attendance> renamedAttendances = new ArrayList<>();
+        for (Attendance target : targets) {
+            Attendance renamed = new Attendance(target.getEventId(), newName, target.hasAttended());
+            // Checked before any record is replaced, so that a rename that fails leaves the list unchanged
+            if (!isSameElement(target, renamed) && contains(renamed)) {
+                throw createDuplicateException();
             }
+            renamedAttendances.add(renamed);
+        }
+        for (int i = 0; i < targets.size(); i++) {
+            setElement(targets.get(i), renamedAttendances.get(i));
         }
-        setElements(updatedAttendances);
     }
 
     /**
@@ -69,7 +106,10 @@ public class UniqueAttendanceList extends UniqueList<Attendance> {
      */
     public void removeAttendancesByMember(Name memberName) {
         requireNonNull(memberName);
-        internalList.removeIf(attendance -> attendance.getMemberName().equals(memberName));
+        if (!attendancesByMember.containsKey(memberName)) {
+            return;
+        }
+        removeElementsIf(attendance -> attendance.getMemberName().equals(memberName));
     }
 
     @Override
@@ -77,6 +117,79 @@ public class UniqueAttendanceList extends UniqueList<Attendance> {
         return attendance1.isSameAttendance(attendance2);
     }
 
+    @Override
+    protected Object getIdentityKey(Attendance attendance) {
+        return List.of(attendance.getEventId(), attendance.getMemberName());
+    }
+
+    @Override
+    protected void onElementAdded(Attendance attendance) {
+        attendancesByEvent.computeIfAbsent(attendance.getEventId(), unused -> new LinkedHashMap<>())
+                .put(attendance.getMemberName(), attendance);
+        attendancesByMember.computeIfAbsent(attendance.getMemberName(), unused -> new LinkedHashMap<>())
+                .put(attendance.getEventId(), attendance);
+    }
+
+    @Override
+    protected void onElementRemoved(Attendance attendance) {
+        removeFromIndex(attendancesByEvent, attendance.getEventId(), attendance.getMemberName());
+        removeFromIndex(attendancesByMember, attendance.getMemberName(), attendance.getEventId());
+    }
+
+    @Override
+    protected void onElementReplaced(Attendance target, Attendance editedAttendance) {
+        if (!target.isSameAttendance(editedAttendance)) {
+            replaceInIndex(attendancesByEvent, target, editedAttendance, Attendance::getEventId,
+                    Attendance::getMemberName);
+            replaceInIndex(attendancesByMember, target, editedAttendance, Attendance::getMemberName,
+                    Attendance::getEventId);
+            return;
+        }
+        // Same identity: overwrite in place so that the indexes keep the list order
+        onElementAdded(editedAttendance);
+    }
+
+    /**
+     * Replaces {@code target} with {@code editedAttendance} in {@code index}, keeping each row in list order.
+     */
+    private <K, V> void replaceInIndex(Map<K, Map<V, Attendance>> index, Attendance target,
+            Attendance editedAttendance, Function<Attendance, K> outerKeyOf, Function<Attendance, V> innerKeyOf) {
+        K outerKey = outerKeyOf.apply(target);
+        K editedOuterKey = outerKeyOf.apply(editedAttendance);
+        if (!outerKey.equals(editedOuterKey)) {
+            removeFromIndex(index, outerKey, innerKeyOf.apply(target));
+        }
+        List<Attendance> row = new ArrayList<>(index.getOrDefault(editedOuterKey, Collections.emptyMap()).values());
+        row.remove(target);
+        row.add(editedAttendance);
+        row.sort(Comparator.comparingInt(this::indexOf));
+        Map<V, Attendance> updatedRow = new LinkedHashMap<>();
+        for (Attendance attendance : row) {
+            updatedRow.put(innerKeyOf.apply(attendance), attendance);
+        }
+        index.put(editedOuterKey, updatedRow);
+    }
+
+    @Override
+    protected void onElementsReset() {
+        attendancesByEvent.clear();
+        attendancesByMember.clear();
+        for (Attendance attendance : internalList) {
+            onElementAdded(attendance);
+        }
+    }
+
+    private static <K, V> void removeFromIndex(Map<K, Map<V, Attendance>> index, K outerKey, V innerKey) {
+        Map<V, Attendance> rows = index.get(outerKey);
+        if (rows == null) {
+            return;
+        }
+        rows.remove(innerKey);
+        if (rows.isEmpty()) {
+            index.remove(outerKey);
+        }
+    }
+
     @Override
     protected RuntimeException createDuplicateException() {
         return new DuplicateAttendanceException();
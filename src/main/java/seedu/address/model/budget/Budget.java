@@ -2,6 +2,7 @@ package seedu.address.model.budget;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.Serializable;
 import java.time.LocalDate;
 import java.util.Objects;
 
@@ -10,7 +11,9 @@ import seedu.address.model.common.Money;
 /**
  * Global budget with inclusive date range.
  */
-public final class Budget {
+public final class Budget implements Serializable {
+    private static final long serialVersionUID = 1L;
+
     private final Money amount;
     private final LocalDate startDate;
     private final LocalDate endDate;
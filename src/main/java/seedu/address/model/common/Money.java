@@ -2,6 +2,7 @@ package seedu.address.model.common;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.Serializable;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.util.Objects;
@@ -9,10 +10,20 @@ import java.util.Objects;
 /**
  * Immutable monetary amount in SGD with scale=2. Non-negative only.
  */
-public final class Money implements Comparable<Money> {
+public final class Money implements Comparable<Money>, Serializable {
+
+    /**
+     * The largest amount that commands accept. Amounts read from data files are not capped, so that data saved
+     * before the cap was introduced still loads.
+     */
+    public static final BigDecimal MAX_AMOUNT = new BigDecimal("1000000000.00");
+
+    public static final String MESSAGE_MAX_AMOUNT = "Amount cannot be more than " + MAX_AMOUNT.toPlainString();
 
     private static final int SCALE = 2;
 
+    private static final long serialVersionUID = 1L;
+
     private final BigDecimal amount; // always >= 0, scale=2
 
     private Money(BigDecimal amount) {
@@ -28,14 +39,18 @@ public final class Money implements Comparable<Money> {
         return new Money(amount.setScale(SCALE, RoundingMode.HALF_UP));
     }
 
-    /** Parses a decimal string into Money (2 dp, HALF_UP). */
+    /**
+     * Parses a decimal string into Money (2 dp, HALF_UP).
+     * @throws IllegalArgumentException if it is not a number
+     */
     public static Money parse(String value) {
+        BigDecimal bd;
         try {
-            BigDecimal bd = new BigDecimal(value).setScale(SCALE, RoundingMode.HALF_UP);
-            return of(bd);
+            bd = new BigDecimal(value).setScale(SCALE, RoundingMode.HALF_UP);
         } catch (NumberFormatException ex) {
             throw new IllegalArgumentException("Invalid money amount: " + value, ex);
         }
+        return of(bd);
     }
 
     /** Returns a zero-valued Money. */
@@ -48,6 +63,19 @@ public final class Money implements Comparable<Money> {
         return amount;
     }
 
+    /** Creates a Money from a whole number of cents. */
+    public static Money ofCents(long cents) {
+        return new Money(BigDecimal.valueOf(cents, SCALE));
+    }
+
+    /**
+     * Returns this amount as a whole number of cents.
+     * @throws ArithmeticException if the number of cents does not fit in a long
+     */
+    public long toCents() {
+        return amount.unscaledValue().longValueExact();
+    }
+
     /** Returns a new Money that is the sum of this and other. */
     public Money plus(Money other) {
         requireNonNull(other);
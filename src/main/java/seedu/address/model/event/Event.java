@@ -2,6 +2,7 @@ package seedu.address.model.event;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.io.Serializable;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
@@ -14,7 +15,7 @@ import seedu.address.model.common.Money;
  * Represents an Event in the address book.
  * Guarantees: details are present and not null, field values are validated, immutable.
  */
-public class Event {
+public class Event implements Serializable {
 
     public static final String MESSAGE_CONSTRAINTS =
             "Event ID should only contain alphanumeric characters and underscores";
@@ -25,6 +26,8 @@ public class Event {
     public static final String DATE_FORMAT = "yyyy-MM-dd";
     public static final int MAX_DESCRIPTION_LENGTH = 100;
 
+    private static final long serialVersionUID = 1L;
+
     private final EventId eventId;
     private final LocalDate date;
     private final String description;
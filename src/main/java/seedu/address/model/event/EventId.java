@@ -3,16 +3,22 @@ package seedu.address.model.event;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.io.Serializable;
+
+import seedu.address.storage.TrustedDecodingToken;
+
 /**
  * Represents an Event's ID in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidEventId(String)}
  */
-public class EventId {
+public class EventId implements Serializable {
 
     public static final String MESSAGE_CONSTRAINTS =
             "Event ID should only contain alphanumeric characters and underscores";
     public static final String VALIDATION_REGEX = "^[a-zA-Z0-9_]+$";
 
+    private static final long serialVersionUID = 1L;
+
     public final String value;
 
     /**
@@ -21,11 +27,26 @@ public class EventId {
      * @param eventId A valid event ID.
      */
     public EventId(String eventId) {
+        this(eventId, false);
+    }
+
+    private EventId(String eventId, boolean isKnownValid) {
         requireNonNull(eventId);
-        checkArgument(isValidEventId(eventId), MESSAGE_CONSTRAINTS);
+        checkArgument(isKnownValid || isValidEventId(eventId), MESSAGE_CONSTRAINTS);
         value = eventId;
     }
 
+    /**
+     * Returns an {@code EventId} of {@code eventId}, which must be known to be a valid event ID, without validating it
+     * again.
+     *
+     * @param token proof that the caller is the storage decoder, which verifies the values it decodes.
+     */
+    public static EventId ofTrusted(String eventId, TrustedDecodingToken token) {
+        requireNonNull(token);
+        return new EventId(eventId, true);
+    }
+
     /**
      * Returns true if a given string is a valid event ID.
      */
@@ -0,0 +1,69 @@
+package seedu.address.model.event;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.common.Money;
+
+/**
+ * The events that fall within a date range, in (date, event ID) order, together with their total expense.
+ * Guarantees: immutable.
+ */
+public final class EventsInRange {
+
+    private final List<Event> events;
+    private final Money totalExpense;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public EventsInRange(List<Event> events, Money totalExpense) {
+        requireAllNonNull(events, totalExpense);
+        this.events = List.copyOf(events);
+        this.totalExpense = totalExpense;
+    }
+
+    public static EventsInRange empty() {
+        return new EventsInRange(List.of(), Money.zero());
+    }
+
+    public List<Event> getEvents() {
+        return events;
+    }
+
+    public Money getTotalExpense() {
+        return totalExpense;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof EventsInRange)) {
+            return false;
+        }
+
+        EventsInRange otherEventsInRange = (EventsInRange) other;
+        return events.equals(otherEventsInRange.events)
+                && totalExpense.equals(otherEventsInRange.totalExpense);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(events, totalExpense);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("events", events)
+                .add("totalExpense", totalExpense)
+                .toString();
+    }
+}
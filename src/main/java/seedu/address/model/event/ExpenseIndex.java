@@ -0,0 +1,94 @@
+package seedu.address.model.event;
+
+import static java.util.Objects.requireNonNull;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+
+import seedu.address.model.common.Money;
+
+/**
+ * A Fenwick (binary indexed) tree of event expenses, keyed by the epoch day of the event date.
+ * Adding or removing an expense and totalling the expenses of any date range both cost O(log D), where D is the
+ * number of representable days, independent of the number of events and of the number of dates in the range.
+ *
+ * The tree spans every epoch day a {@code LocalDate} can hold. Only the nodes on update paths are stored, so
+ * memory grows with the number of distinct event dates rather than with the span of the tree. Nodes hold exact
+ * {@code BigDecimal} totals, so no amount, however large, can make an update fail.
+ */
+class ExpenseIndex {
+
+    private static final int INDEX_BITS = 40;
+    private static final long SIZE = 1L << INDEX_BITS;
+    private static final long OFFSET = SIZE / 2;
+
+    private final Map<Long, BigDecimal> tree = new HashMap<>();
+
+    /**
+     * Adds the expense of {@code event} to its date.
+     */
+    void add(Event event) {
+        requireNonNull(event);
+        update(event.getDate(), event.getExpense().toBigDecimal());
+    }
+
+    /**
+     * Removes the expense of {@code event} from its date.
+     */
+    void remove(Event event) {
+        requireNonNull(event);
+        update(event.getDate(), event.getExpense().toBigDecimal().negate());
+    }
+
+    void clear() {
+        tree.clear();
+    }
+
+    /**
+     * Returns the total expense of the events dated from {@code start} to {@code end} inclusive.
+     */
+    Money getTotalWithin(LocalDate start, LocalDate end) {
+        requireNonNull(start);
+        requireNonNull(end);
+        if (start.isAfter(end)) {
+            return Money.zero();
+        }
+        return Money.of(prefixSum(toIndex(end)).subtract(prefixSum(toIndex(start) - 1)));
+    }
+
+    private void update(LocalDate date, BigDecimal delta) {
+        if (delta.signum() == 0) {
+            return;
+        }
+        for (long i = toIndex(date); i <= SIZE; i += Long.lowestOneBit(i)) {
+            BigDecimal updated = tree.getOrDefault(i, BigDecimal.ZERO).add(delta);
+            if (updated.signum() == 0) {
+                tree.remove(i);
+            } else {
+                tree.put(i, updated);
+            }
+        }
+    }
+
+    private BigDecimal prefixSum(long index) {
+        BigDecimal sum = BigDecimal.ZERO;
+        for (long i = index; i > 0; i -= Long.lowestOneBit(i)) {
+            BigDecimal node = tree.get(i);
+            if (node != null) {
+                sum = sum.add(node);
+            }
+        }
+        return sum;
+    }
+
+    /**
+     * Returns the 1-based tree index of {@code date}.
+     */
+    private static long toIndex(LocalDate date) {
+        long index = date.toEpochDay() + OFFSET;
+        assert index >= 1 && index <= SIZE : "epoch day out of range of the expense index";
+        return index;
+    }
+}
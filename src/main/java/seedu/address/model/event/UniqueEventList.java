@@ -2,9 +2,15 @@ package seedu.address.model.event;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
 
 import seedu.address.model.UniqueList;
+import seedu.address.model.common.Money;
 import seedu.address.model.event.exceptions.DuplicateEventException;
 import seedu.address.model.event.exceptions.EventNotFoundException;
 
@@ -15,12 +21,19 @@ import seedu.address.model.event.exceptions.EventNotFoundException;
  * unique in terms of identity in the UniqueEventList. However, the removal of an event uses Event#equals(Object) so
  * as to ensure that the event with exactly the same fields will be removed.
  *
+ * Events are indexed by {@code EventId}, so looking up an event by its ID does not scan the list. They are also
+ * kept ordered by (date, event ID), so the events within a date range are found without scanning the list, and
+ * their expenses are aggregated by date, so the total expense of a date range is found in logarithmic time.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Event#isSameEvent(Event)
  */
 public class UniqueEventList extends UniqueList<Event> {
 
+    private final NavigableMap<LocalDate, NavigableMap<String, Event>> eventsByDate = new TreeMap<>();
+    private final ExpenseIndex expenseIndex = new ExpenseIndex();
+
     /**
      * Replaces the event {@code target} in the list with {@code editedEvent}.
      * {@code target} must exist in the list.
@@ -43,11 +56,88 @@ public class UniqueEventList extends UniqueList<Event> {
         setAllFromOther(replacement);
     }
 
+    /**
+     * Returns the event identified by {@code eventId}, or null if there is no such event.
+     */
+    public Event getEvent(EventId eventId) {
+        requireNonNull(eventId);
+        return getByIdentityKey(eventId);
+    }
+
+    /**
+     * Returns the events dated from {@code start} to {@code end} inclusive, ordered by (date, event ID), together
+     * with their total expense.
+     * Returns no events if {@code start} is after {@code end}.
+     */
+    public EventsInRange getEventsWithin(LocalDate start, LocalDate end) {
+        requireNonNull(start);
+        requireNonNull(end);
+        if (start.isAfter(end)) {
+            return EventsInRange.empty();
+        }
+
+        List<Event> events = new ArrayList<>();
+        for (Map<String, Event> eventsOnDate : eventsByDate.subMap(start, true, end, true).values()) {
+            events.addAll(eventsOnDate.values());
+        }
+        return new EventsInRange(events, expenseIndex.getTotalWithin(start, end));
+    }
+
+    /**
+     * Returns the total expense of the events dated from {@code start} to {@code end} inclusive.
+     * Returns zero if {@code start} is after {@code end}.
+     */
+    public Money getTotalExpenseWithin(LocalDate start, LocalDate end) {
+        requireNonNull(start);
+        requireNonNull(end);
+        return expenseIndex.getTotalWithin(start, end);
+    }
+
     @Override
     protected boolean isSameElement(Event event1, Event event2) {
         return event1.isSameEvent(event2);
     }
 
+    @Override
+    protected Object getIdentityKey(Event event) {
+        return event.getEventId();
+    }
+
+    @Override
+    protected void onElementAdded(Event event) {
+        eventsByDate.computeIfAbsent(event.getDate(), unused -> new TreeMap<>())
+                .put(event.getEventId().value, event);
+        expenseIndex.add(event);
+    }
+
+    @Override
+    protected void onElementInserted(int index, Event event) {
+        // The date index does not follow the list order
+        onElementAdded(event);
+    }
+
+    @Override
+    protected void onElementRemoved(Event event) {
+        Map<String, Event> eventsOnDate = eventsByDate.get(event.getDate());
+        if (eventsOnDate == null) {
+            return;
+        }
+        expenseIndex.remove(event);
+        eventsOnDate.remove(event.getEventId().value);
+        if (eventsOnDate.isEmpty()) {
+            eventsByDate.remove(event.getDate());
+        }
+    }
+
+    @Override
+    protected void onElementsReset() {
+        eventsByDate.clear();
+        expenseIndex.clear();
+        for (Event event : internalList) {
+            onElementAdded(event);
+        }
+    }
+
     @Override
     protected RuntimeException createDuplicateException() {
         return new DuplicateEventException();
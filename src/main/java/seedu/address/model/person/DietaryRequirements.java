@@ -3,11 +3,15 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.io.Serializable;
+
+import seedu.address.storage.TrustedDecodingToken;
+
 /**
  * Represents a Person's dietary requirements in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidDietaryRequirements(String)}
  */
-public class DietaryRequirements {
+public class DietaryRequirements implements Serializable {
 
     public static final String MESSAGE_CONSTRAINTS =
             "Dietary requirements should not be blank";
@@ -18,6 +22,8 @@ public class DietaryRequirements {
      */
     public static final String VALIDATION_REGEX = ".*\\S.*";
 
+    private static final long serialVersionUID = 1L;
+
     public final String value;
 
     /**
@@ -26,12 +32,27 @@ public class DietaryRequirements {
      * @param dietaryRequirements A valid dietary requirements string.
      */
     public DietaryRequirements(String dietaryRequirements) {
+        this(dietaryRequirements, false);
+    }
+
+    private DietaryRequirements(String dietaryRequirements, boolean isKnownValid) {
         requireNonNull(dietaryRequirements);
         String trimmedDietaryRequirements = dietaryRequirements.trim();
-        checkArgument(isValidDietaryRequirements(trimmedDietaryRequirements), MESSAGE_CONSTRAINTS);
+        checkArgument(isKnownValid || isValidDietaryRequirements(trimmedDietaryRequirements), MESSAGE_CONSTRAINTS);
         value = trimmedDietaryRequirements;
     }
 
+    /**
+     * Returns a {@code DietaryRequirements} of {@code dietaryRequirements}, which must be known to be valid dietary
+     * requirements, without validating it again.
+     *
+     * @param token proof that the caller is the storage decoder, which verifies the values it decodes.
+     */
+    public static DietaryRequirements ofTrusted(String dietaryRequirements, TrustedDecodingToken token) {
+        requireNonNull(token);
+        return new DietaryRequirements(dietaryRequirements, true);
+    }
+
     /**
      * Returns true if a given string is a valid dietary requirements.
      */
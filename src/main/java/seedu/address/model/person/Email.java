@@ -3,11 +3,15 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.io.Serializable;
+
+import seedu.address.storage.TrustedDecodingToken;
+
 /**
  * Represents a Person's email in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidEmail(String)}
  */
-public class Email {
+public class Email implements Serializable {
 
     public static final String MESSAGE_CONSTRAINTS = "Email should be in the "
             + "format local-part@domain (e.g., john@example.com)";
@@ -23,6 +27,8 @@ public class Email {
     private static final String DOMAIN_REGEX = "(" + DOMAIN_PART_REGEX + "\\.)*" + DOMAIN_LAST_PART_REGEX;
     public static final String VALIDATION_REGEX = LOCAL_PART_REGEX + "@" + DOMAIN_REGEX;
 
+    private static final long serialVersionUID = 1L;
+
     public final String value;
 
     /**
@@ -31,11 +37,26 @@ public class Email {
      * @param email A valid email address.
      */
     public Email(String email) {
+        this(email, false);
+    }
+
+    private Email(String email, boolean isKnownValid) {
         requireNonNull(email);
-        checkArgument(isValidEmail(email), MESSAGE_CONSTRAINTS);
+        checkArgument(isKnownValid || isValidEmail(email), MESSAGE_CONSTRAINTS);
         value = email;
     }
 
+    /**
+     * Returns an {@code Email} of {@code email}, which must be known to be a valid email address, without validating
+     * it again.
+     *
+     * @param token proof that the caller is the storage decoder, which verifies the values it decodes.
+     */
+    public static Email ofTrusted(String email, TrustedDecodingToken token) {
+        requireNonNull(token);
+        return new Email(email, true);
+    }
+
     /**
      * Returns if a given string is a valid email.
      */
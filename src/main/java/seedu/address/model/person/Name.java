@@ -3,11 +3,15 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.io.Serializable;
+
+import seedu.address.storage.TrustedDecodingToken;
+
 /**
  * Represents a Person's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
  */
-public class Name {
+public class Name implements Serializable {
 
     public static final String MESSAGE_CONSTRAINTS =
             "Names should only contain alphanumeric characters, spaces and numbers, "
@@ -19,6 +23,8 @@ public class Name {
      */
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
 
+    private static final long serialVersionUID = 1L;
+
     public final String fullName;
 
     /**
@@ -27,11 +33,25 @@ public class Name {
      * @param name A valid name.
      */
     public Name(String name) {
+        this(name, false);
+    }
+
+    private Name(String name, boolean isKnownValid) {
         requireNonNull(name);
-        checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
+        checkArgument(isKnownValid || isValidName(name), MESSAGE_CONSTRAINTS);
         fullName = name;
     }
 
+    /**
+     * Returns a {@code Name} of {@code name}, which must be known to be a valid name, without validating it again.
+     *
+     * @param token proof that the caller is the storage decoder, which verifies the values it decodes.
+     */
+    public static Name ofTrusted(String name, TrustedDecodingToken token) {
+        requireNonNull(token);
+        return new Name(name, true);
+    }
+
     /**
      * Returns true if a given string is a valid name.
      */
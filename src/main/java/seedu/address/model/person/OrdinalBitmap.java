@@ -0,0 +1,440 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Arrays;
+
+/**
+ * A compressed set of non-negative ints, such as the ordinals of persons, laid out as a Roaring bitmap.
+ *
+ * Values are grouped into chunks by their upper 16 bits, and the lower 16 bits of the values in each chunk are held
+ * in a container: a sorted array while the chunk holds at most {@value #MAX_ARRAY_SIZE} values, and a bitmap of
+ * 65536 bits otherwise. A sparse set thus takes two bytes a value and a dense one a bit a value, and set operations
+ * combine the containers chunk by chunk, 64 values at a time where both are bitmaps.
+ *
+ * Set operations return new bitmaps, sharing no containers with either operand.
+ */
+final class OrdinalBitmap implements OrdinalSet {
+
+    /** The most values a container holds as an array; above this, a bitmap of the chunk is smaller. */
+    static final int MAX_ARRAY_SIZE = 4096;
+
+    private static final int BITMAP_WORDS = (1 << Character.SIZE) / Long.SIZE;
+
+    private char[] keys = new char[0]; // the upper 16 bits of the values in each container, in ascending order
+    private Container[] containers = new Container[0];
+    private int containerCount;
+    private int size;
+
+    /**
+     * Returns a bitmap of {@code values}.
+     */
+    static OrdinalBitmap of(int... values) {
+        OrdinalBitmap bitmap = new OrdinalBitmap();
+        for (int value : values) {
+            bitmap.add(value);
+        }
+        return bitmap;
+    }
+
+    /**
+     * Adds {@code value}, which must not be negative, if it is not already in the set.
+     */
+    void add(int value) {
+        checkArgument(value >= 0);
+        char key = (char) (value >>> Character.SIZE);
+        int index = Arrays.binarySearch(keys, 0, containerCount, key);
+        if (index < 0) {
+            index = -index - 1;
+            insertContainer(index, key, new Container());
+        }
+        if (containers[index].add((char) value)) {
+            size++;
+        }
+    }
+
+    /**
+     * Removes {@code value}, if it is in the set.
+     */
+    void remove(int value) {
+        if (value < 0) {
+            return;
+        }
+        int index = Arrays.binarySearch(keys, 0, containerCount, (char) (value >>> Character.SIZE));
+        if (index < 0 || !containers[index].remove((char) value)) {
+            return;
+        }
+        size--;
+        if (containers[index].size == 0) {
+            System.arraycopy(keys, index + 1, keys, index, containerCount - index - 1);
+            System.arraycopy(containers, index + 1, containers, index, containerCount - index - 1);
+            containers[--containerCount] = null;
+        }
+    }
+
+    @Override
+    public boolean contains(int value) {
+        if (value < 0) {
+            return false;
+        }
+        int index = Arrays.binarySearch(keys, 0, containerCount, (char) (value >>> Character.SIZE));
+        return index >= 0 && containers[index].contains((char) value);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int[] toArray() {
+        int[] values = new int[size];
+        int offset = 0;
+        for (int i = 0; i < containerCount; i++) {
+            offset = containers[i].copyTo(keys[i] << Character.SIZE, values, offset);
+        }
+        return values;
+    }
+
+    @Override
+    public OrdinalBitmap toBitmap() {
+        return this;
+    }
+
+    @Override
+    public long getReadCost() {
+        long cost = 0;
+        for (int i = 0; i < containerCount; i++) {
+            cost += containers[i].isArray() ? containers[i].size : BITMAP_WORDS;
+        }
+        return cost;
+    }
+
+    /**
+     * Returns the values in both this set and {@code other}.
+     */
+    OrdinalBitmap and(OrdinalBitmap other) {
+        OrdinalBitmap result = new OrdinalBitmap();
+        int i = 0;
+        int j = 0;
+        while (i < containerCount && j < other.containerCount) {
+            if (keys[i] < other.keys[j]) {
+                i++;
+            } else if (keys[i] > other.keys[j]) {
+                j++;
+            } else {
+                result.appendContainer(keys[i], containers[i++].and(other.containers[j++]));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the values in this set, {@code other}, or both.
+     */
+    OrdinalBitmap or(OrdinalBitmap other) {
+        OrdinalBitmap result = new OrdinalBitmap();
+        int i = 0;
+        int j = 0;
+        while (i < containerCount || j < other.containerCount) {
+            if (j == other.containerCount || (i < containerCount && keys[i] < other.keys[j])) {
+                result.appendContainer(keys[i], containers[i++].copy());
+            } else if (i == containerCount || keys[i] > other.keys[j]) {
+                result.appendContainer(other.keys[j], other.containers[j++].copy());
+            } else {
+                result.appendContainer(keys[i], containers[i++].or(other.containers[j++]));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the values in this set that are not in {@code other}.
+     */
+    OrdinalBitmap andNot(OrdinalBitmap other) {
+        OrdinalBitmap result = new OrdinalBitmap();
+        int j = 0;
+        for (int i = 0; i < containerCount; i++) {
+            while (j < other.containerCount && other.keys[j] < keys[i]) {
+                j++;
+            }
+            boolean isInOther = j < other.containerCount && other.keys[j] == keys[i];
+            Container difference = isInOther ? containers[i].andNot(other.containers[j]) : containers[i].copy();
+            result.appendContainer(keys[i], difference);
+        }
+        return result;
+    }
+
+    private void insertContainer(int index, char key, Container container) {
+        if (containerCount == keys.length) {
+            int capacity = Math.max(4, containerCount * 2);
+            keys = Arrays.copyOf(keys, capacity);
+            containers = Arrays.copyOf(containers, capacity);
+        }
+        System.arraycopy(keys, index, keys, index + 1, containerCount - index);
+        System.arraycopy(containers, index, containers, index + 1, containerCount - index);
+        keys[index] = key;
+        containers[index] = container;
+        containerCount++;
+    }
+
+    /**
+     * Appends {@code container}, whose key must be greater than those of every container, unless it is empty.
+     */
+    private void appendContainer(char key, Container container) {
+        if (container.size == 0) {
+            return;
+        }
+        insertContainer(containerCount, key, container);
+        size += container.size;
+    }
+
+    /**
+     * The lower 16 bits of the values in one chunk, held as a sorted array or as a bitmap, whichever is smaller.
+     */
+    private static final class Container {
+        private char[] values = new char[4]; // null while a bitmap
+        private long[] words; // null while an array
+        private int size;
+
+        boolean isArray() {
+            return values != null;
+        }
+
+        boolean contains(char value) {
+            if (isArray()) {
+                return Arrays.binarySearch(values, 0, size, value) >= 0;
+            }
+            return (words[value >>> 6] & (1L << value)) != 0;
+        }
+
+        /**
+         * Adds {@code value}, returning true if it was not already in the container.
+         */
+        boolean add(char value) {
+            if (!isArray()) {
+                long bit = 1L << value;
+                if ((words[value >>> 6] & bit) != 0) {
+                    return false;
+                }
+                words[value >>> 6] |= bit;
+                size++;
+                return true;
+            }
+            int index = Arrays.binarySearch(values, 0, size, value);
+            if (index >= 0) {
+                return false;
+            }
+            if (size == MAX_ARRAY_SIZE) {
+                convertToBitmap();
+                return add(value);
+            }
+            index = -index - 1;
+            if (size == values.length) {
+                values = Arrays.copyOf(values, Math.min(MAX_ARRAY_SIZE, size * 2));
+            }
+            System.arraycopy(values, index, values, index + 1, size - index);
+            values[index] = value;
+            size++;
+            return true;
+        }
+
+        /**
+         * Removes {@code value}, returning true if it was in the container.
+         */
+        boolean remove(char value) {
+            if (!isArray()) {
+                long bit = 1L << value;
+                if ((words[value >>> 6] & bit) == 0) {
+                    return false;
+                }
+                words[value >>> 6] &= ~bit;
+                size--;
+                if (size <= MAX_ARRAY_SIZE) {
+                    convertToArray();
+                }
+                return true;
+            }
+            int index = Arrays.binarySearch(values, 0, size, value);
+            if (index < 0) {
+                return false;
+            }
+            System.arraycopy(values, index + 1, values, index, size - index - 1);
+            size--;
+            return true;
+        }
+
+        Container and(Container other) {
+            if (isArray() && other.isArray()) {
+                char[] result = new char[Math.min(size, other.size)];
+                int count = 0;
+                int i = 0;
+                int j = 0;
+                while (i < size && j < other.size) {
+                    if (values[i] < other.values[j]) {
+                        i++;
+                    } else if (values[i] > other.values[j]) {
+                        j++;
+                    } else {
+                        result[count++] = values[i];
+                        i++;
+                        j++;
+                    }
+                }
+                return ofArray(result, count);
+            }
+            if (isArray() || other.isArray()) {
+                Container array = isArray() ? this : other;
+                Container bitmap = isArray() ? other : this;
+                return array.filter(bitmap, true);
+            }
+            long[] result = new long[BITMAP_WORDS];
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                result[i] = words[i] & other.words[i];
+            }
+            return ofWords(result);
+        }
+
+        Container or(Container other) {
+            if (isArray() && other.isArray() && size + other.size <= MAX_ARRAY_SIZE) {
+                char[] result = new char[size + other.size];
+                int count = 0;
+                int i = 0;
+                int j = 0;
+                while (i < size || j < other.size) {
+                    if (j == other.size || (i < size && values[i] < other.values[j])) {
+                        result[count++] = values[i++];
+                    } else if (i == size || values[i] > other.values[j]) {
+                        result[count++] = other.values[j++];
+                    } else {
+                        result[count++] = values[i];
+                        i++;
+                        j++;
+                    }
+                }
+                return ofArray(result, count);
+            }
+            long[] result = toWords();
+            if (other.isArray()) {
+                for (int j = 0; j < other.size; j++) {
+                    result[other.values[j] >>> 6] |= 1L << other.values[j];
+                }
+            } else {
+                for (int i = 0; i < BITMAP_WORDS; i++) {
+                    result[i] |= other.words[i];
+                }
+            }
+            return ofWords(result);
+        }
+
+        Container andNot(Container other) {
+            if (isArray()) {
+                return filter(other, false);
+            }
+            long[] result = words.clone();
+            if (other.isArray()) {
+                for (int j = 0; j < other.size; j++) {
+                    result[other.values[j] >>> 6] &= ~(1L << other.values[j]);
+                }
+            } else {
+                for (int i = 0; i < BITMAP_WORDS; i++) {
+                    result[i] &= ~other.words[i];
+                }
+            }
+            return ofWords(result);
+        }
+
+        Container copy() {
+            return isArray() ? ofArray(Arrays.copyOf(values, size), size) : ofWords(words.clone());
+        }
+
+        /**
+         * Copies the values into {@code destination} from {@code offset}, each added to {@code base}, and returns the
+         * offset after the last value copied.
+         */
+        int copyTo(int base, int[] destination, int offset) {
+            if (isArray()) {
+                for (int i = 0; i < size; i++) {
+                    destination[offset++] = base + values[i];
+                }
+                return offset;
+            }
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                long word = words[i];
+                while (word != 0) {
+                    destination[offset++] = base + i * Long.SIZE + Long.numberOfTrailingZeros(word);
+                    word &= word - 1;
+                }
+            }
+            return offset;
+        }
+
+        /**
+         * Returns the values of this array container that are in {@code other} if {@code isKept}, or that are not
+         * otherwise.
+         */
+        private Container filter(Container other, boolean isKept) {
+            char[] result = new char[size];
+            int count = 0;
+            for (int i = 0; i < size; i++) {
+                if (other.contains(values[i]) == isKept) {
+                    result[count++] = values[i];
+                }
+            }
+            return ofArray(result, count);
+        }
+
+        private long[] toWords() {
+            if (!isArray()) {
+                return words.clone();
+            }
+            long[] result = new long[BITMAP_WORDS];
+            for (int i = 0; i < size; i++) {
+                result[values[i] >>> 6] |= 1L << values[i];
+            }
+            return result;
+        }
+
+        private void convertToBitmap() {
+            words = toWords();
+            values = null;
+        }
+
+        private void convertToArray() {
+            char[] result = new char[Math.max(4, size)];
+            int count = 0;
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                long word = words[i];
+                while (word != 0) {
+                    result[count++] = (char) (i * Long.SIZE + Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+            values = result;
+            words = null;
+        }
+
+        private static Container ofArray(char[] values, int size) {
+            Container container = new Container();
+            container.values = values.length == 0 ? new char[4] : values;
+            container.size = size;
+            return container;
+        }
+
+        /**
+         * Returns a container of the bits set in {@code words}, held as an array if there are few enough.
+         */
+        private static Container ofWords(long[] words) {
+            Container container = new Container();
+            container.values = null;
+            container.words = words;
+            for (long word : words) {
+                container.size += Long.bitCount(word);
+            }
+            if (container.size <= MAX_ARRAY_SIZE) {
+                container.convertToArray();
+            }
+            return container;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package seedu.address.model.person;
+
+/**
+ * A set of the ordinals of persons in a {@link PersonTokenIndex}, as found through one of its indexes.
+ */
+interface OrdinalSet {
+
+    int size();
+
+    boolean contains(int ordinal);
+
+    /**
+     * Returns the ordinals in the set, in ascending order.
+     */
+    int[] toArray();
+
+    /**
+     * Returns the ordinals in the set as a bitmap, which may be this set itself, and so must not be modified.
+     */
+    OrdinalBitmap toBitmap();
+
+    /**
+     * Returns the number of values and words read to go through the whole set.
+     */
+    long getReadCost();
+}
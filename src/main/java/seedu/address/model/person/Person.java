@@ -2,6 +2,7 @@ package seedu.address.model.person;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.io.Serializable;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Objects;
@@ -14,7 +15,9 @@ import seedu.address.model.tag.Tag;
  * Represents a Person in the address book.
  * Guarantees: details are present and not null, field values are validated, immutable.
  */
-public class Person {
+public class Person implements Serializable {
+
+    private static final long serialVersionUID = 1L;
 
     // Identity fields
     private final Name name;
@@ -28,6 +31,9 @@ public class Person {
     private final Role role;
     private final Set<Tag> tags = new HashSet<>();
 
+    // Derived from the fields when first searched; safe to share between threads, as it is immutable
+    private transient SearchDocument searchDocument;
+
     /**
      * Every field must be present and not null.
      */
@@ -85,6 +91,18 @@ public class Person {
         return Collections.unmodifiableSet(tags);
     }
 
+    /**
+     * Returns the searchable words in the fields of this person.
+     */
+    SearchDocument getSearchDocument() {
+        SearchDocument document = searchDocument;
+        if (document == null) {
+            document = SearchDocument.of(this);
+            searchDocument = document;
+        }
+        return document;
+    }
+
     /**
      * Returns true if both persons have the same student number (case-insensitive).
      * This defines identity for duplicate detection and uniqueness.
@@ -96,7 +114,8 @@ public class Person {
         }
 
         return otherPerson != null
-                && otherPerson.getStudentNumber().value.equalsIgnoreCase(getStudentNumber().value);
+                && otherPerson.getStudentNumber().getNormalizedValue()
+                        .equals(getStudentNumber().getNormalizedValue());
     }
 
     /**
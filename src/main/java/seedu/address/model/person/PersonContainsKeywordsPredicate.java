@@ -3,7 +3,6 @@ package seedu.address.model.person;
 import java.util.List;
 import java.util.function.Predicate;
 
-import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
 
 /**
@@ -12,10 +11,36 @@ import seedu.address.commons.util.ToStringBuilder;
  * Uses AND logic - all keywords must be found in the person's fields.
  */
 public class PersonContainsKeywordsPredicate implements Predicate<Person> {
+
+    public static final String MESSAGE_CONSTRAINTS = "Keywords should be single, non-empty words";
+
     private final List<String> keywords;
+    private final String[] foldedKeywords;
+    private final boolean[] matchesEveryPerson;
 
+    /**
+     * Creates a predicate matching the persons whose fields contain every one of {@code keywords},
+     * A keyword that is not a single word matches no person.
+     */
     public PersonContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        foldedKeywords = new String[keywords.size()];
+        matchesEveryPerson = new boolean[keywords.size()];
+        for (int i = 0; i < keywords.size(); i++) {
+            foldedKeywords[i] = SearchDocument.foldKeyword(keywords.get(i));
+            matchesEveryPerson[i] = matchesEveryPerson(keywords.get(i));
+        }
+    }
+
+    /**
+     * Returns true if {@code keyword} is a single word, which can be searched for.
+     */
+    public static boolean isValidKeyword(String keyword) {
+        return SearchDocument.foldKeyword(keyword) != null;
+    }
+
+    public List<String> getKeywords() {
+        return keywords;
     }
 
     @Override
@@ -23,39 +48,23 @@ public class PersonContainsKeywordsPredicate implements Predicate<Person> {
         if (keywords.isEmpty()) {
             return false;
         }
-        return keywords.stream()
-                .allMatch(keyword ->
-                    StringUtil.containsWordIgnoreCase(person.getName().fullName, keyword)
-                    || StringUtil.containsWordIgnoreCase(person.getYear().toString(), keyword)
-                    || StringUtil.containsWordIgnoreCase(person.getStudentNumber().value, keyword)
-                    || StringUtil.containsWordIgnoreCase(person.getEmail().value, keyword)
-                    || StringUtil.containsWordIgnoreCase(person.getPhone().value, keyword)
-                    || StringUtil.containsWordIgnoreCase(person.getDietaryRequirements().value, keyword)
-                    || StringUtil.containsWordIgnoreCase(person.getRole().value, keyword)
-                    || person.getTags().stream().anyMatch(tag ->
-                        StringUtil.containsWordIgnoreCase(tag.tagName, keyword))
-                    || isYearMatch(keyword, person.getYear().toString())
-                );
+        SearchDocument document = person.getSearchDocument();
+        for (int i = 0; i < foldedKeywords.length; i++) {
+            // A numeric keyword alongside "year" need only match the year, which is one of the fields searched
+            if (!matchesEveryPerson[i]
+                    && (foldedKeywords[i] == null || !document.containsWord(foldedKeywords[i]))) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
-     * Special handling for year-related searches.
-     * If keyword is "year" and there are numeric keywords, or if keyword is numeric and there's a "year" keyword,
-     * then match against the person's year field.
+     * Returns true if {@code keyword} is "year" and there are numeric keywords in the search, in which case it
+     * matches every person.
      */
-    private boolean isYearMatch(String keyword, String personYear) {
-        // If the keyword is "year", check if there are any numeric keywords in the search
-        if (keyword.equalsIgnoreCase("year")) {
-            return keywords.stream().anyMatch(k -> k.matches("\\d+"));
-        }
-
-        // If the keyword is numeric, check if there's a "year" keyword in the search
-        if (keyword.matches("\\d+")) {
-            return keywords.stream().anyMatch(k -> k.equalsIgnoreCase("year"))
-                   && StringUtil.containsWordIgnoreCase(personYear, keyword);
-        }
-
-        return false;
+    boolean matchesEveryPerson(String keyword) {
+        return keyword.equalsIgnoreCase("year") && keywords.stream().anyMatch(k -> k.matches("\\d+"));
     }
 
     @Override
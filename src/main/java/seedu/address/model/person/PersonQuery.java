@@ -0,0 +1,83 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Tests that a {@code Person} satisfies ANY of a list of branches, each of which is satisfied when ALL of its
+ * {@link QueryClause}s are.
+ * Queries are answered through the word index of the person list when filtering the persons of a model, as planned
+ * by {@link QueryPlan}.
+ */
+public class PersonQuery implements Predicate<Person> {
+
+    public static final String MESSAGE_CONSTRAINTS = "Every part of a query should have at least one condition";
+
+    private final List<List<QueryClause>> branches;
+
+    /**
+     * Creates a query matching the persons that satisfy every clause of at least one of {@code branches}.
+     */
+    public PersonQuery(List<List<QueryClause>> branches) {
+        requireNonNull(branches);
+        checkArgument(!branches.isEmpty() && branches.stream().noneMatch(List::isEmpty), MESSAGE_CONSTRAINTS);
+        this.branches = branches.stream().map(List::copyOf).collect(Collectors.toUnmodifiableList());
+    }
+
+    /**
+     * Returns a query matching the persons with every one of {@code tags}, which must not be empty.
+     */
+    public static PersonQuery withAllTags(Collection<Tag> tags) {
+        requireNonNull(tags);
+        return new PersonQuery(List.of(tags.stream()
+                .map(tag -> new QueryClause(SearchField.TAG, tag.tagName, false))
+                .collect(Collectors.toList())));
+    }
+
+    public List<List<QueryClause>> getBranches() {
+        return branches;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        for (List<QueryClause> branch : branches) {
+            if (branch.stream().allMatch(clause -> clause.matches(person))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersonQuery)) {
+            return false;
+        }
+
+        PersonQuery otherQuery = (PersonQuery) other;
+        return branches.equals(otherQuery.branches);
+    }
+
+    @Override
+    public int hashCode() {
+        return branches.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("branches", branches).toString();
+    }
+}
@@ -0,0 +1,506 @@
+package seedu.address.model.person;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * An inverted index from the words in the fields of persons to the persons containing them, used to answer
+ * {@link PersonContainsKeywordsPredicate} by intersecting posting lists once, so that each person need then only be
+ * looked up in the result rather than have their fields compared. The filtered person list still visits every
+ * person, so this makes a search faster by a constant factor, and does not make it independent of their number.
+ *
+ * Each person indexed is given an ordinal, in the order they are indexed, and each word maps to a posting list of the
+ * ordinals of the persons containing it, in ascending order. Words are taken from the {@link SearchDocument} of each
+ * person, so two words share a posting list exactly when they are equal ignoring case.
+ *
+ * The words of the fields in {@link #INDEXED_FIELDS} are also indexed on their own, and so are tags, in an
+ * {@link OrdinalBitmap} per tag, so that a {@link PersonQuery} limited to these fields can be answered exactly, as
+ * planned by {@link #plan(PersonQuery)}. Queries of tags alone are answered by combining their bitmaps.
+ *
+ * The distinct words are also kept in a {@link TokenTrie}, so that persons can be found by the start of a word, even
+ * with a few typos.
+ *
+ * Persons are tracked by identity, as they are held by the {@code UniquePersonList} that maintains this index.
+ */
+class PersonTokenIndex {
+
+    /** Ordinals are renumbered once more than this many, in addition to the persons indexed, have been used. */
+    private static final int MAX_UNUSED_ORDINALS = 1024;
+
+    /** The fields with an index of their own, which are those queries are most often limited to. */
+    static final Set<SearchField> INDEXED_FIELDS = Collections.unmodifiableSet(
+            EnumSet.of(SearchField.YEAR, SearchField.ROLE));
+
+    /** Orders persons found by name, then by student number, so that the order does not depend on their ordinals. */
+    private static final Comparator<Person> BY_NAME = Comparator
+            .<Person, String>comparing(person -> person.getName().fullName, String.CASE_INSENSITIVE_ORDER)
+            .thenComparing(person -> person.getStudentNumber().getNormalizedValue());
+
+    private final Map<String, PostingList> postings = new HashMap<>();
+    private final Map<SearchField, Map<String, PostingList>> fieldPostings = new EnumMap<>(SearchField.class);
+    private final Map<String, OrdinalBitmap> tagBitmaps = new HashMap<>();
+    private OrdinalBitmap allOrdinals = new OrdinalBitmap(); // of every person indexed
+    private TokenTrie trie = new TokenTrie();
+    private final Map<Person, Integer> ordinals = new IdentityHashMap<>();
+    private Person[] personsByOrdinal = new Person[16];
+    private int nextOrdinal;
+    private int generation; // increases whenever existing ordinals are renumbered or dropped
+
+    /**
+     * Adds {@code person}, which must not already be indexed.
+     */
+    void add(Person person) {
+        assert !ordinals.containsKey(person);
+        if (nextOrdinal - ordinals.size() > Math.max(MAX_UNUSED_ORDINALS, ordinals.size())) {
+            renumber();
+        }
+        int ordinal = nextOrdinal++;
+        if (ordinal == personsByOrdinal.length) {
+            personsByOrdinal = Arrays.copyOf(personsByOrdinal, ordinal * 2);
+        }
+        personsByOrdinal[ordinal] = person;
+        ordinals.put(person, ordinal);
+        // Ordinals only increase, so each is appended to the end of its posting lists
+        for (String token : getTokens(person)) {
+            PostingList postingList = postings.get(token);
+            if (postingList == null) {
+                postingList = new PostingList();
+                postings.put(token, postingList);
+                trie.add(token);
+            }
+            postingList.append(ordinal);
+        }
+        for (SearchField field : INDEXED_FIELDS) {
+            Map<String, PostingList> postingsOfField = fieldPostings.computeIfAbsent(field, unused -> new HashMap<>());
+            for (String token : getTokens(person, field)) {
+                postingsOfField.computeIfAbsent(token, unused -> new PostingList()).append(ordinal);
+            }
+        }
+        for (String tag : getTokens(person, SearchField.TAG)) {
+            tagBitmaps.computeIfAbsent(tag, unused -> new OrdinalBitmap()).add(ordinal);
+        }
+        allOrdinals.add(ordinal);
+    }
+
+    /**
+     * Removes {@code person}, which must be indexed.
+     */
+    void remove(Person person) {
+        Integer ordinal = ordinals.remove(person);
+        assert ordinal != null;
+        personsByOrdinal[ordinal] = null;
+        for (String token : getTokens(person)) {
+            PostingList postingList = postings.get(token);
+            postingList.remove(ordinal);
+            if (postingList.size == 0) {
+                postings.remove(token);
+                trie.remove(token);
+            }
+        }
+        for (SearchField field : INDEXED_FIELDS) {
+            Map<String, PostingList> postingsOfField = fieldPostings.get(field);
+            for (String token : getTokens(person, field)) {
+                PostingList postingList = postingsOfField.get(token);
+                postingList.remove(ordinal);
+                if (postingList.size == 0) {
+                    postingsOfField.remove(token);
+                }
+            }
+        }
+        for (String tag : getTokens(person, SearchField.TAG)) {
+            OrdinalBitmap bitmap = tagBitmaps.get(tag);
+            bitmap.remove(ordinal);
+            if (bitmap.size() == 0) {
+                tagBitmaps.remove(tag);
+            }
+        }
+        allOrdinals.remove(ordinal);
+    }
+
+    /**
+     * Returns a predicate that gives the same results as {@code predicate}.
+     * Persons indexed when this method is called are tested by looking up whether they were found through the
+     * index, which stays correct for as long as they exist, as persons are immutable. Persons indexed later are
+     * tested by {@code predicate}.
+     */
+    Predicate<Person> createPredicate(PersonContainsKeywordsPredicate predicate) {
+        List<String> keywords = predicate.getKeywords();
+        if (keywords.isEmpty()) {
+            return predicate;
+        }
+
+        List<OrdinalSet> postingLists = new ArrayList<>();
+        for (String keyword : keywords) {
+            if (predicate.matchesEveryPerson(keyword)) {
+                continue;
+            }
+            PostingList postingList = postings.get(SearchDocument.foldKeyword(keyword));
+            if (postingList == null) {
+                postingLists = List.of(new PostingList());
+                break;
+            }
+            postingLists.add(postingList);
+        }
+        return new IndexedPredicate(this, predicate, OrdinalBitmap.of(intersect(postingLists)), nextOrdinal,
+                generation);
+    }
+
+    /**
+     * Returns a predicate that gives the same results as {@code query}, answered by {@link #plan(PersonQuery)}.
+     * Persons indexed later are tested by {@code query}.
+     */
+    Predicate<Person> createPredicate(PersonQuery query) {
+        return new IndexedPredicate(this, query, execute(plan(query)), nextOrdinal, generation);
+    }
+
+    /**
+     * Returns the persons matching {@code query}, ordered by name, then by student number.
+     */
+    List<Person> find(PersonQuery query) {
+        List<Person> matches = new ArrayList<>();
+        for (int ordinal : execute(plan(query)).toArray()) {
+            matches.add(personsByOrdinal[ordinal]);
+        }
+        matches.sort(BY_NAME);
+        return matches;
+    }
+
+    /**
+     * Returns the plan for answering {@code query} from the persons currently indexed.
+     * Each clause of a branch that must contain a word is looked up in the index of its field, if there is one, and
+     * otherwise in the index of the words in every field, in which case it is also checked against each person
+     * found, as the word may be in another field. Negated clauses are checked against each person found, except in
+     * branches of tags alone, which are answered by combining the bitmaps of the tags.
+     */
+    QueryPlan plan(PersonQuery query) {
+        List<QueryPlan.Branch> branches = new ArrayList<>();
+        for (List<QueryClause> clauses : query.getBranches()) {
+            boolean isTagsOnly = clauses.stream().allMatch(clause -> clause.getField() == SearchField.TAG);
+            List<QueryPlan.Lookup> lookups = new ArrayList<>();
+            List<QueryPlan.Lookup> exclusions = new ArrayList<>();
+            List<QueryClause> checks = new ArrayList<>();
+            QueryClause missingClause = null;
+            for (QueryClause clause : clauses) {
+                OrdinalSet ordinalSet = lookUp(clause);
+                if (clause.isNegated()) {
+                    if (!isTagsOnly) {
+                        checks.add(clause);
+                    } else if (ordinalSet != null) {
+                        exclusions.add(new QueryPlan.Lookup(clause, SearchField.TAG, ordinalSet));
+                    }
+                    continue;
+                }
+                if (ordinalSet == null) {
+                    missingClause = clause;
+                    break;
+                }
+                SearchField indexedField = getIndexedField(clause.getField());
+                lookups.add(new QueryPlan.Lookup(clause, indexedField, ordinalSet));
+                if (indexedField != clause.getField()) {
+                    checks.add(clause);
+                }
+            }
+            lookups.sort(Comparator.comparingInt(QueryPlan.Lookup::getSize));
+            branches.add(new QueryPlan.Branch(lookups, exclusions, checks, missingClause, allOrdinals, isTagsOnly));
+        }
+        return new QueryPlan(branches);
+    }
+
+    /**
+     * Returns the field whose index holds the words of {@code field}, which is {@link SearchField#ANY} for the index
+     * of the words in every field.
+     */
+    private static SearchField getIndexedField(SearchField field) {
+        return INDEXED_FIELDS.contains(field) || field == SearchField.TAG ? field : SearchField.ANY;
+    }
+
+    /**
+     * Returns the ordinals of the persons whose indexed field contains the word of {@code clause}, ignoring whether
+     * it is negated, or null if there are none.
+     */
+    private OrdinalSet lookUp(QueryClause clause) {
+        SearchField indexedField = getIndexedField(clause.getField());
+        if (indexedField == SearchField.TAG) {
+            return tagBitmaps.get(clause.getFoldedWord());
+        }
+        return indexedField == SearchField.ANY
+                ? postings.get(clause.getFoldedWord())
+                : fieldPostings.getOrDefault(indexedField, Map.of()).get(clause.getFoldedWord());
+    }
+
+    /**
+     * Returns the ordinals of the persons matching {@code plan}.
+     */
+    private OrdinalBitmap execute(QueryPlan plan) {
+        OrdinalBitmap matches = new OrdinalBitmap();
+        for (QueryPlan.Branch branch : plan.getBranches()) {
+            if (branch.isEmpty()) {
+                continue;
+            }
+            if (branch.isCombinedAsBitmaps()) {
+                OrdinalBitmap branchMatches = allOrdinals;
+                for (QueryPlan.Lookup lookup : branch.getLookups()) {
+                    branchMatches = branchMatches == allOrdinals
+                            ? lookup.getOrdinals().toBitmap()
+                            : branchMatches.and(lookup.getOrdinals().toBitmap());
+                }
+                for (QueryPlan.Lookup exclusion : branch.getExclusions()) {
+                    branchMatches = branchMatches.andNot(exclusion.getOrdinals().toBitmap());
+                }
+                matches = matches.or(branchMatches);
+                continue;
+            }
+            List<OrdinalSet> ordinalSets = new ArrayList<>();
+            branch.getLookups().forEach(lookup -> ordinalSets.add(lookup.getOrdinals()));
+            for (int ordinal : intersect(ordinalSets)) {
+                Person person = personsByOrdinal[ordinal];
+                if (branch.getChecks().stream().allMatch(clause -> clause.matches(person))) {
+                    matches.add(ordinal);
+                }
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns up to {@code limit} persons with a word starting with each of {@code words}, allowing for a few typos
+     * in each, ranked by the total number of typos, then by name and student number.
+     * Only the persons matching a word are visited.
+     */
+    List<Person> findApproximately(List<String> words, int limit) {
+        List<Map<Integer, Integer>> typosByWord = new ArrayList<>();
+        for (String word : words) {
+            String prefix = SearchDocument.fold(word.trim());
+            Map<Integer, Integer> typos = new HashMap<>();
+            trie.forEachMatch(prefix, getMaxTypos(prefix), (token, distance) -> {
+                PostingList postingList = postings.get(token);
+                for (int i = 0; i < postingList.size; i++) {
+                    typos.merge(postingList.ordinals[i], distance, Math::min);
+                }
+            });
+            if (typos.isEmpty()) {
+                return List.of();
+            }
+            typosByWord.add(typos);
+        }
+        if (typosByWord.isEmpty()) {
+            return List.of();
+        }
+        typosByWord.sort(Comparator.comparingInt(Map::size));
+
+        List<RankedPerson> matches = new ArrayList<>();
+        for (Map.Entry<Integer, Integer> candidate : typosByWord.get(0).entrySet()) {
+            int totalTypos = candidate.getValue();
+            for (int i = 1; i < typosByWord.size() && totalTypos >= 0; i++) {
+                Integer typos = typosByWord.get(i).get(candidate.getKey());
+                totalTypos = typos == null ? -1 : totalTypos + typos;
+            }
+            if (totalTypos >= 0) {
+                matches.add(new RankedPerson(personsByOrdinal[candidate.getKey()], totalTypos));
+            }
+        }
+
+        return matches.stream()
+                .sorted(Comparator.<RankedPerson>comparingInt(match -> match.typos)
+                        .thenComparing(match -> match.person, BY_NAME))
+                .limit(limit)
+                .map(match -> match.person)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the number of typos allowed in a word starting with {@code prefix}, which grows with its length.
+     */
+    static int getMaxTypos(String prefix) {
+        if (prefix.length() < 3) {
+            return 0;
+        }
+        return prefix.length() < 6 ? 1 : 2;
+    }
+
+    /**
+     * Returns the ordinals in every one of {@code postingLists}, in ascending order, or every ordinal in use if
+     * there are no posting lists.
+     * The cost is proportional to the length of the shortest posting list.
+     */
+    private int[] intersect(List<OrdinalSet> postingLists) {
+        if (postingLists.isEmpty()) {
+            return allOrdinals.toArray();
+        }
+        List<OrdinalSet> bySize = new ArrayList<>(postingLists);
+        bySize.sort(Comparator.comparingInt(OrdinalSet::size));
+        int[] shortest = bySize.get(0).toArray();
+
+        int[] matches = new int[shortest.length];
+        int matchCount = 0;
+        for (int ordinal : shortest) {
+            boolean isInAll = true;
+            for (int j = 1; j < bySize.size() && isInAll; j++) {
+                isInAll = bySize.get(j).contains(ordinal);
+            }
+            if (isInAll) {
+                matches[matchCount++] = ordinal;
+            }
+        }
+        return Arrays.copyOf(matches, matchCount);
+    }
+
+    /**
+     * Drops every person indexed, so that the index holds on to none of them. Predicates created earlier go back to
+     * testing persons themselves.
+     */
+    void clear() {
+        postings.clear();
+        fieldPostings.clear();
+        tagBitmaps.clear();
+        allOrdinals = new OrdinalBitmap();
+        trie = new TokenTrie();
+        ordinals.clear();
+        personsByOrdinal = new Person[16];
+        nextOrdinal = 0;
+        generation++;
+    }
+
+    /**
+     * Gives the persons indexed new ordinals from zero, in the same order, so that ordinals left unused by removed
+     * persons can be reused.
+     */
+    private void renumber() {
+        List<Person> persons = new ArrayList<>(ordinals.size());
+        for (int i = 0; i < nextOrdinal; i++) {
+            if (personsByOrdinal[i] != null) {
+                persons.add(personsByOrdinal[i]);
+            }
+        }
+        postings.clear();
+        fieldPostings.clear();
+        tagBitmaps.clear();
+        allOrdinals = new OrdinalBitmap();
+        trie = new TokenTrie();
+        ordinals.clear();
+        personsByOrdinal = new Person[Math.max(16, persons.size() * 2)];
+        nextOrdinal = 0;
+        generation++;
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Returns the words in the searchable fields of {@code person}, without duplicates.
+     */
+    private static Set<String> getTokens(Person person) {
+        Set<String> tokens = new HashSet<>();
+        person.getSearchDocument().forEachWord(tokens::add);
+        return tokens;
+    }
+
+    /**
+     * Returns the words in {@code field} of {@code person}, without duplicates.
+     */
+    private static Set<String> getTokens(Person person, SearchField field) {
+        Set<String> tokens = new HashSet<>();
+        person.getSearchDocument().forEachWord(field, tokens::add);
+        return tokens;
+    }
+
+    /**
+     * The ordinals of the persons containing a word, in ascending order.
+     */
+    static class PostingList implements OrdinalSet {
+        private int[] ordinals = new int[4];
+        private int size;
+
+        void append(int ordinal) {
+            assert size == 0 || ordinals[size - 1] < ordinal;
+            if (size == ordinals.length) {
+                ordinals = Arrays.copyOf(ordinals, size * 2);
+            }
+            ordinals[size++] = ordinal;
+        }
+
+        void remove(int ordinal) {
+            int index = Arrays.binarySearch(ordinals, 0, size, ordinal);
+            assert index >= 0;
+            System.arraycopy(ordinals, index + 1, ordinals, index, size - index - 1);
+            size--;
+        }
+
+        @Override
+        public boolean contains(int ordinal) {
+            return Arrays.binarySearch(ordinals, 0, size, ordinal) >= 0;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public int[] toArray() {
+            return Arrays.copyOf(ordinals, size);
+        }
+
+        @Override
+        public OrdinalBitmap toBitmap() {
+            return OrdinalBitmap.of(toArray());
+        }
+
+        @Override
+        public long getReadCost() {
+            return size;
+        }
+    }
+
+    /**
+     * A person found by {@link #findApproximately}, with the number of typos in the words that found them.
+     */
+    private static class RankedPerson {
+        private final Person person;
+        private final int typos;
+
+        RankedPerson(Person person, int typos) {
+            this.person = person;
+            this.typos = typos;
+        }
+    }
+
+    /**
+     * A predicate whose results for the persons indexed when it was created were looked up in the index.
+     */
+    private static class IndexedPredicate implements Predicate<Person> {
+        private final PersonTokenIndex index;
+        private final Predicate<Person> predicate;
+        private final OrdinalBitmap matches;
+        private final int ordinalLimit;
+        private final int generation;
+
+        IndexedPredicate(PersonTokenIndex index, Predicate<Person> predicate, OrdinalBitmap matches,
+                int ordinalLimit, int generation) {
+            this.index = index;
+            this.predicate = predicate;
+            this.matches = matches;
+            this.ordinalLimit = ordinalLimit;
+            this.generation = generation;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            Integer ordinal = index.ordinals.get(person);
+            if (ordinal == null || ordinal >= ordinalLimit || index.generation != generation) {
+                return predicate.test(person);
+            }
+            return matches.contains(ordinal);
+        }
+    }
+}
@@ -3,16 +3,23 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.io.Serializable;
+
+import seedu.address.storage.TrustedDecodingToken;
+
 /**
  * Represents a Person's phone number in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidPhone(String)}
  */
-public class Phone {
+public class Phone implements Serializable {
 
 
     public static final String MESSAGE_CONSTRAINTS =
             "Phone numbers should only contain numbers, and it should be exactly 8 digits long";
     public static final String VALIDATION_REGEX = "\\d{8}";
+
+    private static final long serialVersionUID = 1L;
+
     public final String value;
 
     /**
@@ -21,11 +28,26 @@ public class Phone {
      * @param phone A valid phone number.
      */
     public Phone(String phone) {
+        this(phone, false);
+    }
+
+    private Phone(String phone, boolean isKnownValid) {
         requireNonNull(phone);
-        checkArgument(isValidPhone(phone), MESSAGE_CONSTRAINTS);
+        checkArgument(isKnownValid || isValidPhone(phone), MESSAGE_CONSTRAINTS);
         value = phone;
     }
 
+    /**
+     * Returns a {@code Phone} of {@code phone}, which must be known to be a valid phone number, without validating it
+     * again.
+     *
+     * @param token proof that the caller is the storage decoder, which verifies the values it decodes.
+     */
+    public static Phone ofTrusted(String phone, TrustedDecodingToken token) {
+        requireNonNull(token);
+        return new Phone(phone, true);
+    }
+
     /**
      * Returns true if a given string is a valid phone number.
      */
@@ -0,0 +1,103 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * A condition of a {@link PersonQuery}: that a field of a person contains a word, ignoring case, or, if the clause
+ * is negated, that it does not.
+ */
+public final class QueryClause {
+
+    public static final String MESSAGE_CONSTRAINTS = "A query word should be a single word";
+
+    private final SearchField field;
+    private final String word;
+    private final String foldedWord;
+    private final boolean isNegated;
+
+    /**
+     * Creates a clause matching the persons whose {@code field} contains {@code word}, or, if {@code isNegated}, the
+     * persons whose {@code field} does not.
+     */
+    public QueryClause(SearchField field, String word, boolean isNegated) {
+        requireNonNull(field);
+        requireNonNull(word);
+        foldedWord = SearchDocument.foldKeyword(word);
+        checkArgument(foldedWord != null, MESSAGE_CONSTRAINTS);
+        this.field = field;
+        this.word = word.trim();
+        this.isNegated = isNegated;
+    }
+
+    /**
+     * Returns true if {@code word} is a single word, which a clause can search for.
+     */
+    public static boolean isValidWord(String word) {
+        return SearchDocument.foldKeyword(word) != null;
+    }
+
+    public SearchField getField() {
+        return field;
+    }
+
+    public String getWord() {
+        return word;
+    }
+
+    public boolean isNegated() {
+        return isNegated;
+    }
+
+    String getFoldedWord() {
+        return foldedWord;
+    }
+
+    /**
+     * Returns true if {@code person} satisfies this clause.
+     */
+    public boolean matches(Person person) {
+        return person.getSearchDocument().containsWord(field, foldedWord) != isNegated;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof QueryClause)) {
+            return false;
+        }
+
+        QueryClause otherClause = (QueryClause) other;
+        return field == otherClause.field && foldedWord.equals(otherClause.foldedWord)
+                && isNegated == otherClause.isNegated;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(field, foldedWord, isNegated);
+    }
+
+    /**
+     * Returns the clause as it is described in query plans, such as {@code not tag "alumni"}.
+     */
+    public String describe() {
+        return (isNegated ? "not " : "") + field + " \"" + word + "\"";
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("field", field)
+                .add("word", word)
+                .add("isNegated", isNegated)
+                .toString();
+    }
+}
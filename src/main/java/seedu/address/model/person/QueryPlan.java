@@ -0,0 +1,183 @@
+package seedu.address.model.person;
+
+import java.util.List;
+
+/**
+ * How a {@link PersonQuery} is answered through the indexes of a person list, with an estimate of its cost.
+ *
+ * Each branch of the query starts from the posting lists of its clauses, looked up in the most selective index
+ * holding each, and intersects them from the shortest. Clauses that no index answers exactly, such as negated ones,
+ * are then checked against each person left. A branch with no clause answered by an index checks every person.
+ * A branch of tags alone is instead answered by combining the bitmaps of its tags, with those negated subtracted.
+ *
+ * The cost estimated is the number of postings, bitmap words and clauses read or checked, assuming no posting list
+ * removes any persons from the shortest.
+ */
+public final class QueryPlan {
+
+    private final List<Branch> branches;
+
+    QueryPlan(List<Branch> branches) {
+        this.branches = List.copyOf(branches);
+    }
+
+    List<Branch> getBranches() {
+        return branches;
+    }
+
+    /**
+     * Returns the estimated cost of answering the query by this plan.
+     */
+    public long getCost() {
+        return branches.stream().mapToLong(Branch::getCost).sum();
+    }
+
+    /**
+     * Returns a description of the steps of this plan, one per line.
+     */
+    public String describe() {
+        StringBuilder description = new StringBuilder("Query plan, estimated cost ").append(getCost()).append(":");
+        for (int i = 0; i < branches.size(); i++) {
+            Branch branch = branches.get(i);
+            if (branches.size() > 1) {
+                description.append("\nEither ").append(i + 1).append(" of ").append(branches.size())
+                        .append(", estimated cost ").append(branch.getCost()).append(":");
+            }
+            branch.describe(description);
+        }
+        return description.toString();
+    }
+
+    @Override
+    public String toString() {
+        return describe();
+    }
+
+    /**
+     * The plan for one branch of a query.
+     */
+    static final class Branch {
+        private final List<Lookup> lookups; // shortest posting list first
+        private final List<Lookup> exclusions; // of negated tags, if the branch is combined as bitmaps
+        private final List<QueryClause> checks;
+        private final QueryClause missingClause; // a clause no person satisfies, if any
+        private final OrdinalSet allPersons;
+        private final boolean isCombinedAsBitmaps;
+
+        Branch(List<Lookup> lookups, List<Lookup> exclusions, List<QueryClause> checks, QueryClause missingClause,
+                OrdinalSet allPersons, boolean isCombinedAsBitmaps) {
+            this.lookups = List.copyOf(lookups);
+            this.exclusions = List.copyOf(exclusions);
+            this.checks = List.copyOf(checks);
+            this.missingClause = missingClause;
+            this.allPersons = allPersons;
+            this.isCombinedAsBitmaps = isCombinedAsBitmaps;
+        }
+
+        List<Lookup> getLookups() {
+            return lookups;
+        }
+
+        List<Lookup> getExclusions() {
+            return exclusions;
+        }
+
+        /**
+         * Returns true if the branch is answered by combining its lookups and exclusions as bitmaps, with no checks.
+         */
+        boolean isCombinedAsBitmaps() {
+            return isCombinedAsBitmaps;
+        }
+
+        List<QueryClause> getChecks() {
+            return checks;
+        }
+
+        /**
+         * Returns true if the branch is known to match no person without reading any posting list.
+         */
+        boolean isEmpty() {
+            return missingClause != null;
+        }
+
+        long getCost() {
+            if (isEmpty()) {
+                return 0;
+            }
+            if (isCombinedAsBitmaps) {
+                long cost = lookups.isEmpty() ? allPersons.getReadCost() : 0;
+                for (Lookup lookup : lookups) {
+                    cost += lookup.getOrdinals().getReadCost();
+                }
+                for (Lookup exclusion : exclusions) {
+                    cost += exclusion.getOrdinals().getReadCost();
+                }
+                return cost;
+            }
+            long candidates = lookups.isEmpty() ? allPersons.size() : lookups.get(0).getSize();
+            long probes = candidates * (lookups.size() - (lookups.isEmpty() ? 0 : 1));
+            return (lookups.isEmpty() ? 0 : candidates) + probes + candidates * checks.size();
+        }
+
+        private void describe(StringBuilder description) {
+            if (isEmpty()) {
+                description.append("\n  No person has ").append(missingClause.describe())
+                        .append(", so none match");
+                return;
+            }
+            if (isCombinedAsBitmaps && lookups.isEmpty()) {
+                description.append("\n  Start from all ").append(allPersons.size()).append(" persons");
+            }
+            for (int i = 0; i < lookups.size(); i++) {
+                Lookup lookup = lookups.get(i);
+                description.append(i == 0 ? "\n  Look up " : "\n  Intersect with ")
+                        .append(lookup.getClause().describe()).append(" in the ").append(lookup.describeIndex())
+                        .append(": ").append(lookup.getSize()).append(" persons");
+            }
+            for (Lookup exclusion : exclusions) {
+                description.append("\n  Subtract ").append(exclusion.getClause().describe().substring("not ".length()))
+                        .append(" in the ").append(exclusion.describeIndex())
+                        .append(": ").append(exclusion.getSize()).append(" persons");
+            }
+            for (QueryClause check : checks) {
+                description.append("\n  Check ").append(check.describe())
+                        .append(lookups.isEmpty() ? " for each of the " : " for each of up to ")
+                        .append(lookups.isEmpty() ? allPersons.size() : lookups.get(0).getSize()).append(" persons");
+            }
+        }
+    }
+
+    /**
+     * A clause answered by looking up its posting list, or bitmap, in an index.
+     */
+    static final class Lookup {
+        private final QueryClause clause;
+        private final SearchField indexedField; // ANY for the index of the words in every field
+        private final OrdinalSet ordinals;
+
+        Lookup(QueryClause clause, SearchField indexedField, OrdinalSet ordinals) {
+            this.clause = clause;
+            this.indexedField = indexedField;
+            this.ordinals = ordinals;
+        }
+
+        QueryClause getClause() {
+            return clause;
+        }
+
+        OrdinalSet getOrdinals() {
+            return ordinals;
+        }
+
+        int getSize() {
+            return ordinals.size();
+        }
+
+        private String describeIndex() {
+            if (indexedField == SearchField.TAG) {
+                return "tag bitmaps";
+            }
+            return indexedField == SearchField.ANY ? "word index" : indexedField + " index";
+        }
+    }
+}
@@ -3,11 +3,15 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.io.Serializable;
+
+import seedu.address.storage.TrustedDecodingToken;
+
 /**
  * Represents a Person's role in the club in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidRole(String)}
  */
-public class Role {
+public class Role implements Serializable {
 
     public static final String MESSAGE_CONSTRAINTS =
             "Role should only contain alphanumeric characters and spaces, and it should not be blank";
@@ -18,6 +22,8 @@ public class Role {
      */
     public static final String VALIDATION_REGEX = "[^\\s].*";
 
+    private static final long serialVersionUID = 1L;
+
     public final String value;
 
     /**
@@ -26,12 +32,26 @@ public class Role {
      * @param role A valid role.
      */
     public Role(String role) {
+        this(role, false);
+    }
+
+    private Role(String role, boolean isKnownValid) {
         requireNonNull(role);
         String trimmedRole = role.trim();
-        checkArgument(isValidRole(trimmedRole), MESSAGE_CONSTRAINTS);
+        checkArgument(isKnownValid || isValidRole(trimmedRole), MESSAGE_CONSTRAINTS);
         value = trimmedRole;
     }
 
+    /**
+     * Returns a {@code Role} of {@code role}, which must be known to be a valid role, without validating it again.
+     *
+     * @param token proof that the caller is the storage decoder, which verifies the values it decodes.
+     */
+    public static Role ofTrusted(String role, TrustedDecodingToken token) {
+        requireNonNull(token);
+        return new Role(role, true);
+    }
+
     /**
      * Returns true if a given string is a valid role.
      */
@@ -0,0 +1,143 @@
+package seedu.address.model.person;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+import seedu.address.model.tag.Tag;
+
+/**
+ * The searchable words in the fields of a {@code Person}, split and folded once so that keyword searches can test
+ * persons without splitting, lower-casing or allocating anything.
+ * Words are split as by {@link seedu.address.commons.util.StringUtil#containsWordIgnoreCase(String, String)}, folded
+ * by {@link #fold(String)}, and interned, as the same words recur across many persons.
+ * Each tag is held whole as a single word.
+ */
+final class SearchDocument {
+
+    private static final String[] NO_WORDS = new String[0];
+
+    private final String[][] fieldWords; // by the ordinal of each field, empty for ANY
+
+    private SearchDocument(String[][] fieldWords) {
+        this.fieldWords = fieldWords;
+    }
+
+    /**
+     * Builds the search document of {@code person}.
+     */
+    static SearchDocument of(Person person) {
+        String[][] fieldWords = new String[SearchField.values().length][];
+        Arrays.fill(fieldWords, NO_WORDS);
+        fieldWords[SearchField.NAME.ordinal()] = split(person.getName().fullName);
+        fieldWords[SearchField.YEAR.ordinal()] = split(person.getYear().toString());
+        fieldWords[SearchField.STUDENT_NUMBER.ordinal()] = split(person.getStudentNumber().value);
+        fieldWords[SearchField.EMAIL.ordinal()] = split(person.getEmail().value);
+        fieldWords[SearchField.PHONE.ordinal()] = split(person.getPhone().value);
+        fieldWords[SearchField.DIETARY_REQUIREMENTS.ordinal()] = split(person.getDietaryRequirements().value);
+        fieldWords[SearchField.ROLE.ordinal()] = split(person.getRole().value);
+        String[] tagWords = new String[person.getTags().size()];
+        int count = 0;
+        for (Tag tag : person.getTags()) {
+            tagWords[count++] = fold(tag.tagName).intern();
+        }
+        fieldWords[SearchField.TAG.ordinal()] = count == 0 ? NO_WORDS : tagWords;
+        return new SearchDocument(fieldWords);
+    }
+
+    /**
+     * Returns true if any field contains {@code foldedWord}, which must have been folded by {@link #fold(String)}.
+     */
+    boolean containsWord(String foldedWord) {
+        for (String[] words : fieldWords) {
+            if (contains(words, foldedWord)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if {@code field} contains {@code foldedWord}, which must have been folded by {@link #fold(String)}.
+     */
+    boolean containsWord(SearchField field, String foldedWord) {
+        switch (field) {
+        case ANY:
+            return containsWord(foldedWord);
+        default:
+            return contains(fieldWords[field.ordinal()], foldedWord);
+        }
+    }
+
+    /**
+     * Passes every word in the fields to {@code consumer}, possibly more than once.
+     */
+    void forEachWord(Consumer<String> consumer) {
+        for (String[] words : fieldWords) {
+            for (String word : words) {
+                consumer.accept(word);
+            }
+        }
+    }
+
+    /**
+     * Passes every word in {@code field} to {@code consumer}, possibly more than once.
+     */
+    void forEachWord(SearchField field, Consumer<String> consumer) {
+        switch (field) {
+        case ANY:
+            forEachWord(consumer);
+            break;
+        default:
+            for (String word : fieldWords[field.ordinal()]) {
+                consumer.accept(word);
+            }
+        }
+    }
+
+    /**
+     * Returns {@code word} with each character folded as by {@link String#equalsIgnoreCase(String)}, so that two
+     * words are equal ignoring case exactly when they fold to the same string.
+     */
+    static String fold(String word) {
+        char[] chars = new char[word.length()];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(Character.toUpperCase(word.charAt(i)));
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Returns the folded form of {@code keyword} to search for, or null if it is not a single word, in which case
+     * it cannot be searched for.
+     */
+    static String foldKeyword(String keyword) {
+        String trimmed = keyword.trim();
+        if (trimmed.isEmpty() || trimmed.split("\\s+").length != 1) {
+            return null;
+        }
+        return fold(trimmed);
+    }
+
+    private static boolean contains(String[] words, String foldedWord) {
+        for (String word : words) {
+            if (word.equals(foldedWord)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String[] split(String value) {
+        String[] words = value.split("\\s+");
+        int count = 0;
+        for (String word : words) {
+            if (!word.isEmpty()) {
+                words[count++] = fold(word).intern();
+            }
+        }
+        if (count == 0) {
+            return NO_WORDS;
+        }
+        return count == words.length ? words : Arrays.copyOf(words, count);
+    }
+}
@@ -0,0 +1,27 @@
+package seedu.address.model.person;
+
+/**
+ * The fields of a {@code Person} that a search can be limited to, or {@link #ANY} for all of them.
+ */
+public enum SearchField {
+    ANY("any field"),
+    NAME("name"),
+    YEAR("year"),
+    STUDENT_NUMBER("student number"),
+    EMAIL("email"),
+    PHONE("phone"),
+    DIETARY_REQUIREMENTS("dietary requirements"),
+    ROLE("role"),
+    TAG("tag");
+
+    private final String description;
+
+    SearchField(String description) {
+        this.description = description;
+    }
+
+    @Override
+    public String toString() {
+        return description;
+    }
+}
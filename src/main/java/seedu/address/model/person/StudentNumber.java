@@ -3,11 +3,16 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.io.Serializable;
+import java.util.Locale;
+
+import seedu.address.storage.TrustedDecodingToken;
+
 /**
  * Represents a Person's student number in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidStudentNumber(String)}
  */
-public class StudentNumber {
+public class StudentNumber implements Serializable {
 
     public static final String MESSAGE_CONSTRAINTS =
             "Student number should be 9 characters long: letter + 7 alphanumeric + letter";
@@ -18,7 +23,10 @@ public class StudentNumber {
      */
     public static final String VALIDATION_REGEX = "[A-Za-z][A-Za-z0-9]{7}[A-Za-z]";
 
+    private static final long serialVersionUID = 1L;
+
     public final String value;
+    private final String normalizedValue;
 
     /**
      * Constructs a {@code StudentNumber}.
@@ -26,9 +34,25 @@ public class StudentNumber {
      * @param studentNumber A valid student number.
      */
     public StudentNumber(String studentNumber) {
+        this(studentNumber, false);
+    }
+
+    private StudentNumber(String studentNumber, boolean isKnownValid) {
         requireNonNull(studentNumber);
-        checkArgument(isValidStudentNumber(studentNumber), MESSAGE_CONSTRAINTS);
+        checkArgument(isKnownValid || isValidStudentNumber(studentNumber), MESSAGE_CONSTRAINTS);
         value = studentNumber;
+        normalizedValue = studentNumber.toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns a {@code StudentNumber} of {@code studentNumber}, which must be known to be a valid student number,
+     * without validating it again.
+     *
+     * @param token proof that the caller is the storage decoder, which verifies the values it decodes.
+     */
+    public static StudentNumber ofTrusted(String studentNumber, TrustedDecodingToken token) {
+        requireNonNull(token);
+        return new StudentNumber(studentNumber, true);
     }
 
     /**
@@ -38,6 +62,14 @@ public class StudentNumber {
         return test.matches(VALIDATION_REGEX);
     }
 
+    /**
+     * Returns the upper-case form of this student number.
+     * Student numbers that differ only in case have the same normalized value.
+     */
+    public String getNormalizedValue() {
+        return normalizedValue;
+    }
+
     @Override
     public String toString() {
         return value;
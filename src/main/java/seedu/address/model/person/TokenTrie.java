@@ -0,0 +1,227 @@
+package seedu.address.model.person;
+
+import java.util.Arrays;
+
+/**
+ * A radix trie of distinct words, which finds the words that start with a given word, allowing for a few typos.
+ * Each node is labelled with the characters on the edge leading to it, so there are at most twice as many nodes as
+ * words.
+ */
+class TokenTrie {
+
+    private final Node root = new Node("");
+
+    /**
+     * Adds {@code word}, which must not already be in the trie.
+     */
+    void add(String word) {
+        Node node = root;
+        int index = 0;
+        while (index < word.length()) {
+            int childIndex = node.findChild(word.charAt(index));
+            if (childIndex < 0) {
+                node.insertChild(-childIndex - 1, new Node(word.substring(index), true));
+                return;
+            }
+            Node child = node.children[childIndex];
+            int common = getCommonPrefixLength(child.label, word, index);
+            if (common < child.label.length()) {
+                // The word leaves the edge part of the way along, so the edge is split where it does
+                Node split = new Node(child.label.substring(0, common));
+                child.label = child.label.substring(common);
+                split.insertChild(0, child);
+                node.children[childIndex] = split;
+                child = split;
+            }
+            node = child;
+            index += common;
+        }
+        assert !node.isWord;
+        node.isWord = true;
+    }
+
+    /**
+     * Removes {@code word}, which must be in the trie.
+     */
+    void remove(String word) {
+        boolean isRemoved = remove(root, word, 0);
+        assert isRemoved;
+    }
+
+    private static boolean remove(Node node, String word, int index) {
+        if (index == word.length()) {
+            boolean wasWord = node.isWord;
+            node.isWord = false;
+            return wasWord;
+        }
+        int childIndex = node.findChild(word.charAt(index));
+        if (childIndex < 0) {
+            return false;
+        }
+        Node child = node.children[childIndex];
+        if (!word.startsWith(child.label, index) || !remove(child, word, index + child.label.length())) {
+            return false;
+        }
+
+        // Keep the trie compact: drop nodes that lead to no word, and merge nodes that only lead on to one other
+        if (!child.isWord && child.childCount == 0) {
+            node.removeChild(childIndex);
+        } else if (!child.isWord && child.childCount == 1) {
+            Node grandchild = child.children[0];
+            grandchild.label = child.label + grandchild.label;
+            node.children[childIndex] = grandchild;
+        }
+        return true;
+    }
+
+    /**
+     * Passes every word in the trie that starts with {@code prefix}, allowing for up to {@code maxDistance}
+     * insertions, deletions and substitutions of characters, to {@code consumer}, along with the fewest needed.
+     */
+    void forEachMatch(String prefix, int maxDistance, MatchConsumer consumer) {
+        int[] row = new int[prefix.length() + 1];
+        for (int i = 0; i < row.length; i++) {
+            row[i] = i;
+        }
+        search(root, prefix, maxDistance, row, row[prefix.length()], new StringBuilder(), consumer);
+    }
+
+    /**
+     * Searches the words below {@code node}, whose path from the root is {@code path}.
+     * {@code row} holds the edit distances between {@code path} and each prefix of {@code prefix}, and
+     * {@code distance} is the smallest edit distance between {@code prefix} and any prefix of {@code path}.
+     */
+    private static void search(Node node, String prefix, int maxDistance, int[] row, int distance,
+            StringBuilder path, MatchConsumer consumer) {
+        for (int c = 0; c < node.childCount; c++) {
+            Node child = node.children[c];
+            int pathLength = path.length();
+            int[] childRow = row;
+            int childDistance = distance;
+            boolean canMatch = true;
+            for (int i = 0; i < child.label.length() && canMatch; i++) {
+                path.append(child.label.charAt(i));
+                childRow = nextRow(childRow, prefix, child.label.charAt(i));
+                childDistance = Math.min(childDistance, childRow[prefix.length()]);
+                int rowMinimum = Arrays.stream(childRow).min().getAsInt();
+                if (rowMinimum > maxDistance) {
+                    // Edit distances never decrease along a path, so the rest of the subtree matches no better
+                    canMatch = false;
+                }
+            }
+            if (!canMatch) {
+                if (childDistance <= maxDistance) {
+                    path.setLength(pathLength);
+                    path.append(child.label);
+                    collect(child, childDistance, path, consumer);
+                }
+            } else {
+                if (child.isWord && childDistance <= maxDistance) {
+                    consumer.accept(path.toString(), childDistance);
+                }
+                search(child, prefix, maxDistance, childRow, childDistance, path, consumer);
+            }
+            path.setLength(pathLength);
+        }
+    }
+
+    /**
+     * Passes {@code node}, if it is a word, and every word below it to {@code consumer} with the same
+     * {@code distance}.
+     */
+    private static void collect(Node node, int distance, StringBuilder path, MatchConsumer consumer) {
+        if (node.isWord) {
+            consumer.accept(path.toString(), distance);
+        }
+        for (int c = 0; c < node.childCount; c++) {
+            int pathLength = path.length();
+            path.append(node.children[c].label);
+            collect(node.children[c], distance, path, consumer);
+            path.setLength(pathLength);
+        }
+    }
+
+    /**
+     * Returns the row of the edit distance table after {@code row} once {@code c} is appended to the path.
+     */
+    private static int[] nextRow(int[] row, String prefix, char c) {
+        int[] next = new int[row.length];
+        next[0] = row[0] + 1;
+        for (int i = 1; i < row.length; i++) {
+            int substitution = row[i - 1] + (prefix.charAt(i - 1) == c ? 0 : 1);
+            next[i] = Math.min(substitution, Math.min(row[i] + 1, next[i - 1] + 1));
+        }
+        return next;
+    }
+
+    private static int getCommonPrefixLength(String label, String word, int offset) {
+        int length = 0;
+        while (length < label.length() && offset + length < word.length()
+                && label.charAt(length) == word.charAt(offset + length)) {
+            length++;
+        }
+        return length;
+    }
+
+    /**
+     * Receives the words matched by {@link #forEachMatch}.
+     */
+    @FunctionalInterface
+    interface MatchConsumer {
+        void accept(String word, int distance);
+    }
+
+    /**
+     * A node of the trie, whose children are kept sorted by the first character of their labels.
+     */
+    private static class Node {
+        private String label;
+        private boolean isWord;
+        private Node[] children = new Node[0];
+        private int childCount;
+
+        Node(String label) {
+            this.label = label;
+        }
+
+        Node(String label, boolean isWord) {
+            this.label = label;
+            this.isWord = isWord;
+        }
+
+        /**
+         * Returns the index of the child whose label starts with {@code c}, or {@code -(insertion point) - 1} if
+         * there is none.
+         */
+        int findChild(char c) {
+            int low = 0;
+            int high = childCount - 1;
+            while (low <= high) {
+                int middle = (low + high) >>> 1;
+                char middleChar = children[middle].label.charAt(0);
+                if (middleChar < c) {
+                    low = middle + 1;
+                } else if (middleChar > c) {
+                    high = middle - 1;
+                } else {
+                    return middle;
+                }
+            }
+            return -low - 1;
+        }
+
+        void insertChild(int index, Node child) {
+            if (childCount == children.length) {
+                children = Arrays.copyOf(children, Math.max(2, childCount * 2));
+            }
+            System.arraycopy(children, index, children, index + 1, childCount - index);
+            children[index] = child;
+            childCount++;
+        }
+
+        void removeChild(int index) {
+            System.arraycopy(children, index + 1, children, index, childCount - index - 1);
+            children[--childCount] = null;
+        }
+    }
+}
@@ -2,7 +2,12 @@ package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Predicate;
 
 import seedu.address.model.UniqueList;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
@@ -15,12 +20,21 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * Persons are indexed by their normalized student number, so looking up a person by student number does not
+ * scan the list. They are also indexed by name; as names need not be unique, each name maps to every person with
+ * that name, in list order. Once persons are first searched by keyword, the words in their fields are indexed too,
+ * so that a search only visits the persons it matches, and so are their tags, as a compressed bitmap of the persons
+ * with each tag, so that queries of tags combine whole sets of persons at once.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList extends UniqueList<Person> {
 
+    private final Map<Name, List<Person>> personsByName = new HashMap<>();
+    private PersonTokenIndex tokenIndex; // null until persons are searched by keyword, and after the list is reset
+
     /**
      * Replaces the person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the list.
@@ -43,11 +57,141 @@ public class UniquePersonList extends UniqueList<Person> {
         setAllFromOther(replacement);
     }
 
+    /**
+     * Returns the person whose student number matches {@code studentNumber}, ignoring case.
+     */
+    public Optional<Person> findByStudentNumber(StudentNumber studentNumber) {
+        requireNonNull(studentNumber);
+        return Optional.ofNullable(getByIdentityKey(studentNumber.getNormalizedValue()));
+    }
+
+    /**
+     * Returns the persons named {@code name}, in list order, or an empty list if there are none.
+     */
+    public List<Person> findByName(Name name) {
+        requireNonNull(name);
+        List<Person> matches = personsByName.get(name);
+        return matches == null ? List.of() : List.copyOf(matches);
+    }
+
+    /**
+     * Returns a predicate that gives the same results as {@code predicate}, but that tests the persons currently in
+     * the list by looking them up in the result found through an index of the words in their fields, rather than by
+     * comparing their fields.
+     */
+    public Predicate<Person> createIndexedPredicate(PersonContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        return getTokenIndex().createPredicate(predicate);
+    }
+
+    /**
+     * Returns a predicate that gives the same results as {@code query}, but that answers it for the persons currently
+     * in the list through the indexes of their fields, as planned by {@link #planQuery(PersonQuery)}.
+     */
+    public Predicate<Person> createIndexedPredicate(PersonQuery query) {
+        requireNonNull(query);
+        return getTokenIndex().createPredicate(query);
+    }
+
+    /**
+     * Returns the persons matching {@code query}, ordered by name, then by student number.
+     * Queries of tags alone are answered by combining bitmaps of the persons with each tag.
+     */
+    public List<Person> find(PersonQuery query) {
+        requireNonNull(query);
+        return getTokenIndex().find(query);
+    }
+
+    /**
+     * Returns the plan by which {@code query} is answered for the persons currently in the list.
+     */
+    public QueryPlan planQuery(PersonQuery query) {
+        requireNonNull(query);
+        return getTokenIndex().plan(query);
+    }
+
+    /**
+     * Returns up to {@code limit} persons with a word in their fields starting with each of {@code words}, allowing
+     * for a few typos in each, with the persons needing the fewest typos first.
+     */
+    public List<Person> findApproximately(List<String> words, int limit) {
+        requireNonNull(words);
+        return getTokenIndex().findApproximately(words, limit);
+    }
+
+    private PersonTokenIndex getTokenIndex() {
+        if (tokenIndex == null) {
+            tokenIndex = new PersonTokenIndex();
+            internalList.forEach(tokenIndex::add);
+        }
+        return tokenIndex;
+    }
+
     @Override
     protected boolean isSameElement(Person person1, Person person2) {
         return person1.isSamePerson(person2);
     }
 
+    /**
+     * Returns the normalized student number of {@code person}, consistent with {@link Person#isSamePerson(Person)}.
+     */
+    @Override
+    protected Object getIdentityKey(Person person) {
+        return person.getStudentNumber().getNormalizedValue();
+    }
+
+    @Override
+    protected void onElementAdded(Person person) {
+        personsByName.computeIfAbsent(person.getName(), unused -> new ArrayList<>()).add(person);
+        if (tokenIndex != null) {
+            tokenIndex.add(person);
+        }
+    }
+
+    @Override
+    protected void onElementRemoved(Person person) {
+        if (tokenIndex != null) {
+            tokenIndex.remove(person);
+        }
+        List<Person> matches = personsByName.get(person.getName());
+        if (matches == null) {
+            return;
+        }
+        matches.remove(person);
+        if (matches.isEmpty()) {
+            personsByName.remove(person.getName());
+        }
+    }
+
+    @Override
+    protected void onElementReplaced(Person target, Person editedPerson) {
+        List<Person> matches = personsByName.get(target.getName());
+        if (matches == null || !target.getName().equals(editedPerson.getName())) {
+            super.onElementReplaced(target, editedPerson);
+            return;
+        }
+        // Same name: overwrite in place so that the index keeps the list order
+        matches.set(matches.indexOf(target), editedPerson);
+        if (tokenIndex != null) {
+            tokenIndex.remove(target);
+            tokenIndex.add(editedPerson);
+        }
+    }
+
+    @Override
+    protected void onElementsReset() {
+        // The token index is rebuilt when next needed, as a reset may be followed by another before any search.
+        // The old one is cleared, as the predicate of the filtered list may still refer to it.
+        if (tokenIndex != null) {
+            tokenIndex.clear();
+            tokenIndex = null;
+        }
+        personsByName.clear();
+        for (Person person : internalList) {
+            onElementAdded(person);
+        }
+    }
+
     @Override
     protected RuntimeException createDuplicateException() {
         return new DuplicatePersonException();
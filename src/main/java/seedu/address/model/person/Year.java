@@ -3,17 +3,23 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.io.Serializable;
+
+import seedu.address.storage.TrustedDecodingToken;
+
 /**
  * Represents a Person's year of study in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidYear(String)}
  */
-public class Year {
+public class Year implements Serializable {
 
     public static final String MESSAGE_CONSTRAINTS =
             "Year should be a positive integer between 1 and 10";
 
     public static final String VALIDATION_REGEX = "^[1-9]|10$";
 
+    private static final long serialVersionUID = 1L;
+
     public final int year;
 
     /**
@@ -22,11 +28,26 @@ public class Year {
      * @param year A valid year of study.
      */
     public Year(String year) {
+        this(year, false);
+    }
+
+    private Year(String year, boolean isKnownValid) {
         requireNonNull(year);
-        checkArgument(isValidYear(year), MESSAGE_CONSTRAINTS);
+        checkArgument(isKnownValid || isValidYear(year), MESSAGE_CONSTRAINTS);
         this.year = Integer.parseInt(year);
     }
 
+    /**
+     * Returns a {@code Year} of {@code year}, which must be known to be a valid year of study, without validating it
+     * again.
+     *
+     * @param token proof that the caller is the storage decoder, which verifies the values it decodes.
+     */
+    public static Year ofTrusted(String year, TrustedDecodingToken token) {
+        requireNonNull(token);
+        return new Year(year, true);
+    }
+
     /**
      * Returns true if a given string is a valid year.
      */
@@ -3,7 +3,6 @@ package seedu.address.model.person;
 import java.util.List;
 import java.util.function.Predicate;
 
-import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
 
 /**
@@ -11,15 +10,29 @@ import seedu.address.commons.util.ToStringBuilder;
  */
 public class YearContainsKeywordsPredicate implements Predicate<Person> {
     private final List<String> keywords;
+    private final String[] foldedKeywords;
 
+    /**
+     * Creates a predicate matching the persons whose year contains any of {@code keywords},
+     * A keyword that is not a single word matches no person.
+     */
     public YearContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        foldedKeywords = new String[keywords.size()];
+        for (int i = 0; i < keywords.size(); i++) {
+            foldedKeywords[i] = SearchDocument.foldKeyword(keywords.get(i));
+        }
     }
 
     @Override
     public boolean test(Person person) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getYear().toString(), keyword));
+        SearchDocument document = person.getSearchDocument();
+        for (int i = 0; i < foldedKeywords.length; i++) {
+            if (foldedKeywords[i] != null && document.containsWord(SearchField.YEAR, foldedKeywords[i])) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @Override
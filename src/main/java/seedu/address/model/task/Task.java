@@ -2,18 +2,20 @@ package seedu.address.model.task;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.io.Serializable;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.util.Objects;
 
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.storage.TrustedDecodingToken;
 
 /**
  * Represents a Task in the address book.
  * Guarantees: details are present and not null, field values are validated, immutable.
  */
-public class Task {
+public class Task implements Serializable {
 
     public static final String MESSAGE_CONSTRAINTS =
             "Task title should not be empty and should not exceed 100 characters";
@@ -25,6 +27,8 @@ public class Task {
     public static final String DEFAULT_DEADLINE_TIME = "23:59";
     public static final int MAX_TITLE_LENGTH = 100;
 
+    private static final long serialVersionUID = 1L;
+
     private final String title;
     private final LocalDateTime deadline;
     private final boolean isDone;
@@ -57,8 +61,12 @@ public class Task {
      * @throws IllegalArgumentException if the title is invalid
      */
     public Task(String title, LocalDateTime deadline, boolean isDone) {
+        this(title, deadline, isDone, false);
+    }
+
+    private Task(String title, LocalDateTime deadline, boolean isDone, boolean isKnownValid) {
         requireAllNonNull(title);
-        if (!isValidTitle(title)) {
+        if (!isKnownValid && !isValidTitle(title)) {
             throw new IllegalArgumentException(MESSAGE_CONSTRAINTS);
         }
         this.title = title;
@@ -66,6 +74,16 @@ public class Task {
         this.isDone = isDone;
     }
 
+    /**
+     * Returns a task with the given fields, whose title must be known to be valid, without validating it again.
+     *
+     * @param token proof that the caller is the storage decoder, which verifies the values it decodes.
+     */
+    public static Task ofTrusted(String title, LocalDateTime deadline, boolean isDone, TrustedDecodingToken token) {
+        Objects.requireNonNull(token);
+        return new Task(title, deadline, isDone, true);
+    }
+
     public String getTitle() {
         return title;
     }
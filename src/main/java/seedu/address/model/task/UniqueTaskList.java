@@ -2,6 +2,7 @@ package seedu.address.model.task;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Arrays;
 import java.util.List;
 
 import seedu.address.model.UniqueList;
@@ -48,6 +49,12 @@ public class UniqueTaskList extends UniqueList<Task> {
         return task1.isSameTask(task2);
     }
 
+    @Override
+    protected Object getIdentityKey(Task task) {
+        // Arrays.asList is used as the deadline may be null
+        return Arrays.asList(task.getTitle(), task.getDeadline());
+    }
+
     @Override
     protected RuntimeException createDuplicateException() {
         return new DuplicateTaskException();
@@ -0,0 +1,302 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.ToIntFunction;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookSection;
+import seedu.address.model.attendance.Attendance;
+import seedu.address.model.event.Event;
+import seedu.address.model.person.Person;
+import seedu.address.model.task.Task;
+
+/**
+ * Converts the Jackson-friendly elements of an address book into an {@code AddressBook}, validating them on the
+ * common fork-join pool.
+ * Elements are handed over in chunks as they are added, so conversion overlaps with reading the rest of the file.
+ * Every section is converted independently; {@link #decode()} then merges the sections into the address book on the
+ * calling thread, in order, making the duplicate checks as it goes.
+ * The outcome, including which error is reported when the data is invalid, is the same as converting every element
+ * in order on one thread.
+ *
+ * A trusted decoder converts elements without validating their fields, for data files that record the
+ * {@link SectionChecksum} of each section. Its result is only used if the checksums of the elements it converted
+ * match those recorded, which shows the values are exactly those of a valid address book that was saved.
+ */
+class AddressBookDecoder {
+
+    /** Number of elements converted by a single task. */
+    static final int CHUNK_SIZE = 256;
+
+    private final boolean isTrusted;
+    private final Section<JsonAdaptedPerson, Person> persons;
+    private final Section<JsonAdaptedEvent, Event> events;
+    private final Section<JsonAdaptedTask, Task> tasks;
+    private final Section<JsonAdaptedAttendance, Attendance> attendances;
+    private JsonAdaptedBudget budget; // null if absent
+
+    /**
+     * Creates a decoder that validates every element.
+     */
+    AddressBookDecoder() {
+        this(false);
+    }
+
+    /**
+     * Creates a decoder that validates every element, or a trusted decoder that does not.
+     */
+    AddressBookDecoder(boolean isTrusted) {
+        this.isTrusted = isTrusted;
+        persons = isTrusted
+                ? new Section<>(JsonAdaptedPerson::toTrustedModelType, SectionChecksum::of)
+                : new Section<>(JsonAdaptedPerson::toModelType, null);
+        events = isTrusted
+                ? new Section<>(JsonAdaptedEvent::toTrustedModelType, SectionChecksum::of)
+                : new Section<>(JsonAdaptedEvent::toModelType, null);
+        tasks = isTrusted
+                ? new Section<>(JsonAdaptedTask::toTrustedModelType, SectionChecksum::of)
+                : new Section<>(JsonAdaptedTask::toModelType, null);
+        attendances = isTrusted
+                ? new Section<>(JsonAdaptedAttendance::toTrustedModelType, SectionChecksum::of)
+                : new Section<>(JsonAdaptedAttendance::toModelType, null);
+    }
+
+    boolean isTrusted() {
+        return isTrusted;
+    }
+
+    void addPerson(JsonAdaptedPerson person) {
+        persons.add(person);
+    }
+
+    void addEvent(JsonAdaptedEvent event) {
+        events.add(event);
+    }
+
+    void addTask(JsonAdaptedTask task) {
+        tasks.add(task);
+    }
+
+    void addAttendance(JsonAdaptedAttendance attendance) {
+        attendances.add(attendance);
+    }
+
+    void setBudget(JsonAdaptedBudget budget) {
+        this.budget = budget;
+    }
+
+    /**
+     * Waits for every element to be converted, and merges them into a new {@code AddressBook}.
+     * Only for decoders that validate every element.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    AddressBook decode() throws IllegalValueException {
+        assert !isTrusted;
+        return merge();
+    }
+
+    /**
+     * Waits for every element to be converted, and merges them into a new {@code AddressBook} if the checksums of
+     * its sections are {@code expectedChecksums}. Only for trusted decoders.
+     *
+     * @return the address book, or {@code Optional.empty()} if the elements cannot be shown to be valid, in which
+     *     case they should be read again by a decoder that validates them.
+     */
+    Optional<AddressBook> decodeTrusted(Map<AddressBookSection, Long> expectedChecksums) {
+        assert isTrusted;
+        try {
+            AddressBook addressBook = merge();
+            Map<AddressBookSection, Long> checksums = new EnumMap<>(AddressBookSection.class);
+            checksums.put(AddressBookSection.PERSONS, persons.checksum.getValue());
+            checksums.put(AddressBookSection.EVENTS, events.checksum.getValue());
+            checksums.put(AddressBookSection.TASKS, tasks.checksum.getValue());
+            checksums.put(AddressBookSection.ATTENDANCE, attendances.checksum.getValue());
+            SectionChecksum budgetChecksum = new SectionChecksum();
+            addressBook.getBudget().ifPresent(modelBudget -> budgetChecksum.add(SectionChecksum.of(modelBudget)));
+            checksums.put(AddressBookSection.BUDGET, budgetChecksum.getValue());
+            return checksums.equals(expectedChecksums) ? Optional.of(addressBook) : Optional.empty();
+        } catch (IllegalValueException | RuntimeException e) {
+            return Optional.empty();
+        }
+    }
+
+    private AddressBook merge() throws IllegalValueException {
+        persons.submitPending();
+        events.submitPending();
+        tasks.submitPending();
+        attendances.submitPending();
+
+        AddressBook addressBook = new AddressBook();
+        try {
+            persons.mergeInto(person -> {
+                if (addressBook.hasPerson(person)) {
+                    throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+                }
+                addressBook.addPerson(person);
+            });
+            events.mergeInto(event -> {
+                if (addressBook.hasEvent(event)) {
+                    throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_EVENT);
+                }
+                addressBook.addEvent(event);
+            });
+            tasks.mergeInto(task -> {
+                if (addressBook.hasTask(task)) {
+                    throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_TASK);
+                }
+                addressBook.addTask(task);
+            });
+            attendances.mergeInto(attendance -> {
+                if (addressBook.hasAttendance(attendance)) {
+                    throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_ATTENDANCE);
+                }
+                addressBook.addAttendance(attendance);
+            });
+        } catch (IllegalValueException | RuntimeException e) {
+            // The remaining chunks are of no use once the data is known to be invalid
+            persons.cancel();
+            events.cancel();
+            tasks.cancel();
+            attendances.cancel();
+            throw e;
+        }
+        if (budget != null) {
+            addressBook.setBudget(budget.toModelType());
+        }
+        return addressBook;
+    }
+
+    /**
+     * The elements of one section of the address book, split into chunks that are converted in parallel.
+     */
+    private static class Section<J, M> {
+        private final Converter<J, M> converter;
+        private final ToIntFunction<M> checksumOf; // null if the checksum is not needed
+        private final SectionChecksum checksum = new SectionChecksum();
+        private final List<ConvertChunk<J, M>> chunks = new ArrayList<>();
+        private List<J> pending = new ArrayList<>();
+
+        Section(Converter<J, M> converter, ToIntFunction<M> checksumOf) {
+            this.converter = converter;
+            this.checksumOf = checksumOf;
+        }
+
+        void add(J element) {
+            requireNonNull(element);
+            pending.add(element);
+            if (pending.size() == CHUNK_SIZE) {
+                submitPending();
+            }
+        }
+
+        void submitPending() {
+            if (pending.isEmpty()) {
+                return;
+            }
+            ConvertChunk<J, M> chunk = new ConvertChunk<>(pending, converter, checksumOf);
+            chunk.fork();
+            chunks.add(chunk);
+            pending = new ArrayList<>();
+        }
+
+        /**
+         * Passes the converted elements to {@code merger} in order, stopping at the first element that could not be
+         * converted. Their checksums are added to the checksum of the section as they are merged.
+         */
+        void mergeInto(Merger<M> merger) throws IllegalValueException {
+            for (ConvertChunk<J, M> chunk : chunks) {
+                ConvertedChunk<M> converted = chunk.join();
+                for (int i = 0; i < converted.elements.size(); i++) {
+                    merger.merge(converted.elements.get(i));
+                    if (converted.checksums != null) {
+                        checksum.add(converted.checksums[i]);
+                    }
+                }
+                if (converted.failure != null) {
+                    throw converted.failure;
+                }
+            }
+        }
+
+        void cancel() {
+            chunks.forEach(chunk -> chunk.cancel(false));
+        }
+    }
+
+    /**
+     * Converts a chunk of elements in order, up to the first element that cannot be converted, and computes the
+     * checksums of the converted elements if needed.
+     */
+    private static class ConvertChunk<J, M> extends RecursiveTask<ConvertedChunk<M>> {
+        private final Converter<J, M> converter;
+        private final ToIntFunction<M> checksumOf; // null if checksums are not needed
+        private List<J> elements; // released once converted
+
+        ConvertChunk(List<J> elements, Converter<J, M> converter, ToIntFunction<M> checksumOf) {
+            this.elements = elements;
+            this.converter = converter;
+            this.checksumOf = checksumOf;
+        }
+
+        @Override
+        protected ConvertedChunk<M> compute() {
+            List<J> toConvert = elements;
+            elements = null;
+            List<M> converted = new ArrayList<>(toConvert.size());
+            int[] checksums = checksumOf == null ? null : new int[toConvert.size()];
+            for (J element : toConvert) {
+                try {
+                    M convertedElement = converter.convert(element);
+                    if (checksums != null) {
+                        checksums[converted.size()] = checksumOf.applyAsInt(convertedElement);
+                    }
+                    converted.add(convertedElement);
+                } catch (IllegalValueException e) {
+                    return new ConvertedChunk<>(converted, checksums, e);
+                } catch (RuntimeException e) {
+                    if (checksumOf == null) {
+                        throw e;
+                    }
+                    // Elements converted without validation may be missing fields, and are then validated instead
+                    return new ConvertedChunk<>(converted, checksums, new IllegalValueException(e.toString(), e));
+                }
+            }
+            return new ConvertedChunk<>(converted, checksums, null);
+        }
+    }
+
+    /**
+     * The elements converted from a chunk, their checksums, and the reason the element after them could not be
+     * converted, if any.
+     */
+    private static class ConvertedChunk<M> {
+        private final List<M> elements;
+        private final int[] checksums; // null if not computed
+        private final IllegalValueException failure; // null if the whole chunk was converted
+
+        ConvertedChunk(List<M> elements, int[] checksums, IllegalValueException failure) {
+            this.elements = elements;
+            this.checksums = checksums;
+            this.failure = failure;
+        }
+    }
+
+    @FunctionalInterface
+    private interface Converter<J, M> {
+        M convert(J element) throws IllegalValueException;
+    }
+
+    @FunctionalInterface
+    private interface Merger<M> {
+        void merge(M element) throws IllegalValueException;
+    }
+}
@@ -0,0 +1,467 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReversibleEdit;
+
+/**
+ * An append-only journal of the changes made to an address book since its data file was last written.
+ * Each record holds the {@code ReversibleEdit}s made by one command as {@code JsonAdaptedEdit}s, so saving a command
+ * costs one small append instead of a rewrite of the whole data file. The values in a record are validated as
+ * strictly as those read from the data file when the record is replayed. Appends are forced to the disk in groups,
+ * shortly after the first unforced append.
+ *
+ * When the journal grows past a threshold, it is compacted in the background: the journal is set aside, a new data
+ * file is written from a copy of the address book, and the set-aside journal is deleted. Before a new data file
+ * replaces the old one, a marker holding its checksum is appended to the journal, so that replaying the journal
+ * after a crash can tell which changes the data file already holds.
+ */
+class AddressBookJournal {
+
+    /** Writes a full copy of the address book to a file. */
+    @FunctionalInterface
+    interface SnapshotWriter {
+        void write(Path filePath) throws IOException;
+    }
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookJournal.class);
+
+    private static final long DEFAULT_COMPACTION_THRESHOLD_BYTES = 1024 * 1024;
+    private static final long GROUP_SYNC_DELAY_MILLIS = 100;
+
+    private static final byte CHANGES_RECORD = 1;
+    private static final byte SNAPSHOT_MARKER_RECORD = 2;
+    private static final int RECORD_HEADER_BYTES = Integer.BYTES + Integer.BYTES + Byte.BYTES;
+
+    private final Path snapshotFilePath;
+    private final Path journalFilePath;
+    private final Path compactingJournalFilePath; // the journal set aside by a compaction that has not completed
+    private final Path temporarySnapshotFilePath;
+    private final long compactionThresholdBytes;
+    private final ScheduledExecutorService syncExecutor;
+    private final ExecutorService compactionExecutor;
+
+    private FileChannel journal; // null until the first append
+    private long journalBytes;
+    private boolean isSyncPending;
+    private Future<?> compaction; // null if no compaction has been started
+
+    /**
+     * Creates a journal for the data file at {@code snapshotFilePath}, kept in a file next to it.
+     */
+    AddressBookJournal(Path snapshotFilePath) {
+        this(snapshotFilePath, DEFAULT_COMPACTION_THRESHOLD_BYTES);
+    }
+
+    /**
+     * Creates a journal for the data file at {@code snapshotFilePath} that is compacted once it holds more than
+     * {@code compactionThresholdBytes}.
+     */
+    AddressBookJournal(Path snapshotFilePath, long compactionThresholdBytes) {
+        requireNonNull(snapshotFilePath);
+        this.snapshotFilePath = snapshotFilePath;
+        this.journalFilePath = siblingOf(snapshotFilePath, ".journal");
+        this.compactingJournalFilePath = siblingOf(snapshotFilePath, ".journal.compacting");
+        this.temporarySnapshotFilePath = siblingOf(snapshotFilePath, ".tmp");
+        this.compactionThresholdBytes = compactionThresholdBytes;
+        // Syncs and compactions run on separate threads, as a sync may wait for a method that awaits a compaction
+        this.syncExecutor = Executors.newSingleThreadScheduledExecutor(AddressBookJournal::newDaemonThread);
+        this.compactionExecutor = Executors.newSingleThreadExecutor(AddressBookJournal::newDaemonThread);
+    }
+
+    /**
+     * Returns true if no changes are waiting in the journal to be folded into the data file.
+     */
+    synchronized boolean isEmpty() {
+        return journalBytes == 0 && !Files.exists(journalFilePath) && !Files.exists(compactingJournalFilePath);
+    }
+
+    /**
+     * Appends a record of {@code changes} to the journal.
+     */
+    synchronized void append(List<ReversibleEdit> changes) throws IOException {
+        requireNonNull(changes);
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        List<JsonAdaptedEdit> adaptedChanges = new ArrayList<>(changes.size());
+        for (ReversibleEdit change : changes) {
+            adaptedChanges.add(JsonAdaptedEdit.of(change));
+        }
+        byte[] payload = JsonUtil.toJsonString(adaptedChanges).getBytes(StandardCharsets.UTF_8);
+        appendRecord(openJournal(), CHANGES_RECORD, payload);
+        scheduleSync();
+    }
+
+    /**
+     * Returns true if the journal has grown enough to be compacted, and no compaction is running.
+     */
+    synchronized boolean shouldCompact() {
+        return journalBytes > compactionThresholdBytes && (compaction == null || compaction.isDone());
+    }
+
+    /**
+     * Sets the journal aside and writes a new data file in the background with {@code snapshotWriter}.
+     * The snapshot written must hold every change appended to the journal so far.
+     */
+    synchronized void compactInBackground(SnapshotWriter snapshotWriter) throws IOException {
+        requireNonNull(snapshotWriter);
+        awaitCompaction();
+        setJournalAside();
+        compaction = compactionExecutor.submit(() -> {
+            try {
+                writeSnapshot(snapshotWriter, compactingJournalFilePath);
+                Files.deleteIfExists(compactingJournalFilePath);
+                logger.fine("Compacted the journal into " + snapshotFilePath);
+            } catch (IOException e) {
+                // The set-aside journal is kept, so the changes it holds are replayed or folded in later
+                logger.warning("Could not compact the journal into " + snapshotFilePath + ": " + e.getMessage());
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Replaces the data file with a new one written by {@code snapshotWriter}, and empties the journal.
+     * The snapshot written must hold every change appended to the journal so far.
+     */
+    synchronized void writeSnapshotAndClear(SnapshotWriter snapshotWriter) throws IOException {
+        requireNonNull(snapshotWriter);
+        awaitCompaction();
+        if (journal != null) {
+            journal.force(false);
+        }
+        writeSnapshot(snapshotWriter, Files.exists(journalFilePath) ? journalFilePath : compactingJournalFilePath);
+        clear();
+    }
+
+    /**
+     * Makes the changes held by the journal on {@code addressBook}, which must hold the contents of the data file.
+     * A record that was only partly written before a crash ends the replay, and is cut off from the journal.
+     *
+     * @return the number of commands replayed.
+     * @throws DataLoadingException if the journal could not be read, or does not apply to the data file.
+     */
+    synchronized int replay(AddressBook addressBook) throws DataLoadingException {
+        requireNonNull(addressBook);
+        try {
+            awaitCompaction();
+            List<Record> records = new ArrayList<>();
+            records.addAll(readRecords(compactingJournalFilePath));
+            records.addAll(readRecords(journalFilePath));
+
+            int firstRecordToReplay = 0;
+            long snapshotChecksum = Files.exists(snapshotFilePath) ? checksumOf(snapshotFilePath) : 0;
+            for (int i = 0; i < records.size(); i++) {
+                if (records.get(i).isSnapshotMarkerFor(snapshotChecksum)) {
+                    // The data file already holds this record and every record before it
+                    firstRecordToReplay = i + 1;
+                }
+            }
+
+            int commandsReplayed = 0;
+            for (Record record : records.subList(firstRecordToReplay, records.size())) {
+                if (record.type == CHANGES_RECORD) {
+                    for (JsonAdaptedEdit edit : record.readChanges()) {
+                        edit.redo(addressBook);
+                    }
+                    commandsReplayed++;
+                }
+            }
+            return commandsReplayed;
+        } catch (IOException | IllegalValueException | RuntimeException e) {
+            throw new DataLoadingException(e);
+        }
+    }
+
+    /**
+     * Moves the journal aside, so that the changes it holds are no longer replayed, but are kept in files next to the
+     * data file for recovery by hand.
+     *
+     * @return the files the journal was moved to.
+     */
+    synchronized List<Path> setAside() throws IOException {
+        try {
+            awaitCompaction();
+        } catch (IOException e) {
+            // The journal set aside by the compaction is moved along with the rest
+            logger.warning("Could not compact the journal into " + snapshotFilePath + ": " + e.getMessage());
+        }
+        closeJournal();
+        String suffix = ".unreadable-" + System.currentTimeMillis();
+        List<Path> setAsideFilePaths = new ArrayList<>();
+        for (Path filePath : List.of(compactingJournalFilePath, journalFilePath)) {
+            if (Files.exists(filePath)) {
+                Path setAsideFilePath = siblingOf(filePath, suffix);
+                Files.move(filePath, setAsideFilePath);
+                setAsideFilePaths.add(setAsideFilePath);
+            }
+        }
+        return setAsideFilePaths;
+    }
+
+    /**
+     * Discards every change held by the journal.
+     */
+    synchronized void clear() throws IOException {
+        awaitCompaction();
+        closeJournal();
+        Files.deleteIfExists(journalFilePath);
+        Files.deleteIfExists(compactingJournalFilePath);
+    }
+
+    /**
+     * Waits for a running compaction to complete, and forces the journal to the disk.
+     */
+    synchronized void sync() throws IOException {
+        awaitCompaction();
+        if (journal != null) {
+            journal.force(false);
+        }
+        isSyncPending = false;
+    }
+
+    private FileChannel openJournal() throws IOException {
+        if (journal == null) {
+            journal = FileChannel.open(journalFilePath, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+            journalBytes = journal.size();
+        }
+        return journal;
+    }
+
+    private void closeJournal() throws IOException {
+        if (journal != null) {
+            journal.close();
+            journal = null;
+        }
+        journalBytes = 0;
+        isSyncPending = false;
+    }
+
+    private void appendRecord(FileChannel channel, byte type, byte[] payload) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(RECORD_HEADER_BYTES + payload.length);
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(payload.length);
+        out.writeInt((int) checksumOf(type, payload));
+        out.writeByte(type);
+        out.write(payload);
+
+        ByteBuffer buffer = ByteBuffer.wrap(bytes.toByteArray());
+        long start = channel.size();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer, start + buffer.position());
+        }
+        if (channel == journal) {
+            journalBytes = start + buffer.limit();
+        }
+    }
+
+    private void scheduleSync() {
+        if (isSyncPending) {
+            return;
+        }
+        isSyncPending = true;
+        syncExecutor.schedule(() -> {
+            try {
+                syncIfPending();
+            } catch (IOException e) {
+                logger.warning("Could not force the journal to the disk: " + e.getMessage());
+            }
+        }, GROUP_SYNC_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    private synchronized void syncIfPending() throws IOException {
+        if (isSyncPending && journal != null) {
+            journal.force(false);
+        }
+        isSyncPending = false;
+    }
+
+    /**
+     * Moves the records of the journal to the end of the set-aside journal, and starts a new journal.
+     */
+    private void setJournalAside() throws IOException {
+        if (journal != null) {
+            journal.force(false);
+        }
+        closeJournal();
+        if (!Files.exists(journalFilePath)) {
+            return;
+        }
+        if (!Files.exists(compactingJournalFilePath)) {
+            Files.move(journalFilePath, compactingJournalFilePath);
+            return;
+        }
+        // A previous compaction did not complete, so its set-aside journal is still needed
+        try (FileChannel from = FileChannel.open(journalFilePath, StandardOpenOption.READ);
+                FileChannel to = FileChannel.open(compactingJournalFilePath, StandardOpenOption.WRITE)) {
+            long size = from.size();
+            long transferred = 0;
+            while (transferred < size) {
+                transferred += from.transferTo(transferred, size - transferred, to.position(to.size()));
+            }
+            to.force(false);
+        }
+        Files.delete(journalFilePath);
+    }
+
+    /**
+     * Writes a new data file with {@code snapshotWriter} and moves it over the old one, once the journal at
+     * {@code coveredJournalFilePath} records that the new data file holds its changes and those of older journals.
+     */
+    private void writeSnapshot(SnapshotWriter snapshotWriter, Path coveredJournalFilePath) throws IOException {
+        try {
+            snapshotWriter.write(temporarySnapshotFilePath);
+            byte[] marker = ByteBuffer.allocate(Long.BYTES).putLong(checksumOf(temporarySnapshotFilePath)).array();
+            if (Files.exists(coveredJournalFilePath)) {
+                try (FileChannel channel = FileChannel.open(coveredJournalFilePath, StandardOpenOption.WRITE)) {
+                    appendRecord(channel, SNAPSHOT_MARKER_RECORD, marker);
+                    channel.force(false);
+                }
+            }
+            moveReplacing(temporarySnapshotFilePath, snapshotFilePath);
+        } finally {
+            Files.deleteIfExists(temporarySnapshotFilePath);
+        }
+    }
+
+    private void awaitCompaction() throws IOException {
+        if (compaction == null) {
+            return;
+        }
+        try {
+            compaction.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for the journal to be compacted", e);
+        } catch (ExecutionException e) {
+            throw new IOException(e.getCause());
+        } finally {
+            compaction = null;
+        }
+    }
+
+    /**
+     * Returns the complete records of the journal at {@code filePath}, cutting off a partly written record at its end.
+     */
+    private List<Record> readRecords(Path filePath) throws IOException {
+        List<Record> records = new ArrayList<>();
+        if (!Files.exists(filePath)) {
+            return records;
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(filePath));
+        while (buffer.remaining() >= RECORD_HEADER_BYTES) {
+            int start = buffer.position();
+            int length = buffer.getInt();
+            int checksum = buffer.getInt();
+            byte type = buffer.get();
+            if (length < 0 || length > buffer.remaining()) {
+                buffer.position(start);
+                break;
+            }
+            byte[] payload = new byte[length];
+            buffer.get(payload);
+            if ((int) checksumOf(type, payload) != checksum) {
+                buffer.position(start);
+                break;
+            }
+            records.add(new Record(type, payload));
+        }
+
+        if (buffer.hasRemaining()) {
+            logger.warning("Discarding a partly written record at the end of " + filePath);
+            try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.WRITE)) {
+                channel.truncate(buffer.position());
+            }
+        }
+        return records;
+    }
+
+    private static Thread newDaemonThread(Runnable runnable) {
+        Thread thread = new Thread(runnable, "address-book-journal");
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    private static long checksumOf(byte type, byte[] payload) {
+        CRC32 crc = new CRC32();
+        crc.update(type);
+        crc.update(payload);
+        return crc.getValue();
+    }
+
+    private static long checksumOf(Path filePath) throws IOException {
+        CRC32 crc = new CRC32();
+        crc.update(Files.readAllBytes(filePath));
+        return crc.getValue();
+    }
+
+    private static void moveReplacing(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static Path siblingOf(Path filePath, String suffix) {
+        return filePath.resolveSibling(filePath.getFileName() + suffix);
+    }
+
+    /**
+     * A complete record read back from the journal.
+     */
+    private static class Record {
+        private final byte type;
+        private final byte[] payload;
+
+        private Record(byte type, byte[] payload) {
+            this.type = type;
+            this.payload = payload;
+        }
+
+        private boolean isSnapshotMarkerFor(long snapshotChecksum) {
+            return type == SNAPSHOT_MARKER_RECORD && payload.length == Long.BYTES
+                    && ByteBuffer.wrap(payload).getLong() == snapshotChecksum;
+        }
+
+        private List<JsonAdaptedEdit> readChanges() throws IOException {
+            JsonAdaptedEdit[] changes =
+                    JsonUtil.fromJsonString(new String(payload, StandardCharsets.UTF_8), JsonAdaptedEdit[].class);
+            if (changes == null) {
+                throw new IOException(JsonAdaptedEdit.MESSAGE_INVALID_EDIT);
+            }
+            return Arrays.asList(changes);
+        }
+    }
+}
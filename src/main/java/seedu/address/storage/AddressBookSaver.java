@@ -0,0 +1,114 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReversibleEdit;
+
+/**
+ * Saves address books to a {@code Storage} on a dedicated thread, so that the caller does not wait for the disk.
+ * Saves requested while an earlier one is being written are coalesced: their changes are saved together, along
+ * with the latest state of the address book, in a single write.
+ * Failed saves are reported to the failure handler on the saving thread.
+ */
+public class AddressBookSaver {
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookSaver.class);
+
+    private final Storage storage;
+    private final ExecutorService executor;
+    private final List<ReversibleEdit> pendingChanges = new ArrayList<>();
+
+    private ReadOnlyAddressBook pendingAddressBook; // null if no save is pending
+    private Consumer<IOException> failureHandler = e -> {};
+    private boolean hasFailed; // true if the last save failed
+
+    /**
+     * Creates an {@code AddressBookSaver} that saves to {@code storage}.
+     */
+    public AddressBookSaver(Storage storage) {
+        requireNonNull(storage);
+        this.storage = storage;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "address-book-saver");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Sets the handler that is told about failed saves. It is called on the saving thread.
+     */
+    public synchronized void setFailureHandler(Consumer<IOException> failureHandler) {
+        requireNonNull(failureHandler);
+        this.failureHandler = failureHandler;
+    }
+
+    /**
+     * Saves {@code addressBook} in the background, given the {@code changes} made to it since the previous save.
+     * {@code addressBook} must not be modified afterwards, such as a snapshot returned by
+     * {@link ReadOnlyAddressBook#snapshot()}.
+     */
+    public synchronized void save(ReadOnlyAddressBook addressBook, List<ReversibleEdit> changes) {
+        requireNonNull(addressBook);
+        requireNonNull(changes);
+        boolean isWriteScheduled = pendingAddressBook != null;
+        pendingAddressBook = addressBook;
+        pendingChanges.addAll(changes);
+        if (!isWriteScheduled) {
+            executor.execute(this::writePending);
+        }
+    }
+
+    /**
+     * Waits until every save requested so far has been written or has failed.
+     *
+     * @return true if the last save failed.
+     */
+    public boolean flush() throws InterruptedException {
+        try {
+            executor.submit(() -> {}).get();
+        } catch (ExecutionException e) {
+            throw new AssertionError("An empty task cannot fail", e);
+        }
+        synchronized (this) {
+            return hasFailed;
+        }
+    }
+
+    private void writePending() {
+        ReadOnlyAddressBook addressBook;
+        List<ReversibleEdit> changes;
+        Consumer<IOException> handler;
+        synchronized (this) {
+            addressBook = pendingAddressBook;
+            changes = List.copyOf(pendingChanges);
+            handler = failureHandler;
+            pendingAddressBook = null;
+            pendingChanges.clear();
+        }
+
+        boolean isSaved = false;
+        try {
+            storage.saveAddressBookChanges(addressBook, changes);
+            isSaved = true;
+        } catch (IOException e) {
+            logger.warning("Could not save the address book: " + e.getMessage());
+            handler.accept(e);
+        } finally {
+            synchronized (this) {
+                hasFailed = !isSaved;
+            }
+        }
+    }
+}
@@ -1,9 +1,12 @@
 package seedu.address.storage;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
 
+import seedu.address.commons.core.AddressBookFormat;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.ReadOnlyAddressBook;
 
@@ -12,6 +15,22 @@ import seedu.address.model.ReadOnlyAddressBook;
  */
 public interface AddressBookStorage {
 
+    /**
+     * Returns an {@code AddressBookStorage} that stores the address book at {@code filePath} in {@code format}.
+     */
+    static AddressBookStorage forFormat(AddressBookFormat format, Path filePath) {
+        requireNonNull(format);
+        switch (format) {
+        case BINARY:
+            return new BinaryAddressBookStorage(filePath);
+        case SHARDED:
+            return new ShardedAddressBookStorage(filePath);
+        case JSON:
+        default:
+            return new JsonAddressBookStorage(filePath);
+        }
+    }
+
     /**
      * Returns the file path of the data file.
      */
@@ -0,0 +1,457 @@
+package seedu.address.storage;
+
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.attendance.Attendance;
+import seedu.address.model.budget.Budget;
+import seedu.address.model.common.Money;
+import seedu.address.model.event.Event;
+import seedu.address.model.event.EventId;
+import seedu.address.model.person.DietaryRequirements;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Role;
+import seedu.address.model.person.StudentNumber;
+import seedu.address.model.person.Year;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.task.Task;
+
+/**
+ * Encodes address books in the binary snapshot format, and decodes them back.
+ * <p>
+ * A snapshot starts with {@link #MAGIC} and its version, followed by:
+ * <ul>
+ * <li>dictionaries of the distinct tags, roles, years and dietary requirements,</li>
+ * <li>the persons, whose dictionary-encoded fields are indices into those dictionaries,</li>
+ * <li>the events, with dates as epoch days and expenses in cents,</li>
+ * <li>the tasks, with deadlines as an epoch day and a nano of day,</li>
+ * <li>the attendances, which refer to their member and event by ordinal in the lists above, and</li>
+ * <li>the budget, if any.</li>
+ * </ul>
+ * Strings are stored as a length in bytes followed by their UTF-8 encoding.
+ * Decoded values are validated as strictly as those read from a JSON file.
+ * <p>
+ * Snapshots of version 2, which also held the offset of each person's record and ended with a CRC32 checksum, can
+ * still be read, but are no longer written.
+ */
+final class BinaryAddressBookFormat {
+
+    public static final int MAGIC = 0x41424B53; // "ABKS"
+    public static final int VERSION = 1;
+
+    public static final String MESSAGE_NOT_BINARY =
+            "Not a binary address book file. Use the convert command to convert JSON data files.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION_FORMAT =
+            "Binary address book file has version %d, but only versions up to %d are supported.";
+    public static final String MESSAGE_CORRUPTED = "Binary address book file is corrupted";
+    public static final String MESSAGE_AMOUNT_TOO_LARGE_FORMAT =
+            "The amount %s is too large for a binary address book file. Save it as a JSON file instead.";
+
+    private static final int VERSION_WITH_CHECKSUM = 2;
+    private static final int CHECKSUM_BYTES = Long.BYTES;
+    private static final int NO_ORDINAL = -1; // an attendance whose member or event is not in the address book
+    private static final int MAX_STRING_BYTES = 1 << 20;
+
+    private BinaryAddressBookFormat() {}
+
+    /**
+     * Writes {@code addressBook} to {@code out} in the current version of the format.
+     */
+    static void write(ReadOnlyAddressBook addressBook, OutputStream out) throws IOException {
+        DataOutputStream dataOut = new DataOutputStream(out);
+
+        List<Person> persons = addressBook.getPersonList();
+        Dictionary<Tag> tags = new Dictionary<>();
+        Dictionary<Role> roles = new Dictionary<>();
+        Dictionary<Year> years = new Dictionary<>();
+        Dictionary<DietaryRequirements> dietaryRequirements = new Dictionary<>();
+        for (Person person : persons) {
+            person.getTags().forEach(tags::add);
+            roles.add(person.getRole());
+            years.add(person.getYear());
+            dietaryRequirements.add(person.getDietaryRequirements());
+        }
+
+        dataOut.writeInt(MAGIC);
+        dataOut.writeInt(VERSION);
+        writeDictionary(dataOut, tags, tag -> tag.tagName);
+        writeDictionary(dataOut, roles, role -> role.value);
+        writeDictionary(dataOut, years, Year::toString);
+        writeDictionary(dataOut, dietaryRequirements, dietary -> dietary.value);
+
+        Map<Name, Integer> personOrdinals = new HashMap<>();
+        dataOut.writeInt(persons.size());
+        for (int i = 0; i < persons.size(); i++) {
+            Person person = persons.get(i);
+            personOrdinals.putIfAbsent(person.getName(), i);
+            writeString(dataOut, person.getName().fullName);
+            dataOut.writeInt(years.indexOf(person.getYear()));
+            writeString(dataOut, person.getStudentNumber().value);
+            writeString(dataOut, person.getEmail().value);
+            writeString(dataOut, person.getPhone().value);
+            dataOut.writeInt(dietaryRequirements.indexOf(person.getDietaryRequirements()));
+            dataOut.writeInt(roles.indexOf(person.getRole()));
+            dataOut.writeInt(person.getTags().size());
+            for (Tag tag : person.getTags()) {
+                dataOut.writeInt(tags.indexOf(tag));
+            }
+        }
+
+        List<Event> events = addressBook.getEventList();
+        Map<EventId, Integer> eventOrdinals = new HashMap<>();
+        dataOut.writeInt(events.size());
+        for (int i = 0; i < events.size(); i++) {
+            Event event = events.get(i);
+            eventOrdinals.putIfAbsent(event.getEventId(), i);
+            writeString(dataOut, event.getEventId().value);
+            dataOut.writeLong(event.getDate().toEpochDay());
+            writeString(dataOut, event.getDescription());
+            writeCents(dataOut, event.getExpense());
+        }
+
+        List<Task> tasks = addressBook.getTaskList();
+        dataOut.writeInt(tasks.size());
+        for (Task task : tasks) {
+            writeString(dataOut, task.getTitle());
+            LocalDateTime deadline = task.getDeadline();
+            dataOut.writeBoolean(deadline != null);
+            if (deadline != null) {
+                dataOut.writeLong(deadline.toLocalDate().toEpochDay());
+                dataOut.writeLong(deadline.toLocalTime().toNanoOfDay());
+            }
+            dataOut.writeBoolean(task.isDone());
+        }
+
+        List<Attendance> attendances = addressBook.getAttendanceList();
+        dataOut.writeInt(attendances.size());
+        for (Attendance attendance : attendances) {
+            writeReference(dataOut, personOrdinals.get(attendance.getMemberName()),
+                    attendance.getMemberName().fullName);
+            writeReference(dataOut, eventOrdinals.get(attendance.getEventId()), attendance.getEventId().value);
+            dataOut.writeBoolean(attendance.hasAttended());
+        }
+
+        Optional<Budget> budget = addressBook.getBudget();
+        dataOut.writeBoolean(budget.isPresent());
+        if (budget.isPresent()) {
+            writeCents(dataOut, budget.get().getAmount());
+            dataOut.writeLong(budget.get().getStartDate().toEpochDay());
+            dataOut.writeLong(budget.get().getEndDate().toEpochDay());
+        }
+        dataOut.flush();
+    }
+
+    /**
+     * Reads an address book from {@code buffer}, which holds a whole snapshot.
+     *
+     * @throws IOException if {@code buffer} does not hold a complete snapshot of a supported version.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static ReadOnlyAddressBook read(ByteBuffer buffer) throws IOException, IllegalValueException {
+        try {
+            if (buffer.getInt() != MAGIC) {
+                throw new IOException(MESSAGE_NOT_BINARY);
+            }
+            int version = buffer.getInt();
+            if (version == VERSION) {
+                return readContents(buffer, false);
+            }
+            if (version != VERSION_WITH_CHECKSUM) {
+                throw new IOException(String.format(MESSAGE_UNSUPPORTED_VERSION_FORMAT, version,
+                        VERSION_WITH_CHECKSUM));
+            }
+
+            verifyChecksum(buffer);
+            ByteBuffer contents = buffer.slice();
+            contents.limit(contents.limit() - CHECKSUM_BYTES);
+            return readContents(contents, true);
+        } catch (BufferUnderflowException e) {
+            throw new IOException(MESSAGE_CORRUPTED, e);
+        } catch (IllegalArgumentException | DateTimeException e) {
+            // Thrown when creating model values that violate their constraints
+            throw new IllegalValueException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Checks that the checksum at the end of {@code buffer} matches the rest of its contents.
+     */
+    private static void verifyChecksum(ByteBuffer buffer) throws IOException {
+        if (buffer.limit() < CHECKSUM_BYTES) {
+            throw new IOException(MESSAGE_CORRUPTED);
+        }
+        int checksumPosition = buffer.limit() - CHECKSUM_BYTES;
+        ByteBuffer checkedContents = buffer.duplicate();
+        checkedContents.position(0).limit(checksumPosition);
+        CRC32 crc = new CRC32();
+        crc.update(checkedContents);
+        if (crc.getValue() != buffer.getLong(checksumPosition)) {
+            throw new IOException(MESSAGE_CORRUPTED);
+        }
+    }
+
+    private static ReadOnlyAddressBook readContents(ByteBuffer in, boolean hasPersonOffsets)
+            throws IOException, IllegalValueException {
+        PersonDictionaries dictionaries = new PersonDictionaries(
+                readDictionary(in, Tag::new),
+                readDictionary(in, Role::new),
+                readDictionary(in, Year::new),
+                readDictionary(in, DietaryRequirements::new));
+
+        AddressBook addressBook = new AddressBook();
+        int personCount = readCount(in);
+        if (hasPersonOffsets) {
+            // The persons are decoded in order, so the offsets of their records, and their total length, are skipped
+            if (personCount > in.remaining() / Integer.BYTES - 1) {
+                throw new IOException(MESSAGE_CORRUPTED);
+            }
+            in.position(in.position() + (personCount + 1) * Integer.BYTES);
+        }
+        for (int i = 0; i < personCount; i++) {
+            addPerson(addressBook, readPerson(in, dictionaries));
+        }
+        Function<Integer, Name> personNames = ordinal -> addressBook.getPersonList().get(ordinal).getName();
+
+        List<Event> events = new ArrayList<>();
+        int eventCount = readCount(in);
+        for (int i = 0; i < eventCount; i++) {
+            EventId eventId = new EventId(readString(in));
+            LocalDate date = LocalDate.ofEpochDay(in.getLong());
+            String description = readString(in);
+            if (!Event.isValidDescription(description)) {
+                throw new IllegalValueException(Event.DESCRIPTION_CONSTRAINTS);
+            }
+            Money expense = Money.ofCents(in.getLong());
+
+            Event event = new Event(eventId, date, description, expense);
+            if (addressBook.hasEvent(event)) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_EVENT);
+            }
+            addressBook.addEvent(event);
+            events.add(event);
+        }
+
+        int taskCount = readCount(in);
+        for (int i = 0; i < taskCount; i++) {
+            String title = readString(in);
+            if (!Task.isValidTitle(title)) {
+                throw new IllegalValueException(Task.MESSAGE_CONSTRAINTS);
+            }
+            LocalDateTime deadline = null;
+            if (readBoolean(in)) {
+                deadline = LocalDateTime.of(LocalDate.ofEpochDay(in.getLong()), LocalTime.ofNanoOfDay(in.getLong()));
+            }
+
+            Task task = new Task(title, deadline, readBoolean(in));
+            if (addressBook.hasTask(task)) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_TASK);
+            }
+            addressBook.addTask(task);
+        }
+
+        int attendanceCount = readCount(in);
+        for (int i = 0; i < attendanceCount; i++) {
+            Name memberName = readReference(in, personCount, personNames, Name::new);
+            EventId eventId = readReference(in, events.size(), ordinal -> events.get(ordinal).getEventId(),
+                    EventId::new);
+
+            Attendance attendance = new Attendance(eventId, memberName, readBoolean(in));
+            if (addressBook.hasAttendance(attendance)) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_ATTENDANCE);
+            }
+            addressBook.addAttendance(attendance);
+        }
+
+        if (readBoolean(in)) {
+            Money amount = Money.ofCents(in.getLong());
+            LocalDate startDate = LocalDate.ofEpochDay(in.getLong());
+            LocalDate endDate = LocalDate.ofEpochDay(in.getLong());
+            addressBook.setBudget(new Budget(amount, startDate, endDate));
+        }
+
+        return addressBook;
+    }
+
+    private static void addPerson(AddressBook addressBook, Person person) throws IllegalValueException {
+        if (addressBook.hasPerson(person)) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+        }
+        addressBook.addPerson(person);
+    }
+
+    /**
+     * Reads the person whose record starts at the position of {@code in}.
+     */
+    private static Person readPerson(ByteBuffer in, PersonDictionaries dictionaries) throws IOException {
+        Name name = new Name(readString(in));
+        Year year = lookUp(dictionaries.years, in.getInt());
+        StudentNumber studentNumber = new StudentNumber(readString(in));
+        Email email = new Email(readString(in));
+        Phone phone = new Phone(readString(in));
+        DietaryRequirements dietary = lookUp(dictionaries.dietaryRequirements, in.getInt());
+        Role role = lookUp(dictionaries.roles, in.getInt());
+        Set<Tag> tags = new HashSet<>();
+        int tagCount = readCount(in);
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(lookUp(dictionaries.tags, in.getInt()));
+        }
+        return new Person(name, year, studentNumber, email, phone, dietary, role, tags);
+    }
+
+    private static <T> void writeDictionary(DataOutput out, Dictionary<T> dictionary, Function<T, String> toString)
+            throws IOException {
+        out.writeInt(dictionary.values.size());
+        for (T value : dictionary.values) {
+            writeString(out, toString.apply(value));
+        }
+    }
+
+    /**
+     * Reads a dictionary, creating each of its values once with {@code constructor}.
+     */
+    private static <T> List<T> readDictionary(ByteBuffer in, Function<String, T> constructor) throws IOException {
+        int size = readCount(in);
+        List<T> values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            values.add(constructor.apply(readString(in)));
+        }
+        return values;
+    }
+
+    private static <T> T lookUp(List<T> values, int index) throws IOException {
+        if (index < 0 || index >= values.size()) {
+            throw new IOException("Binary address book file refers to a missing value");
+        }
+        return values.get(index);
+    }
+
+    /**
+     * Writes a reference to the element at {@code ordinal}, or to {@code value} itself if {@code ordinal} is null.
+     */
+    private static void writeReference(DataOutput out, Integer ordinal, String value) throws IOException {
+        if (ordinal == null) {
+            out.writeInt(NO_ORDINAL);
+            writeString(out, value);
+        } else {
+            out.writeInt(ordinal);
+        }
+    }
+
+    /**
+     * Reads a reference written by {@link #writeReference}, resolving ordinals below {@code count} with
+     * {@code getter}, and values with {@code constructor}.
+     */
+    private static <T> T readReference(ByteBuffer in, int count, Function<Integer, T> getter,
+            Function<String, T> constructor) throws IOException {
+        int ordinal = in.getInt();
+        if (ordinal == NO_ORDINAL) {
+            return constructor.apply(readString(in));
+        }
+        if (ordinal < 0 || ordinal >= count) {
+            throw new IOException("Binary address book file refers to a missing value");
+        }
+        return getter.apply(ordinal);
+    }
+
+    /**
+     * Writes {@code amount} as a whole number of cents.
+     *
+     * @throws IOException if the amount is too large to be stored as a long of cents.
+     */
+    private static void writeCents(DataOutput out, Money amount) throws IOException {
+        try {
+            out.writeLong(amount.toCents());
+        } catch (ArithmeticException e) {
+            throw new IOException(String.format(MESSAGE_AMOUNT_TOO_LARGE_FORMAT, amount), e);
+        }
+    }
+
+    private static void writeString(DataOutput out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer in) throws IOException {
+        int length = in.getInt();
+        if (length < 0 || length > MAX_STRING_BYTES) {
+            throw new IOException(MESSAGE_CORRUPTED);
+        }
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static boolean readBoolean(ByteBuffer in) {
+        return in.get() != 0;
+    }
+
+    private static int readCount(ByteBuffer in) throws IOException {
+        int count = in.getInt();
+        if (count < 0) {
+            throw new IOException(MESSAGE_CORRUPTED);
+        }
+        return count;
+    }
+
+    /**
+     * The distinct values of a field, in the order they were first added.
+     */
+    private static class Dictionary<T> {
+        private final List<T> values = new ArrayList<>();
+        private final Map<T, Integer> indices = new HashMap<>();
+
+        void add(T value) {
+            indices.computeIfAbsent(value, v -> {
+                values.add(v);
+                return values.size() - 1;
+            });
+        }
+
+        int indexOf(T value) {
+            return indices.get(value);
+        }
+    }
+
+    /**
+     * The decoded dictionaries that person records refer to.
+     */
+    private static class PersonDictionaries {
+        private final List<Tag> tags;
+        private final List<Role> roles;
+        private final List<Year> years;
+        private final List<DietaryRequirements> dietaryRequirements;
+
+        PersonDictionaries(List<Tag> tags, List<Role> roles, List<Year> years,
+                List<DietaryRequirements> dietaryRequirements) {
+            this.tags = tags;
+            this.roles = roles;
+            this.years = years;
+            this.dietaryRequirements = dietaryRequirements;
+        }
+    }
+}
@@ -69,4 +69,13 @@ class JsonAdaptedAttendance {
 
         return new Attendance(modelEventId, modelName, hasAttended);
     }
+
+    /**
+     * Converts this Jackson-friendly adapted attendance object into the model's {@code Attendance} object without
+     * validating its fields, which must be known to be valid.
+     */
+    public Attendance toTrustedModelType() {
+        TrustedDecodingToken token = TrustedDecodingToken.INSTANCE;
+        return new Attendance(EventId.ofTrusted(eventId, token), Name.ofTrusted(memberName, token), hasAttended);
+    }
 }
@@ -1,9 +1,11 @@
 package seedu.address.storage;
 
 import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.budget.Budget;
 import seedu.address.model.common.Money;
 
@@ -12,6 +14,10 @@ import seedu.address.model.common.Money;
  */
 class JsonAdaptedBudget {
 
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Budget's %s field is missing!";
+    public static final String MESSAGE_INVALID_DATE =
+            "Budget dates should be in YYYY-MM-DD format, with the end date on or after the start date";
+
     private final String amount;
     private final String startDate;
     private final String endDate;
@@ -31,12 +37,38 @@ class JsonAdaptedBudget {
         this.endDate = source.getEndDate().toString();
     }
 
-    public Budget toModelType() {
-        Money money = Money.parse(amount);
-        LocalDate start = LocalDate.parse(startDate);
-        LocalDate end = LocalDate.parse(endDate);
+    /**
+     * Converts this Jackson-friendly adapted budget object into the model's {@code Budget} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted budget.
+     */
+    public Budget toModelType() throws IllegalValueException {
+        if (amount == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "amount"));
+        }
+        if (startDate == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "startDate"));
+        }
+        if (endDate == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "endDate"));
+        }
+        Money money;
+        try {
+            money = Money.parse(amount);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(e.getMessage());
+        }
+        LocalDate start;
+        LocalDate end;
+        try {
+            start = LocalDate.parse(startDate);
+            end = LocalDate.parse(endDate);
+        } catch (DateTimeParseException e) {
+            throw new IllegalValueException(MESSAGE_INVALID_DATE);
+        }
+        if (end.isBefore(start)) {
+            throw new IllegalValueException(MESSAGE_INVALID_DATE);
+        }
         return new Budget(money, start, end);
     }
 }
-
-
@@ -0,0 +1,163 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.JsonNode;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookSection;
+import seedu.address.model.EditVisitor;
+import seedu.address.model.ReversibleEdit;
+import seedu.address.model.attendance.Attendance;
+import seedu.address.model.budget.Budget;
+import seedu.address.model.event.Event;
+import seedu.address.model.person.Person;
+import seedu.address.model.task.Task;
+
+/**
+ * Jackson-friendly version of a {@link ReversibleEdit}, as it is held in the journal.
+ * Only what is needed to make the edit again is kept: a changed element with the element it replaced, the new
+ * contents of a section that was replaced as a whole, or the new budget. Every value is validated as it is read back.
+ */
+class JsonAdaptedEdit {
+
+    public static final String MESSAGE_INVALID_EDIT = "The journal holds an edit that cannot be read";
+
+    private final String section;
+    private final Integer index; // null unless a single element was changed
+    private final JsonNode before; // the element replaced or removed, or null
+    private final JsonNode after; // the element inserted or replacing another, the new section contents, or the budget
+
+    /**
+     * Constructs a {@code JsonAdaptedEdit} with the given edit details.
+     */
+    @JsonCreator
+    public JsonAdaptedEdit(@JsonProperty("section") String section, @JsonProperty("index") Integer index,
+            @JsonProperty("before") JsonNode before, @JsonProperty("after") JsonNode after) {
+        this.section = section;
+        this.index = index;
+        this.before = before;
+        this.after = after;
+    }
+
+    /**
+     * Converts a given {@code ReversibleEdit} into this class for Jackson use.
+     */
+    public static JsonAdaptedEdit of(ReversibleEdit source) {
+        List<JsonAdaptedEdit> adapted = new ArrayList<>(1);
+        source.accept(new EditVisitor() {
+            @Override
+            public void visitElementChange(AddressBookSection section, int index, Object before, Object after) {
+                adapted.add(new JsonAdaptedEdit(section.name(), index, toJsonNode(section, before),
+                        toJsonNode(section, after)));
+            }
+
+            @Override
+            public void visitSectionReset(AddressBookSection section, List<?> elements) {
+                List<JsonNode> elementNodes = new ArrayList<>(elements.size());
+                for (Object element : elements) {
+                    elementNodes.add(toJsonNode(section, element));
+                }
+                adapted.add(new JsonAdaptedEdit(section.name(), null, null, JsonUtil.toJsonNode(elementNodes)));
+            }
+
+            @Override
+            public void visitBudgetChange(Budget budget) {
+                adapted.add(new JsonAdaptedEdit(AddressBookSection.BUDGET.name(), null, null,
+                        budget == null ? null : JsonUtil.toJsonNode(new JsonAdaptedBudget(budget))));
+            }
+        });
+        assert adapted.size() == 1 : "an edit must describe itself exactly once";
+        return adapted.get(0);
+    }
+
+    /**
+     * Makes this edit again on {@code addressBook}, after converting and validating the values it holds.
+     *
+     * @throws IllegalValueException if this edit holds a value that violates the data constraints.
+     * @throws IOException if this edit is not one that could have been written to the journal.
+     * @throws RuntimeException if {@code addressBook} is not in the state that this edit was made from.
+     */
+    public void redo(AddressBook addressBook) throws IllegalValueException, IOException {
+        AddressBookSection editedSection = toSection(section);
+        if (editedSection == AddressBookSection.BUDGET) {
+            if (isAbsent(after)) {
+                addressBook.clearBudget();
+            } else {
+                addressBook.setBudget(JsonUtil.fromJsonNode(after, JsonAdaptedBudget.class).toModelType());
+            }
+        } else if (index != null) {
+            addressBook.applyElementChange(editedSection, index, toModelElement(editedSection, before),
+                    toModelElement(editedSection, after));
+        } else {
+            if (isAbsent(after) || !after.isArray()) {
+                throw new IOException(MESSAGE_INVALID_EDIT);
+            }
+            List<Object> elements = new ArrayList<>(after.size());
+            for (JsonNode elementNode : after) {
+                elements.add(toModelElement(editedSection, elementNode));
+            }
+            addressBook.applySectionReset(editedSection, elements);
+        }
+    }
+
+    private static AddressBookSection toSection(String section) throws IOException {
+        if (section == null) {
+            throw new IOException(MESSAGE_INVALID_EDIT);
+        }
+        try {
+            return AddressBookSection.valueOf(section);
+        } catch (IllegalArgumentException e) {
+            throw new IOException(MESSAGE_INVALID_EDIT, e);
+        }
+    }
+
+    private static boolean isAbsent(JsonNode node) {
+        return node == null || node.isNull();
+    }
+
+    private static JsonNode toJsonNode(AddressBookSection section, Object element) {
+        if (element == null) {
+            return null;
+        }
+        switch (section) {
+        case PERSONS:
+            return JsonUtil.toJsonNode(new JsonAdaptedPerson((Person) element));
+        case EVENTS:
+            return JsonUtil.toJsonNode(new JsonAdaptedEvent((Event) element));
+        case TASKS:
+            return JsonUtil.toJsonNode(new JsonAdaptedTask((Task) element));
+        case ATTENDANCE:
+            return JsonUtil.toJsonNode(new JsonAdaptedAttendance((Attendance) element));
+        default:
+            throw new AssertionError("Not a list of elements: " + section);
+        }
+    }
+
+    /**
+     * Returns the validated model element held by {@code node}, or null if there is none.
+     */
+    private static Object toModelElement(AddressBookSection section, JsonNode node)
+            throws IllegalValueException, IOException {
+        if (isAbsent(node)) {
+            return null;
+        }
+        switch (section) {
+        case PERSONS:
+            return JsonUtil.fromJsonNode(node, JsonAdaptedPerson.class).toModelType();
+        case EVENTS:
+            return JsonUtil.fromJsonNode(node, JsonAdaptedEvent.class).toModelType();
+        case TASKS:
+            return JsonUtil.fromJsonNode(node, JsonAdaptedTask.class).toModelType();
+        case ATTENDANCE:
+            return JsonUtil.fromJsonNode(node, JsonAdaptedAttendance.class).toModelType();
+        default:
+            throw new IOException(MESSAGE_INVALID_EDIT);
+        }
+    }
+}
@@ -78,9 +78,23 @@ class JsonAdaptedEvent {
             throw new IllegalValueException(Event.DESCRIPTION_CONSTRAINTS);
         }
         final String modelDescription = description;
-        final Money modelExpense = (expense == null) ? Money.zero() : Money.parse(expense);
+        final Money modelExpense;
+        try {
+            modelExpense = (expense == null) ? Money.zero() : Money.parse(expense);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(e.getMessage());
+        }
 
         return new Event(modelEventId, modelDate, modelDescription, modelExpense);
     }
 
+    /**
+     * Converts this Jackson-friendly adapted event object into the model's {@code Event} object without validating
+     * its fields, which must be known to be valid.
+     */
+    public Event toTrustedModelType() {
+        final Money modelExpense = (expense == null) ? Money.zero() : Money.parse(expense);
+        return new Event(EventId.ofTrusted(eventId, TrustedDecodingToken.INSTANCE), java.time.LocalDate.parse(date),
+                description, modelExpense);
+    }
 }
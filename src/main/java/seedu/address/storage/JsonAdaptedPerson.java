@@ -145,4 +145,19 @@ class JsonAdaptedPerson {
                 modelDietaryRequirements, modelRole, modelTags);
     }
 
+    /**
+     * Converts this Jackson-friendly adapted person object into the model's {@code Person} object without validating
+     * its fields, which must be known to be valid.
+     */
+    public Person toTrustedModelType() {
+        final Set<Tag> modelTags = new HashSet<>();
+        for (JsonAdaptedTag tag : tags) {
+            modelTags.add(tag.toTrustedModelType());
+        }
+        TrustedDecodingToken token = TrustedDecodingToken.INSTANCE;
+        return new Person(Name.ofTrusted(name, token), Year.ofTrusted(year, token),
+                StudentNumber.ofTrusted(studentNumber, token), Email.ofTrusted(email, token),
+                Phone.ofTrusted(phone, token), DietaryRequirements.ofTrusted(dietaryRequirements, token),
+                Role.ofTrusted(role, token), modelTags);
+    }
 }
@@ -44,4 +44,10 @@ class JsonAdaptedTag {
         return new Tag(tagName);
     }
 
+    /**
+     * Converts this Jackson-friendly adapted tag object into the model's {@code Tag} object without validating it.
+     */
+    public Tag toTrustedModelType() {
+        return Tag.ofTrusted(tagName, TrustedDecodingToken.INSTANCE);
+    }
 }
@@ -69,4 +69,13 @@ class JsonAdaptedTask {
 
         return new Task(title, modelDeadline, isDone);
     }
+
+    /**
+     * Converts this Jackson-friendly adapted task object into the model's {@code Task} object without validating its
+     * fields, which must be known to be valid.
+     */
+    public Task toTrustedModelType() {
+        LocalDateTime modelDeadline = (deadline == null || deadline.isEmpty()) ? null : Task.parseDeadline(deadline);
+        return Task.ofTrusted(title, modelDeadline, isDone, TrustedDecodingToken.INSTANCE);
+    }
 }
@@ -3,24 +3,49 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
 import java.util.logging.Logger;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookSection;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.budget.Budget;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
+ * The file is read and written as a stream, so the whole file is never held in memory.
+ *
+ * Files are written with a {@link #SCHEMA_VERSION} and the {@link SectionChecksum} of each section. Values read from
+ * such a file are not validated, as long as the checksums of the values read back match those recorded; otherwise,
+ * such as when the file has been edited by hand, the file is read again and every value is validated.
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
+    /** The version of the layout of files that record the checksums of their sections. */
+    public static final int SCHEMA_VERSION = 2;
+
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
+    private static final String SCHEMA_VERSION_FIELD = "schemaVersion";
+    private static final String CHECKSUMS_FIELD = "checksums";
+
     private Path filePath;
 
     public JsonAddressBookStorage(Path filePath) {
@@ -45,14 +70,24 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
 
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+            try (JsonParser parser = JsonUtil.createParser(Files.newInputStream(filePath))) {
+                Optional<AddressBook> addressBook = readAddressBook(parser, true);
+                if (addressBook.isPresent()) {
+                    return Optional.of(addressBook.get());
+                }
+            }
+            logger.info("Checksums of " + filePath + " do not match its data, so it is read again and validated");
+            try (JsonParser parser = JsonUtil.createParser(Files.newInputStream(filePath))) {
+                return Optional.of(readAddressBook(parser, false).get());
+            }
+        } catch (IOException e) {
+            logger.warning("Error reading from address book file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
@@ -74,7 +109,177 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(filePath);
 
         FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        FileUtil.writeToFile(filePath, out -> {
+            try (JsonGenerator generator = JsonUtil.createGenerator(out)) {
+                writeAddressBook(addressBook, generator);
+            }
+        });
+    }
+
+    /**
+     * Reads an address book in the layout of {@link JsonSerializableAddressBook} from {@code parser}.
+     * Persons, events, tasks and attendances are handed to an {@link AddressBookDecoder} in chunks as they are read,
+     * so they are converted to the model in parallel with the rest of the file being read, and only a few chunks of
+     * Jackson-friendly objects are held in memory at a time.
+     *
+     * @param mayTrust whether values may be read without validation, if the file starts with the current schema
+     *     version.
+     * @return the address book, or {@code Optional.empty()} if values were read without validation but their
+     *     checksums do not match those recorded in the file.
+     */
+    private static Optional<AddressBook> readAddressBook(JsonParser parser, boolean mayTrust)
+            throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Address book data must be a JSON object");
+        }
+
+        AddressBookDecoder decoder = null; // created once the first field shows whether the file can be trusted
+        Map<AddressBookSection, Long> checksums = Map.of();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            parser.nextToken();
+            if (decoder == null) {
+                decoder = new AddressBookDecoder(mayTrust && fieldName.equals(SCHEMA_VERSION_FIELD)
+                        && parser.getCurrentToken() == JsonToken.VALUE_NUMBER_INT
+                        && parser.getIntValue() == SCHEMA_VERSION);
+            }
+            switch (fieldName) {
+            case CHECKSUMS_FIELD:
+                checksums = readChecksums(parser);
+                break;
+            case "persons":
+                readArray(parser, JsonAdaptedPerson.class, decoder::addPerson);
+                break;
+            case "events":
+                readArray(parser, JsonAdaptedEvent.class, decoder::addEvent);
+                break;
+            case "tasks":
+                readArray(parser, JsonAdaptedTask.class, decoder::addTask);
+                break;
+            case "attendances":
+                readArray(parser, JsonAdaptedAttendance.class, decoder::addAttendance);
+                break;
+            case "budget":
+                if (parser.getCurrentToken() != JsonToken.VALUE_NULL) {
+                    decoder.setBudget(parser.readValueAs(JsonAdaptedBudget.class));
+                }
+                break;
+            default:
+                // Unknown fields, and the schema version, are ignored, as when reading any other JSON file
+                parser.skipChildren();
+            }
+        }
+        if (decoder == null) {
+            return Optional.of(new AddressBook());
+        }
+        return decoder.isTrusted() ? decoder.decodeTrusted(checksums) : Optional.of(decoder.decode());
+    }
+
+    /**
+     * Reads the checksums of the sections of an address book, written by {@link #writeChecksums}, at the current
+     * token of {@code parser}. Checksums of unknown sections are ignored.
+     */
+    static Map<AddressBookSection, Long> readChecksums(JsonParser parser) throws IOException {
+        Map<AddressBookSection, Long> checksums = new EnumMap<>(AddressBookSection.class);
+        if (parser.getCurrentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return checksums;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String sectionName = parser.getCurrentName();
+            parser.nextToken();
+            for (AddressBookSection section : AddressBookSection.values()) {
+                if (section.name().equals(sectionName) && parser.getCurrentToken() == JsonToken.VALUE_NUMBER_INT) {
+                    checksums.put(section, parser.getLongValue());
+                }
+            }
+            parser.skipChildren();
+        }
+        return checksums;
+    }
+
+    static void writeChecksums(JsonGenerator generator, Map<AddressBookSection, Long> checksums)
+            throws IOException {
+        generator.writeStartObject();
+        for (Map.Entry<AddressBookSection, Long> checksum : checksums.entrySet()) {
+            generator.writeNumberField(checksum.getKey().name(), checksum.getValue());
+        }
+        generator.writeEndObject();
+    }
+
+    /**
+     * Reads the array at the current token of {@code parser}, passing each element to {@code elementHandler} as it is
+     * read. A null array is treated as empty.
+     */
+    static <T> void readArray(JsonParser parser, Class<T> elementClass, Consumer<T> elementHandler)
+            throws IOException {
+        if (parser.getCurrentToken() == JsonToken.VALUE_NULL) {
+            return;
+        }
+        if (parser.getCurrentToken() != JsonToken.START_ARRAY) {
+            throw new JsonParseException(parser, "Expected an array of " + elementClass.getSimpleName());
+        }
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            elementHandler.accept(parser.readValueAs(elementClass));
+        }
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code generator} in the layout of {@link JsonSerializableAddressBook}, one
+     * element at a time, starting with the schema version and ending with the checksum of each section.
+     */
+    private static void writeAddressBook(ReadOnlyAddressBook addressBook, JsonGenerator generator)
+            throws IOException {
+        Map<AddressBookSection, Long> checksums = new EnumMap<>(AddressBookSection.class);
+        generator.writeStartObject();
+        generator.writeNumberField(SCHEMA_VERSION_FIELD, SCHEMA_VERSION);
+        generator.writeFieldName("persons");
+        checksums.put(AddressBookSection.PERSONS, writeArray(generator, addressBook.getPersonList(),
+                JsonAdaptedPerson::new, SectionChecksum::of));
+        generator.writeFieldName("events");
+        checksums.put(AddressBookSection.EVENTS, writeArray(generator, addressBook.getEventList(),
+                JsonAdaptedEvent::new, SectionChecksum::of));
+        generator.writeFieldName("tasks");
+        checksums.put(AddressBookSection.TASKS, writeArray(generator, addressBook.getTaskList(),
+                JsonAdaptedTask::new, SectionChecksum::of));
+        generator.writeFieldName("attendances");
+        checksums.put(AddressBookSection.ATTENDANCE, writeArray(generator, addressBook.getAttendanceList(),
+                JsonAdaptedAttendance::new, SectionChecksum::of));
+        generator.writeFieldName("budget");
+        checksums.put(AddressBookSection.BUDGET, writeBudget(generator, addressBook.getBudget()));
+        generator.writeFieldName(CHECKSUMS_FIELD);
+        writeChecksums(generator, checksums);
+        generator.writeEndObject();
+    }
+
+    /**
+     * Writes {@code elements} to {@code generator} as an array, converting each one with {@code toJsonAdapted} just
+     * before it is written.
+     *
+     * @return the {@link SectionChecksum} of the elements, given the checksum of each by {@code checksumOf}.
+     */
+    static <T> long writeArray(JsonGenerator generator, List<T> elements, Function<T, ?> toJsonAdapted,
+            ToIntFunction<T> checksumOf) throws IOException {
+        SectionChecksum checksum = new SectionChecksum();
+        generator.writeStartArray();
+        for (T element : elements) {
+            generator.writeObject(toJsonAdapted.apply(element));
+            checksum.add(checksumOf.applyAsInt(element));
+        }
+        generator.writeEndArray();
+        return checksum.getValue();
+    }
+
+    /**
+     * Writes {@code budget} to {@code generator}, or null if there is none.
+     *
+     * @return the {@link SectionChecksum} of the budget section.
+     */
+    static long writeBudget(JsonGenerator generator, Optional<Budget> budget) throws IOException {
+        SectionChecksum checksum = new SectionChecksum();
+        generator.writeObject(budget.map(JsonAdaptedBudget::new).orElse(null));
+        budget.ifPresent(presentBudget -> checksum.add(SectionChecksum.of(presentBudget)));
+        return checksum.getValue();
     }
 
 }
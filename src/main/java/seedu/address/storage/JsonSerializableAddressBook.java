@@ -10,11 +10,7 @@ import com.fasterxml.jackson.annotation.JsonRootName;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
-import seedu.address.model.attendance.Attendance;
 import seedu.address.model.budget.Budget;
-import seedu.address.model.event.Event;
-import seedu.address.model.person.Person;
-import seedu.address.model.task.Task;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
@@ -86,39 +82,13 @@ class JsonSerializableAddressBook {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
-        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
-            }
-            addressBook.addPerson(person);
-        }
-        for (JsonAdaptedEvent jsonAdaptedEvent : events) {
-            Event event = jsonAdaptedEvent.toModelType();
-            if (addressBook.hasEvent(event)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_EVENT);
-            }
-            addressBook.addEvent(event);
-        }
-        for (JsonAdaptedTask jsonAdaptedTask : tasks) {
-            Task task = jsonAdaptedTask.toModelType();
-            if (addressBook.hasTask(task)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_TASK);
-            }
-            addressBook.addTask(task);
-        }
-        for (JsonAdaptedAttendance jsonAdaptedAttendance : attendances) {
-            Attendance attendance = jsonAdaptedAttendance.toModelType();
-            if (addressBook.hasAttendance(attendance)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_ATTENDANCE);
-            }
-            addressBook.addAttendance(attendance);
-        }
-        if (budget != null) {
-            addressBook.setBudget(budget.toModelType());
-        }
-        return addressBook;
+        AddressBookDecoder decoder = new AddressBookDecoder();
+        persons.forEach(decoder::addPerson);
+        events.forEach(decoder::addEvent);
+        tasks.forEach(decoder::addTask);
+        attendances.forEach(decoder::addAttendance);
+        decoder.setBudget(budget);
+        return decoder.decode();
     }
 
 }
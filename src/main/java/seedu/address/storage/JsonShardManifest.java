@@ -0,0 +1,71 @@
+package seedu.address.storage;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import seedu.address.model.AddressBookSection;
+
+/**
+ * The manifest of an address book stored by {@link ShardedAddressBookStorage}, which names the shard file holding
+ * each section, along with the {@link SectionChecksum} of its contents. Sections without a shard are empty.
+ */
+class JsonShardManifest {
+
+    /** The version of the layout described by this manifest. */
+    static final int FORMAT_VERSION = 1;
+
+    private final int formatVersion;
+    private final long generation;
+    private final Map<AddressBookSection, String> shards = new EnumMap<>(AddressBookSection.class);
+    private final Map<AddressBookSection, Long> checksums = new EnumMap<>(AddressBookSection.class);
+
+    /**
+     * Constructs a {@code JsonShardManifest} with the given details.
+     */
+    @JsonCreator
+    public JsonShardManifest(@JsonProperty("formatVersion") int formatVersion,
+            @JsonProperty("generation") long generation,
+            @JsonProperty("shards") Map<AddressBookSection, String> shards,
+            @JsonProperty("checksums") Map<AddressBookSection, Long> checksums) {
+        this.formatVersion = formatVersion;
+        this.generation = generation;
+        if (shards != null) {
+            this.shards.putAll(shards);
+        }
+        if (checksums != null) {
+            this.checksums.putAll(checksums);
+        }
+    }
+
+    /**
+     * Constructs a manifest of the current version, naming {@code shards} with the given {@code checksums}, written
+     * by the save numbered {@code generation}.
+     */
+    public JsonShardManifest(long generation, Map<AddressBookSection, String> shards,
+            Map<AddressBookSection, Long> checksums) {
+        this(FORMAT_VERSION, generation, shards, checksums);
+    }
+
+    public int getFormatVersion() {
+        return formatVersion;
+    }
+
+    public long getGeneration() {
+        return generation;
+    }
+
+    public Map<AddressBookSection, String> getShards() {
+        return Collections.unmodifiableMap(shards);
+    }
+
+    /**
+     * Returns the checksums of the sections, which may be missing from manifests written by older versions.
+     */
+    public Map<AddressBookSection, Long> getChecksums() {
+        return Collections.unmodifiableMap(checksums);
+    }
+
+}
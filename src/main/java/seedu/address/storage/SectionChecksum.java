@@ -0,0 +1,133 @@
+package seedu.address.storage;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32C;
+
+import seedu.address.model.attendance.Attendance;
+import seedu.address.model.budget.Budget;
+import seedu.address.model.event.Event;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.task.Task;
+
+/**
+ * A CRC32C checksum of the elements of one section of an address book, in order.
+ * Each element contributes the checksum of its model values, rather than of the text it is stored as, so the checksum
+ * recorded when a data file is written can be compared with the checksum of the elements read back from it: they only
+ * match if every value read back is one that was valid when it was written.
+ */
+class SectionChecksum {
+
+    private final CRC32C crc = new CRC32C();
+
+    /**
+     * Adds an element, given the checksum returned for it by one of the {@code of} methods.
+     */
+    void add(int elementChecksum) {
+        crc.update(elementChecksum >>> 24);
+        crc.update(elementChecksum >>> 16);
+        crc.update(elementChecksum >>> 8);
+        crc.update(elementChecksum);
+    }
+
+    long getValue() {
+        return crc.getValue();
+    }
+
+    static int of(Person person) {
+        ValueChecksum checksum = new ValueChecksum();
+        checksum.putString(person.getName().fullName);
+        checksum.putLong(person.getYear().year);
+        checksum.putString(person.getStudentNumber().value);
+        checksum.putString(person.getEmail().value);
+        checksum.putString(person.getPhone().value);
+        checksum.putString(person.getDietaryRequirements().value);
+        checksum.putString(person.getRole().value);
+        // Tags are a set, so they are added in an order that does not depend on how the set was built
+        List<String> tagNames = new ArrayList<>();
+        for (Tag tag : person.getTags()) {
+            tagNames.add(tag.tagName);
+        }
+        tagNames.sort(null);
+        checksum.putLong(tagNames.size());
+        tagNames.forEach(checksum::putString);
+        return checksum.getValue();
+    }
+
+    static int of(Event event) {
+        ValueChecksum checksum = new ValueChecksum();
+        checksum.putString(event.getEventId().value);
+        checksum.putLong(event.getDate().toEpochDay());
+        checksum.putString(event.getDescription());
+        checksum.putString(event.getExpense().toString());
+        return checksum.getValue();
+    }
+
+    static int of(Task task) {
+        ValueChecksum checksum = new ValueChecksum();
+        checksum.putString(task.getTitle());
+        LocalDateTime deadline = task.getDeadline();
+        checksum.putBoolean(deadline != null);
+        if (deadline != null) {
+            checksum.putLong(deadline.toLocalDate().toEpochDay());
+            checksum.putLong(deadline.toLocalTime().toNanoOfDay());
+        }
+        checksum.putBoolean(task.isDone());
+        return checksum.getValue();
+    }
+
+    static int of(Attendance attendance) {
+        ValueChecksum checksum = new ValueChecksum();
+        checksum.putString(attendance.getEventId().value);
+        checksum.putString(attendance.getMemberName().fullName);
+        checksum.putBoolean(attendance.hasAttended());
+        return checksum.getValue();
+    }
+
+    static int of(Budget budget) {
+        ValueChecksum checksum = new ValueChecksum();
+        checksum.putString(budget.getAmount().toString());
+        checksum.putLong(budget.getStartDate().toEpochDay());
+        checksum.putLong(budget.getEndDate().toEpochDay());
+        return checksum.getValue();
+    }
+
+    /**
+     * A CRC32C checksum of a sequence of values, each of which is added with its length, so that no two different
+     * sequences are added as the same bytes.
+     */
+    private static class ValueChecksum {
+        private final CRC32C crc = new CRC32C();
+        private byte[] buffer = new byte[64];
+
+        void putString(String value) {
+            int length = value.length();
+            putLong(length);
+            if (buffer.length < length * 2) {
+                buffer = new byte[length * 2];
+            }
+            for (int i = 0; i < length; i++) {
+                char c = value.charAt(i);
+                buffer[2 * i] = (byte) (c >>> 8);
+                buffer[2 * i + 1] = (byte) c;
+            }
+            crc.update(buffer, 0, length * 2);
+        }
+
+        void putLong(long value) {
+            for (int shift = Long.SIZE - Byte.SIZE; shift >= 0; shift -= Byte.SIZE) {
+                crc.update((int) (value >>> shift));
+            }
+        }
+
+        void putBoolean(boolean value) {
+            crc.update(value ? 1 : 0);
+        }
+
+        int getValue() {
+            return (int) crc.getValue();
+        }
+    }
+}
@@ -0,0 +1,298 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookSection;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data stored on the hard disk as one JSON file for each {@link AddressBookSection},
+ * so that saving a change to one section does not rewrite the others.
+ *
+ * The data file is a manifest that names the shard holding each section. The shards of the manifest
+ * {@code data/addressbook.manifest} are kept in the directory {@code data/addressbook}. A shard is never modified
+ * once written: a save writes the sections modified since the previous save to new shards, and only then replaces
+ * the manifest, so a save interrupted by a crash leaves the previous manifest and all of its shards in place.
+ * Shards that are no longer named by a manifest are deleted by later saves.
+ *
+ * The manifest records the {@link SectionChecksum} of each shard, so that shards read back can be used without
+ * validating their values, as by {@link JsonAddressBookStorage}.
+ */
+public class ShardedAddressBookStorage implements AddressBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedAddressBookStorage.class);
+
+    private static final Pattern SHARD_FILE_NAME = Pattern.compile("[a-z]+-[0-9]+\\.json");
+
+    private Path filePath;
+
+    // The manifest last read from or written for this storage's data file, and the versions of the address book it
+    // holds, so that the next save can tell which sections are unchanged.
+    private JsonShardManifest savedManifest; // null if none
+    private Object savedVersionOwner; // null if the versions of savedManifest are unknown
+    private Map<AddressBookSection, Long> savedVersions;
+
+    public ShardedAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the directory that holds the shards of the manifest at {@code manifestFilePath}, which is named after
+     * the manifest without its extensions.
+     */
+    public static Path getShardDirectory(Path manifestFilePath) {
+        requireNonNull(manifestFilePath);
+        String fileName = manifestFilePath.getFileName().toString();
+        int extensionStart = fileName.indexOf('.');
+        return extensionStart > 0
+                ? manifestFilePath.resolveSibling(fileName.substring(0, extensionStart))
+                : manifestFilePath.resolveSibling(fileName + "-shards");
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the manifest. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try {
+            JsonShardManifest manifest = readManifest(filePath);
+            Path shardDirectory = getShardDirectory(filePath);
+            Optional<AddressBook> trustedAddressBook = readShards(manifest, shardDirectory,
+                    new AddressBookDecoder(true)).decodeTrusted(manifest.getChecksums());
+            if (trustedAddressBook.isEmpty()) {
+                logger.info("Checksums in " + filePath + " do not match its shards, so they are read again and"
+                        + " validated");
+            }
+            ReadOnlyAddressBook addressBook = trustedAddressBook.isPresent()
+                    ? trustedAddressBook.get()
+                    : readShards(manifest, shardDirectory, new AddressBookDecoder()).decode();
+            if (filePath.equals(this.filePath)) {
+                savedManifest = manifest;
+                savedVersionOwner = null;
+            }
+            return Optional.of(addressBook);
+        } catch (IOException e) {
+            logger.warning("Error reading from address book file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Sections that are unchanged since the previous save are only left out if {@code filePath} shares its shard
+     * directory with this storage's data file, such as a temporary file that is moved over the data file once written.
+     *
+     * @param filePath location of the manifest. Cannot be null.
+     */
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        Path shardDirectory = getShardDirectory(filePath);
+        boolean isOwnShardDirectory = this.filePath != null && shardDirectory.equals(getShardDirectory(this.filePath));
+        Path currentManifestFilePath = isOwnShardDirectory ? this.filePath : filePath;
+        Optional<JsonShardManifest> currentManifest = readManifestIfValid(currentManifestFilePath);
+        JsonShardManifest previousManifest = isOwnShardDirectory ? savedManifest : null;
+
+        Map<AddressBookSection, Long> versions = addressBook.getSectionVersions();
+        Set<AddressBookSection> dirtySections = previousManifest != null
+                && addressBook.getVersionOwner() == savedVersionOwner
+                ? addressBook.getDirtySections(savedVersions)
+                : EnumSet.allOf(AddressBookSection.class);
+        long generation = 1 + Math.max(previousManifest == null ? 0 : previousManifest.getGeneration(),
+                currentManifest.map(JsonShardManifest::getGeneration).orElse(0L));
+
+        Files.createDirectories(shardDirectory);
+        Map<AddressBookSection, String> shards = new EnumMap<>(AddressBookSection.class);
+        Map<AddressBookSection, Long> checksums = new EnumMap<>(AddressBookSection.class);
+        for (AddressBookSection section : AddressBookSection.values()) {
+            String previousShard = previousManifest == null ? null : previousManifest.getShards().get(section);
+            Long previousChecksum = previousManifest == null ? null : previousManifest.getChecksums().get(section);
+            if (!dirtySections.contains(section) && previousShard != null && previousChecksum != null
+                    && Files.exists(shardDirectory.resolve(previousShard))) {
+                shards.put(section, previousShard);
+                checksums.put(section, previousChecksum);
+                continue;
+            }
+            String shard = section.name().toLowerCase() + "-" + generation + ".json";
+            FileUtil.writeToFile(shardDirectory.resolve(shard), out -> {
+                try (JsonGenerator generator = JsonUtil.createGenerator(out)) {
+                    checksums.put(section, writeShard(addressBook, section, generator));
+                }
+            });
+            shards.put(section, shard);
+        }
+
+        JsonShardManifest manifest = new JsonShardManifest(generation, shards, checksums);
+        FileUtil.createParentDirsOfFile(filePath);
+        FileUtil.writeToFile(filePath, JsonUtil.toJsonString(manifest));
+        if (isOwnShardDirectory) {
+            savedManifest = manifest;
+            savedVersionOwner = addressBook.getVersionOwner();
+            savedVersions = versions;
+        }
+        deleteUnusedShards(shardDirectory, manifest, currentManifest);
+    }
+
+    private static JsonShardManifest readManifest(Path filePath) throws IOException {
+        JsonShardManifest manifest = JsonUtil.fromJsonString(FileUtil.readFromFile(filePath), JsonShardManifest.class);
+        if (manifest.getFormatVersion() != JsonShardManifest.FORMAT_VERSION) {
+            throw new IOException("Unsupported manifest version: " + manifest.getFormatVersion());
+        }
+        return manifest;
+    }
+
+    private static Optional<JsonShardManifest> readManifestIfValid(Path filePath) {
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(readManifest(filePath));
+        } catch (IOException e) {
+            logger.warning("Ignoring unreadable manifest " + filePath + ": " + e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Reads every shard named by {@code manifest} into {@code decoder}, which is returned.
+     */
+    private static AddressBookDecoder readShards(JsonShardManifest manifest, Path shardDirectory,
+            AddressBookDecoder decoder) throws IOException {
+        for (Map.Entry<AddressBookSection, String> shard : manifest.getShards().entrySet()) {
+            Path shardFilePath = shardDirectory.resolve(shard.getValue());
+            if (!shardDirectory.equals(shardFilePath.getParent())) {
+                throw new IOException("Invalid shard file name: " + shard.getValue());
+            }
+            try (JsonParser parser = JsonUtil.createParser(Files.newInputStream(shardFilePath))) {
+                parser.nextToken();
+                readShard(parser, shard.getKey(), decoder);
+            }
+        }
+        return decoder;
+    }
+
+    /**
+     * Reads the shard holding {@code section} from {@code parser}, which must be at the first token of the shard.
+     */
+    private static void readShard(JsonParser parser, AddressBookSection section, AddressBookDecoder decoder)
+            throws IOException {
+        switch (section) {
+        case PERSONS:
+            JsonAddressBookStorage.readArray(parser, JsonAdaptedPerson.class, decoder::addPerson);
+            break;
+        case EVENTS:
+            JsonAddressBookStorage.readArray(parser, JsonAdaptedEvent.class, decoder::addEvent);
+            break;
+        case TASKS:
+            JsonAddressBookStorage.readArray(parser, JsonAdaptedTask.class, decoder::addTask);
+            break;
+        case ATTENDANCE:
+            JsonAddressBookStorage.readArray(parser, JsonAdaptedAttendance.class, decoder::addAttendance);
+            break;
+        case BUDGET:
+            if (parser.getCurrentToken() != JsonToken.VALUE_NULL) {
+                decoder.setBudget(parser.readValueAs(JsonAdaptedBudget.class));
+            }
+            break;
+        default:
+            throw new AssertionError("Unknown section: " + section);
+        }
+    }
+
+    /**
+     * Writes the shard holding {@code section} of {@code addressBook} to {@code generator}.
+     *
+     * @return the checksum of the section.
+     */
+    private static long writeShard(ReadOnlyAddressBook addressBook, AddressBookSection section,
+            JsonGenerator generator) throws IOException {
+        switch (section) {
+        case PERSONS:
+            return JsonAddressBookStorage.writeArray(generator, addressBook.getPersonList(), JsonAdaptedPerson::new,
+                    SectionChecksum::of);
+        case EVENTS:
+            return JsonAddressBookStorage.writeArray(generator, addressBook.getEventList(), JsonAdaptedEvent::new,
+                    SectionChecksum::of);
+        case TASKS:
+            return JsonAddressBookStorage.writeArray(generator, addressBook.getTaskList(), JsonAdaptedTask::new,
+                    SectionChecksum::of);
+        case ATTENDANCE:
+            return JsonAddressBookStorage.writeArray(generator, addressBook.getAttendanceList(),
+                    JsonAdaptedAttendance::new, SectionChecksum::of);
+        case BUDGET:
+            return JsonAddressBookStorage.writeBudget(generator, addressBook.getBudget());
+        default:
+            throw new AssertionError("Unknown section: " + section);
+        }
+    }
+
+    /**
+     * Deletes the shards in {@code shardDirectory} that are named by neither {@code manifest} nor
+     * {@code currentManifest}, which is the manifest that may still be in use until {@code manifest} replaces it.
+     */
+    private static void deleteUnusedShards(Path shardDirectory, JsonShardManifest manifest,
+            Optional<JsonShardManifest> currentManifest) {
+        Set<String> shardsInUse = new HashSet<>(manifest.getShards().values());
+        currentManifest.ifPresent(current -> shardsInUse.addAll(current.getShards().values()));
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(shardDirectory)) {
+            for (Path file : files) {
+                String fileName = file.getFileName().toString();
+                if (SHARD_FILE_NAME.matcher(fileName).matches() && !shardsInUse.contains(fileName)) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        } catch (IOException e) {
+            // The unused shards are left in place, to be deleted by a later save
+            logger.warning("Could not delete unused shards in " + shardDirectory + ": " + e.getMessage());
+        }
+    }
+
+}
@@ -2,11 +2,13 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.ReversibleEdit;
 import seedu.address.model.UserPrefs;
 
 /**
@@ -29,4 +31,16 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
     @Override
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
+    /**
+     * Saves {@code addressBook}, given the {@code changes} made to it since it was last read or saved.
+     * Only the changes are written if the storage still holds the address book as it was before them.
+     */
+    void saveAddressBookChanges(ReadOnlyAddressBook addressBook, List<ReversibleEdit> changes) throws IOException;
+
+    /**
+     * Folds the changes saved so far into a full copy of {@code addressBook}, so that they no longer need to be
+     * replayed when the address book is next read.
+     */
+    void compactAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
+
 }
@@ -2,30 +2,47 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.ReversibleEdit;
 import seedu.address.model.UserPrefs;
 
 /**
  * Manages storage of AddressBook data in local storage.
+ * Changes to the address book are appended to a journal next to the data file, which is folded into the data file
+ * once it grows large, and when the application stops.
+ * The address book methods are synchronized, as the address book may be saved on a background thread.
  */
 public class StorageManager implements Storage {
 
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
+    private final AddressBookJournal journal;
+    private boolean isJournalInSync; // true if the data file and the journal hold the address book last read or saved
 
     /**
      * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
      */
     public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage) {
+        this(addressBookStorage, userPrefsStorage, new AddressBookJournal(addressBookStorage.getAddressBookFilePath()));
+    }
+
+    /**
+     * Creates a {@code StorageManager} that journals changes to the address book in {@code journal}.
+     */
+    StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage,
+            AddressBookJournal journal) {
         this.addressBookStorage = addressBookStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.journal = journal;
     }
 
     // ================ UserPrefs methods ==============================
@@ -54,8 +71,32 @@ public class StorageManager implements Storage {
     }
 
     @Override
-    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
-        return readAddressBook(addressBookStorage.getAddressBookFilePath());
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        isJournalInSync = false;
+        Optional<ReadOnlyAddressBook> savedAddressBook = readAddressBook(addressBookStorage.getAddressBookFilePath());
+        if (savedAddressBook.isEmpty() || journal.isEmpty()) {
+            // Without a data file, the journal has nothing to be replayed on, and is cleared by the next save
+            isJournalInSync = savedAddressBook.isPresent();
+            return savedAddressBook;
+        }
+
+        AddressBook addressBook = new AddressBook(savedAddressBook.get());
+        try {
+            int commandsReplayed = journal.replay(addressBook);
+            logger.info("Replayed " + commandsReplayed + " commands from the journal");
+        } catch (DataLoadingException e) {
+            // Failing to load would let the next save replace the data file, so the data file is loaded as it is
+            try {
+                logger.warning("Could not replay the journal, which is set aside in " + journal.setAside()
+                        + ": " + e.getMessage());
+            } catch (IOException ioe) {
+                throw new DataLoadingException(ioe);
+            }
+            isJournalInSync = true;
+            return savedAddressBook;
+        }
+        isJournalInSync = true;
+        return Optional.of(addressBook);
     }
 
     @Override
@@ -70,9 +111,44 @@ public class StorageManager implements Storage {
     }
 
     @Override
-    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
         logger.fine("Attempting to write to data file: " + filePath);
-        addressBookStorage.saveAddressBook(addressBook, filePath);
+        if (!filePath.equals(addressBookStorage.getAddressBookFilePath())) {
+            addressBookStorage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        isJournalInSync = false;
+        journal.writeSnapshotAndClear(snapshotFilePath -> addressBookStorage.saveAddressBook(addressBook,
+                snapshotFilePath));
+        isJournalInSync = true;
+    }
+
+    @Override
+    public synchronized void saveAddressBookChanges(ReadOnlyAddressBook addressBook, List<ReversibleEdit> changes)
+            throws IOException {
+        if (!isJournalInSync) {
+            saveAddressBook(addressBook);
+            return;
+        }
+
+        isJournalInSync = false;
+        journal.append(changes);
+        if (journal.shouldCompact()) {
+            logger.fine("Compacting the journal into data file: " + getAddressBookFilePath());
+            ReadOnlyAddressBook copy = addressBook.snapshot();
+            journal.compactInBackground(snapshotFilePath -> addressBookStorage.saveAddressBook(copy,
+                    snapshotFilePath));
+        }
+        isJournalInSync = true;
+    }
+
+    @Override
+    public synchronized void compactAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        // A journal that is out of sync may belong to a data file that could not be loaded, which is left untouched
+        if (isJournalInSync && !journal.isEmpty()) {
+            saveAddressBook(addressBook);
+        }
     }
 
 }
@@ -0,0 +1,13 @@
+package seedu.address.storage;
+
+/**
+ * Proof that a model value is being created by the storage decoder for data whose checksum is verified, which the
+ * {@code ofTrusted} factories of the model require before they skip validation.
+ * Only this package can obtain the token, so no other code can create model values without validating them.
+ */
+public final class TrustedDecodingToken {
+
+    static final TrustedDecodingToken INSTANCE = new TrustedDecodingToken();
+
+    private TrustedDecodingToken() {}
+}
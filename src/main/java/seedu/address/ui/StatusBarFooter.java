@@ -6,6 +6,7 @@ import java.nio.file.Paths;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.Region;
+import seedu.address.model.UndoHistoryUsage;
 
 /**
  * A ui for the status bar that is displayed at the footer of the application.
@@ -14,9 +15,15 @@ public class StatusBarFooter extends UiPart<Region> {
 
     private static final String FXML = "StatusBarFooter.fxml";
 
+    private static final String UNDO_HISTORY_FORMAT = "Undo: %d, redo: %d (%d KB in memory, %d KB on disk)";
+    private static final long BYTES_PER_KILOBYTE = 1024;
+
     @FXML
     private Label saveLocationStatus;
 
+    @FXML
+    private Label undoHistoryStatus;
+
     /**
      * Creates a {@code StatusBarFooter} with the given {@code Path}.
      */
@@ -25,4 +32,16 @@ public class StatusBarFooter extends UiPart<Region> {
         saveLocationStatus.setText(Paths.get(".").resolve(saveLocation).toString());
     }
 
+    /**
+     * Shows {@code usage} as the state of the undo history.
+     */
+    public void setUndoHistoryUsage(UndoHistoryUsage usage) {
+        undoHistoryStatus.setText(String.format(UNDO_HISTORY_FORMAT, usage.getUndoSteps(), usage.getRedoSteps(),
+                toKilobytes(usage.getBytesInMemory()), toKilobytes(usage.getBytesOnDisk())));
+    }
+
+    private static long toKilobytes(long bytes) {
+        return (bytes + BYTES_PER_KILOBYTE - 1) / BYTES_PER_KILOBYTE;
+    }
+
 }
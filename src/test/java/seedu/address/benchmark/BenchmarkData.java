@@ -0,0 +1,79 @@
+package seedu.address.benchmark;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.attendance.Attendance;
+import seedu.address.model.event.Event;
+import seedu.address.model.event.EventId;
+import seedu.address.model.person.DietaryRequirements;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Role;
+import seedu.address.model.person.StudentNumber;
+import seedu.address.model.person.Year;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Generates large, valid address books for benchmarks.
+ */
+public class BenchmarkData {
+
+    private static final String[] ROLES = {"Member", "President", "Treasurer", "Secretary"};
+    private static final String[] DIETS = {"None", "Vegetarian", "Halal", "No beef"};
+    private static final String[] TAGS = {"exco", "freshie", "committee", "alumni"};
+
+    private BenchmarkData() {}
+
+    /**
+     * Returns a person whose fields are derived from {@code i}.
+     */
+    public static Person person(int i) {
+        return new Person(new Name("Member " + i),
+                new Year(String.valueOf(i % 5 + 1)),
+                new StudentNumber(String.format("A%07dX", i)),
+                new Email("member" + i + "@example.com"),
+                new Phone(String.format("9%07d", i)),
+                new DietaryRequirements(DIETS[i % DIETS.length]),
+                new Role(ROLES[i % ROLES.length]),
+                Set.of(new Tag(TAGS[i % TAGS.length])));
+    }
+
+    /**
+     * Returns an event whose fields are derived from {@code i}.
+     */
+    public static Event event(int i) {
+        return new Event(new EventId("Event" + i), LocalDate.of(2020, 1, 1).plusDays(i), "Event number " + i);
+    }
+
+    /**
+     * Returns an address book with {@code personCount} persons, {@code eventCount} events and
+     * {@code attendanceCount} attendance records spread across them.
+     */
+    public static AddressBook addressBook(int personCount, int eventCount, int attendanceCount) {
+        List<Person> persons = new ArrayList<>(personCount);
+        for (int i = 0; i < personCount; i++) {
+            persons.add(person(i));
+        }
+        List<Event> events = new ArrayList<>(eventCount);
+        for (int i = 0; i < eventCount; i++) {
+            events.add(event(i));
+        }
+        List<Attendance> attendances = new ArrayList<>(attendanceCount);
+        for (int i = 0; i < attendanceCount; i++) {
+            attendances.add(new Attendance(events.get(i / personCount).getEventId(),
+                    persons.get(i % personCount).getName(), i % 2 == 0));
+        }
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(persons);
+        addressBook.setEvents(events);
+        addressBook.setAttendances(attendances);
+        return addressBook;
+    }
+}
@@ -0,0 +1,105 @@
+package seedu.address.benchmark;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonContainsKeywordsPredicate;
+
+/**
+ * Measures the latency of a keyword search over a large address book: testing every person by splitting and
+ * comparing their fields afresh, as searches used to, testing every person against their cached search documents,
+ * and filtering the person list of the model, which answers the search through the word index and then looks up
+ * whether each person was found, so that this too grows with the number of persons.
+ *
+ * Run with {@code gradlew benchmark -Pbenchmark=FindBenchmark}.
+ */
+public class FindBenchmark {
+
+    private static final int PERSON_COUNT = 100_000;
+    private static final List<List<String>> QUERIES = List.of(
+            List.of("vegetarian"), List.of("year", "3", "exco"), List.of("member", "42"), List.of("nobody"));
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURED_ROUNDS = 20;
+
+    public static void main(String[] args) {
+        AddressBook addressBook = BenchmarkData.addressBook(PERSON_COUNT, 0, 0);
+        List<Person> persons = addressBook.getPersonList();
+        ModelManager model = new ModelManager(addressBook, new UserPrefs());
+
+        System.out.println("query                | fields split (ms) | documents (ms) | index + filter (ms) | matches");
+        for (List<String> keywords : QUERIES) {
+            PersonContainsKeywordsPredicate predicate = new PersonContainsKeywordsPredicate(keywords);
+            Predicate<Person> splittingPredicate = person -> testBySplitting(keywords, person);
+
+            long splitNanos = measure(() -> count(persons, splittingPredicate));
+            long documentNanos = measure(() -> count(persons, predicate));
+            long indexNanos = measure(() -> {
+                model.updateFilteredPersonList(predicate);
+                return model.getFilteredPersonList().size();
+            });
+
+            System.out.printf("%-20s | %17.3f | %14.3f | %19.3f | %7d%n", String.join(" ", keywords),
+                    splitNanos / 1_000_000.0, documentNanos / 1_000_000.0, indexNanos / 1_000_000.0,
+                    count(persons, predicate));
+        }
+    }
+
+    /**
+     * Returns the mean time taken by {@code search}, after warming it up.
+     */
+    private static long measure(Search search) {
+        long checksum = 0;
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            checksum += search.run();
+        }
+        long totalNanos = 0;
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            long start = System.nanoTime();
+            checksum += search.run();
+            totalNanos += System.nanoTime() - start;
+        }
+        if (checksum < 0) {
+            // Keeps the results in use, so the searches cannot be optimised away
+            System.out.println(checksum);
+        }
+        return totalNanos / MEASURED_ROUNDS;
+    }
+
+    private static int count(List<Person> persons, Predicate<Person> predicate) {
+        int count = 0;
+        for (Person person : persons) {
+            if (predicate.test(person)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Tests {@code person} as {@code PersonContainsKeywordsPredicate} did before persons cached their search
+     * documents.
+     */
+    private static boolean testBySplitting(List<String> keywords, Person person) {
+        boolean hasNumericKeyword = keywords.stream().anyMatch(k -> k.matches("\\d+"));
+        return keywords.stream().allMatch(keyword ->
+                StringUtil.containsWordIgnoreCase(person.getName().fullName, keyword)
+                || StringUtil.containsWordIgnoreCase(person.getYear().toString(), keyword)
+                || StringUtil.containsWordIgnoreCase(person.getStudentNumber().value, keyword)
+                || StringUtil.containsWordIgnoreCase(person.getEmail().value, keyword)
+                || StringUtil.containsWordIgnoreCase(person.getPhone().value, keyword)
+                || StringUtil.containsWordIgnoreCase(person.getDietaryRequirements().value, keyword)
+                || StringUtil.containsWordIgnoreCase(person.getRole().value, keyword)
+                || person.getTags().stream().anyMatch(tag -> StringUtil.containsWordIgnoreCase(tag.tagName, keyword))
+                || (keyword.equalsIgnoreCase("year") && hasNumericKeyword));
+    }
+
+    @FunctionalInterface
+    private interface Search {
+        int run();
+    }
+}
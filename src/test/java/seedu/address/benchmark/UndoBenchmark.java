@@ -0,0 +1,53 @@
+package seedu.address.benchmark;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.VersionedAddressBook;
+import seedu.address.model.attendance.Attendance;
+import seedu.address.model.event.EventId;
+import seedu.address.model.person.Name;
+
+/**
+ * Measures the latency of a single undo as the number of attendance records grows.
+ * The time per record should stay flat; a quadratic uniqueness check would make it grow with the list size.
+ *
+ * Run with {@code gradlew benchmark -Pbenchmark=UndoBenchmark}.
+ */
+public class UndoBenchmark {
+
+    private static final int PERSON_COUNT = 1000;
+    private static final int[] ATTENDANCE_COUNTS = {2_500, 5_000, 10_000, 20_000, 40_000};
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURED_ROUNDS = 20;
+
+    public static void main(String[] args) {
+        System.out.println("attendance records | undo (ms) | undo per record (ns)");
+        for (int attendanceCount : ATTENDANCE_COUNTS) {
+            int eventCount = attendanceCount / PERSON_COUNT + 1;
+            AddressBook data = BenchmarkData.addressBook(PERSON_COUNT, eventCount, attendanceCount);
+            VersionedAddressBook versionedAddressBook = new VersionedAddressBook(data);
+
+            for (int i = 0; i < WARMUP_ROUNDS; i++) {
+                commitAndUndo(versionedAddressBook);
+            }
+            long totalNanos = 0;
+            for (int i = 0; i < MEASURED_ROUNDS; i++) {
+                totalNanos += commitAndUndo(versionedAddressBook);
+            }
+
+            long nanosPerUndo = totalNanos / MEASURED_ROUNDS;
+            System.out.printf("%18d | %9.3f | %20d%n", attendanceCount, nanosPerUndo / 1_000_000.0,
+                    nanosPerUndo / attendanceCount);
+        }
+    }
+
+    /**
+     * Makes a one-record change, then returns the time taken to undo it.
+     */
+    private static long commitAndUndo(VersionedAddressBook versionedAddressBook) {
+        versionedAddressBook.commit();
+        versionedAddressBook.addAttendance(new Attendance(new EventId("Extra"), new Name("Extra Member")));
+        long start = System.nanoTime();
+        versionedAddressBook.undo();
+        return System.nanoTime() - start;
+    }
+}
@@ -0,0 +1,23 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Paths;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+public class AddressBookFormatTest {
+
+    @Test
+    public void fromFilePath() {
+        assertThrows(NullPointerException.class, () -> AddressBookFormat.fromFilePath(null));
+
+        assertEquals(Optional.of(AddressBookFormat.JSON), AddressBookFormat.fromFilePath(Paths.get("data", "ab.json")));
+        assertEquals(Optional.of(AddressBookFormat.BINARY), AddressBookFormat.fromFilePath(Paths.get("AB.BIN")));
+        assertEquals(Optional.of(AddressBookFormat.SHARDED), AddressBookFormat.fromFilePath(Paths.get("ab.manifest")));
+        assertEquals(Optional.empty(), AddressBookFormat.fromFilePath(Paths.get("ab.csv")));
+        assertEquals(Optional.empty(), AddressBookFormat.fromFilePath(Paths.get("json")));
+    }
+}
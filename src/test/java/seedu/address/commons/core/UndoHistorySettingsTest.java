@@ -0,0 +1,35 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class UndoHistorySettingsTest {
+    @Test
+    public void constructor_invalidLimits_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new UndoHistorySettings(0, 1024));
+        assertThrows(IllegalArgumentException.class, () -> new UndoHistorySettings(10, -1));
+    }
+
+    @Test
+    public void equals() {
+        UndoHistorySettings settings = new UndoHistorySettings(10, 1024);
+
+        assertTrue(settings.equals(new UndoHistorySettings(10, 1024)));
+        assertTrue(settings.equals(settings));
+        assertFalse(settings.equals(null));
+        assertFalse(settings.equals(new UndoHistorySettings(11, 1024)));
+        assertFalse(settings.equals(new UndoHistorySettings(10, 0)));
+    }
+
+    @Test
+    public void toStringMethod() {
+        UndoHistorySettings settings = new UndoHistorySettings();
+        String expected = UndoHistorySettings.class.getCanonicalName() + "{maxDepth=" + settings.getMaxDepth()
+                + ", maxBytesInMemory=" + settings.getMaxBytesInMemory() + "}";
+        assertEquals(expected, settings.toString());
+    }
+}
@@ -8,6 +8,7 @@ import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
 
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -21,6 +22,7 @@ import seedu.address.model.attendance.Attendance;
 import seedu.address.model.event.Event;
 import seedu.address.model.event.EventId;
 import seedu.address.model.person.Name;
+import seedu.address.model.tag.Tag;
 import seedu.address.testutil.EventBuilder;
 import seedu.address.testutil.PersonBuilder;
 
@@ -90,6 +92,29 @@ public class AddAttendanceCommandTest {
                 String.format(AddAttendanceCommand.MESSAGE_MEMBER_NOT_FOUND, unknownMember));
     }
 
+    @Test
+    public void execute_tags_addsMembersWithAllTags() throws CommandException {
+        AddAttendanceCommand command = new AddAttendanceCommand(EVENT.getEventId(), List.of(),
+                Set.of(new Tag("friends"), new Tag("owesMoney")));
+
+        String expectedMessage = AttendanceMessages.buildAddAttendanceResult(EVENT.getEventId().toString(),
+                List.of(BENSON.getName()), List.of());
+
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.addAttendance(new Attendance(EVENT.getEventId(), BENSON.getName()));
+
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_noMemberWithTags_throwsCommandException() {
+        AddAttendanceCommand command = new AddAttendanceCommand(EVENT.getEventId(), List.of(),
+                Set.of(new Tag("friends"), new Tag("alumni")));
+
+        assertCommandFailure(command, model,
+                String.format(AddAttendanceCommand.MESSAGE_NO_MEMBER_WITH_TAGS, "alumni, friends"));
+    }
+
     @Test
     public void equals() {
         AddAttendanceCommand command = new AddAttendanceCommand(EVENT.getEventId(), List.of(ALICE.getName()));
@@ -103,6 +128,8 @@ public class AddAttendanceCommandTest {
         assertTrue(command.equals(sameCommand));
         assertFalse(command.equals(differentMembers));
         assertFalse(command.equals(differentEvent));
+        assertFalse(command.equals(new AddAttendanceCommand(EVENT.getEventId(), List.of(ALICE.getName()),
+                Set.of(new Tag("friends")))));
         assertFalse(command.equals(null));
         assertFalse(command.equals(5));
     }
@@ -7,6 +7,9 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -19,11 +22,15 @@ import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.ReversibleEdit;
+import seedu.address.model.UndoHistoryUsage;
 import seedu.address.model.attendance.Attendance;
 import seedu.address.model.event.Event;
 import seedu.address.model.event.EventId;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonQuery;
+import seedu.address.model.person.QueryPlan;
 import seedu.address.model.person.StudentNumber;
 import seedu.address.model.task.Task;
 import seedu.address.testutil.TaskBuilder;
@@ -151,6 +158,11 @@ public class AddTaskCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void setAddressBookChangeListener(Consumer<ReversibleEdit> changeListener) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasPerson(Person person) {
             throw new AssertionError("This method should not be called.");
@@ -296,6 +308,11 @@ public class AddTaskCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public UndoHistoryUsage getUndoHistoryUsage() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void rollbackLastCommit() {
             throw new AssertionError("This method should not be called.");
@@ -305,6 +322,46 @@ public class AddTaskCommandTest {
         public boolean hasStudentNumber(StudentNumber studentNumber) {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public List<Attendance> getAttendanceForEvent(EventId eventId) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Attendance> getAttendanceForMember(Name memberName) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<Person> findByStudentNumber(StudentNumber studentNumber) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> findPersonsByName(Name name) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> findPersonsApproximately(List<String> words, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void showRankedPersons(List<Person> persons) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public QueryPlan planPersonQuery(PersonQuery query) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> findPersons(PersonQuery query) {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
     /**
@@ -0,0 +1,98 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JsonAddressBookStorage;
+
+public class ConvertCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_currentAddressBookToBinary_success() throws Exception {
+        Path targetPath = testFolder.resolve("addressbook.bin");
+
+        CommandResult result = new ConvertCommand(null, targetPath).execute(model);
+
+        assertEquals(String.format(ConvertCommand.MESSAGE_SUCCESS, model.getAddressBookFilePath(), targetPath,
+                "BINARY"), result.getFeedbackToUser());
+        assertEquals(getTypicalAddressBook(),
+                new AddressBook(new BinaryAddressBookStorage(targetPath).readAddressBook().get()));
+    }
+
+    @Test
+    public void execute_binaryFileToJson_success() throws Exception {
+        Path sourcePath = testFolder.resolve("addressbook.bin");
+        Path targetPath = testFolder.resolve("addressbook.json");
+        new BinaryAddressBookStorage(sourcePath).saveAddressBook(getTypicalAddressBook());
+
+        new ConvertCommand(sourcePath, targetPath).execute(model);
+
+        assertEquals(getTypicalAddressBook(),
+                new AddressBook(new JsonAddressBookStorage(targetPath).readAddressBook().get()));
+    }
+
+    @Test
+    public void execute_sourceIsDataFile_currentAddressBookConverted() throws Exception {
+        Path dataFilePath = testFolder.resolve("data.json");
+        Path targetPath = testFolder.resolve("addressbook.bin");
+        new JsonAddressBookStorage(dataFilePath).saveAddressBook(new AddressBook());
+        model.setAddressBookFilePath(dataFilePath);
+
+        CommandResult result = new ConvertCommand(dataFilePath, targetPath).execute(model);
+
+        assertEquals(String.format(ConvertCommand.MESSAGE_SUCCESS, dataFilePath, targetPath, "BINARY"),
+                result.getFeedbackToUser());
+        assertEquals(getTypicalAddressBook(),
+                new AddressBook(new BinaryAddressBookStorage(targetPath).readAddressBook().get()));
+    }
+
+    @Test
+    public void execute_unknownFormat_failure() {
+        Path targetPath = testFolder.resolve("addressbook.txt");
+        assertCommandFailure(new ConvertCommand(null, targetPath), model,
+                String.format(ConvertCommand.MESSAGE_UNKNOWN_FORMAT, targetPath));
+    }
+
+    @Test
+    public void execute_missingSource_failure() {
+        Path sourcePath = testFolder.resolve("missing.json");
+        assertCommandFailure(new ConvertCommand(sourcePath, testFolder.resolve("addressbook.bin")), model,
+                String.format(ConvertCommand.MESSAGE_SOURCE_NOT_FOUND, sourcePath));
+    }
+
+    @Test
+    public void execute_targetIsDataFile_failure() {
+        assertCommandFailure(new ConvertCommand(null, model.getAddressBookFilePath()), model,
+                ConvertCommand.MESSAGE_TARGET_IS_DATA_FILE);
+    }
+
+    @Test
+    public void equals() {
+        ConvertCommand convertCommand = new ConvertCommand(null, Path.of("a.bin"));
+
+        assertTrue(convertCommand.equals(convertCommand));
+        assertTrue(convertCommand.equals(new ConvertCommand(null, Path.of("a.bin"))));
+        assertFalse(convertCommand.equals(new ConvertCommand(Path.of("a.json"), Path.of("a.bin"))));
+        assertFalse(convertCommand.equals(new ConvertCommand(null, Path.of("b.bin"))));
+        assertFalse(convertCommand.equals(null));
+        assertFalse(convertCommand.equals(1));
+    }
+}
@@ -145,6 +145,22 @@ public class EditCommandTest {
         assertCommandFailure(editCommand, model, EditCommand.MESSAGE_DUPLICATE_STUDENT_NUMBER);
     }
 
+    @Test
+    public void execute_ownStudentNumberDifferentCase_success() {
+        Person firstPerson = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
+        String caseVariation = firstPerson.getStudentNumber().value.toLowerCase();
+        Person editedPerson = new PersonBuilder(firstPerson).withStudentNumber(caseVariation).build();
+        EditPersonDescriptor descriptor = new EditPersonDescriptorBuilder().withStudentNumber(caseVariation).build();
+        EditCommand editCommand = new EditCommand(INDEX_FIRST_PERSON, descriptor);
+
+        String expectedMessage = String.format(EditCommand.MESSAGE_EDIT_PERSON_SUCCESS, Messages.format(editedPerson));
+
+        Model expectedModel = new ModelManager(new AddressBook(model.getAddressBook()), new UserPrefs());
+        expectedModel.setPerson(firstPerson, editedPerson);
+
+        assertCommandSuccess(editCommand, model, expectedMessage, expectedModel);
+    }
+
     @Test
     public void execute_invalidPersonIndexUnfilteredList_failure() {
         Index outOfBoundIndex = Index.fromOneBased(model.getFilteredPersonList().size() + 1);
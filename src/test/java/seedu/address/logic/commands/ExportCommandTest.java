@@ -1,16 +1,22 @@
 package seedu.address.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.tag.Tag;
 
 /**
  * Tests for ExportCommand.
@@ -36,4 +42,21 @@ public class ExportCommandTest {
         ExportCommand command = new ExportCommand("Z:/this/does/not/exist/path.csv");
         assertThrows(CommandException.class, () -> command.execute(model));
     }
+
+    @Test
+    public void execute_tags_exportsMembersWithAllTags() throws Exception {
+        Model typicalModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        ExportCommand command = new ExportCommand("test_export.csv",
+                Set.of(new Tag("friends"), new Tag("owesMoney")));
+        command.execute(typicalModel);
+
+        Path exportedPath = Path.of("test_export.csv");
+        List<String> lines = Files.readAllLines(exportedPath);
+        // The header, then Benson Meier alone
+        assertEquals(2, lines.size());
+        assertTrue(lines.get(1).startsWith("Benson Meier,"));
+
+        // cleanup
+        Files.deleteIfExists(exportedPath);
+    }
 }
@@ -0,0 +1,79 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code FuzzyFindCommand}.
+ */
+public class FuzzyFindCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        FuzzyFindCommand firstCommand = new FuzzyFindCommand(List.of("first"));
+        FuzzyFindCommand secondCommand = new FuzzyFindCommand(List.of("second"));
+
+        // same object -> returns true
+        assertTrue(firstCommand.equals(firstCommand));
+
+        // same values -> returns true
+        assertTrue(firstCommand.equals(new FuzzyFindCommand(List.of("first"))));
+
+        // different types -> returns false
+        assertFalse(firstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(firstCommand.equals(null));
+
+        // different words -> returns false
+        assertFalse(firstCommand.equals(secondCommand));
+    }
+
+    @Test
+    public void execute_misspeltName_closestMatchesFirst() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 4) + "\n\n(Use 'list' to go back)";
+        expectedModel.showRankedPersons(List.of(BENSON, DANIEL, HOON, ELLE));
+        assertCommandSuccess(new FuzzyFindCommand(List.of("meier")), model, expectedMessage, expectedModel);
+        assertEquals(List.of(BENSON, DANIEL, HOON, ELLE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_prefix_personsFound() {
+        new FuzzyFindCommand(List.of("ku")).execute(model);
+        assertEquals(List.of(CARL, FIONA), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_thenFind_rankingCleared() {
+        new FuzzyFindCommand(List.of("meier")).execute(model);
+        new ListCommand().execute(model);
+        assertEquals(getTypicalAddressBook().getPersonList(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void toStringMethod() {
+        FuzzyFindCommand command = new FuzzyFindCommand(List.of("jon"));
+        String expected = FuzzyFindCommand.class.getCanonicalName() + "{words=[jon]}";
+        assertEquals(expected, command.toString());
+    }
+}
@@ -0,0 +1,77 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.PersonQuery;
+import seedu.address.model.person.QueryClause;
+import seedu.address.model.person.SearchField;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code QueryFindCommand}.
+ */
+public class QueryFindCommandTest {
+    private static final PersonQuery YEAR_TWO_NOT_FRIENDS = new PersonQuery(List.of(
+            List.of(new QueryClause(SearchField.YEAR, "2", false), new QueryClause(SearchField.TAG, "friends", true)),
+            List.of(new QueryClause(SearchField.TAG, "owesMoney", false))));
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        QueryFindCommand command = new QueryFindCommand(YEAR_TWO_NOT_FRIENDS, false);
+
+        // same object -> returns true
+        assertTrue(command.equals(command));
+
+        // same values -> returns true
+        assertTrue(command.equals(new QueryFindCommand(YEAR_TWO_NOT_FRIENDS, false)));
+
+        // different types -> returns false
+        assertFalse(command.equals(1));
+
+        // null -> returns false
+        assertFalse(command.equals(null));
+
+        // explained -> returns false
+        assertFalse(command.equals(new QueryFindCommand(YEAR_TWO_NOT_FRIENDS, true)));
+
+        // different query -> returns false
+        assertFalse(command.equals(new QueryFindCommand(
+                new PersonQuery(List.of(List.of(new QueryClause(SearchField.YEAR, "2", false)))), false)));
+    }
+
+    @Test
+    public void execute_query_personsFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 3) + "\n\n(Use 'list' to go back)";
+        expectedModel.updateFilteredPersonList(YEAR_TWO_NOT_FRIENDS);
+        assertCommandSuccess(new QueryFindCommand(YEAR_TWO_NOT_FRIENDS, false), model, expectedMessage,
+                expectedModel);
+        assertEquals(List.of(BENSON, ELLE, HOON), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_explained_planShown() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 3) + "\n\n(Use 'list' to go back)"
+                + "\n\n" + model.planPersonQuery(YEAR_TWO_NOT_FRIENDS).describe();
+        expectedModel.updateFilteredPersonList(YEAR_TWO_NOT_FRIENDS);
+        assertCommandSuccess(new QueryFindCommand(YEAR_TWO_NOT_FRIENDS, true), model, expectedMessage,
+                expectedModel);
+        assertTrue(expectedMessage.contains("in the year index"));
+    }
+}
@@ -5,16 +5,19 @@ import static seedu.address.logic.commands.CommandTestUtil.EVENT_ID_DESC_EVENT1;
 import static seedu.address.logic.parser.AttendanceParserUtil.MESSAGE_EMPTY_MEMBER_NAME;
 import static seedu.address.logic.parser.AttendanceParserUtil.MESSAGE_NO_MEMBER_SPECIFIED;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_MEMBER;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.AddAttendanceCommand;
 import seedu.address.model.event.EventId;
 import seedu.address.model.person.Name;
+import seedu.address.model.tag.Tag;
 
 public class AddAttendanceCommandParserTest {
 
@@ -62,4 +65,19 @@ public class AddAttendanceCommandParserTest {
         String userInput = EVENT_ID_DESC_EVENT1 + " " + PREFIX_MEMBER + "Amy Bee//Bob";
         assertParseFailure(parser, userInput, MESSAGE_EMPTY_MEMBER_NAME);
     }
+
+    @Test
+    public void parse_tags_success() {
+        AddAttendanceCommand expectedCommand = new AddAttendanceCommand(new EventId("event1"), List.of(),
+                Set.of(new Tag("exco"), new Tag("committee")));
+        assertParseSuccess(parser, EVENT_ID_DESC_EVENT1 + " " + PREFIX_TAG + "exco " + PREFIX_TAG + "committee",
+                expectedCommand);
+
+        AddAttendanceCommand expectedMixedCommand = new AddAttendanceCommand(new EventId("event1"),
+                List.of(new Name("Amy Bee")), Set.of(new Tag("exco")));
+        assertParseSuccess(parser, EVENT_ID_DESC_EVENT1 + " " + PREFIX_TAG + "exco" + MEMBER_AMY,
+                expectedMixedCommand);
+
+        assertParseFailure(parser, EVENT_ID_DESC_EVENT1 + " " + PREFIX_TAG + "ex-co", Tag.MESSAGE_CONSTRAINTS);
+    }
 }
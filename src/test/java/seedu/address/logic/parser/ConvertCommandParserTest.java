@@ -0,0 +1,43 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ConvertCommand;
+
+public class ConvertCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, ConvertCommand.MESSAGE_USAGE);
+
+    private final ConvertCommandParser parser = new ConvertCommandParser();
+
+    @Test
+    public void parse_targetOnly_returnsConvertCommand() {
+        assertParseSuccess(parser, " to/data/addressbook.bin",
+                new ConvertCommand(null, Paths.get("data", "addressbook.bin")));
+    }
+
+    @Test
+    public void parse_sourceAndTarget_returnsConvertCommand() {
+        assertParseSuccess(parser, " from/old.json  to/new.bin ",
+                new ConvertCommand(Paths.get("old.json"), Paths.get("new.bin")));
+    }
+
+    @Test
+    public void parse_missingTarget_failure() {
+        assertParseFailure(parser, "", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " from/old.json", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " to/ ", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_preamble_failure() {
+        assertParseFailure(parser, " old.json to/new.bin", MESSAGE_INVALID_FORMAT);
+    }
+}
@@ -1,10 +1,14 @@
 package seedu.address.logic.parser;
 
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
+import java.util.Set;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.ExportCommand;
+import seedu.address.model.tag.Tag;
 
 /**
  * Unit tests for ExportCommandParser.
@@ -30,5 +34,15 @@ public class ExportCommandParserTest {
         ExportCommand expectedCommand = new ExportCommand(null);
         assertParseSuccess(parser, " /to ", expectedCommand);
     }
-}
 
+    @Test
+    public void parse_validArgsWithTags_returnsExportCommand() throws Exception {
+        ExportCommand expectedCommand = new ExportCommand("exco.csv", Set.of(new Tag("exco"), new Tag("committee")));
+        assertParseSuccess(parser, " t/exco t/committee /to exco.csv", expectedCommand);
+        assertParseSuccess(parser, " /to exco.csv t/committee t/exco", expectedCommand);
+        assertParseSuccess(parser, " t/exco t/committee",
+                new ExportCommand(null, Set.of(new Tag("exco"), new Tag("committee"))));
+
+        assertParseFailure(parser, " t/ex-co /to exco.csv", Tag.MESSAGE_CONSTRAINTS);
+    }
+}
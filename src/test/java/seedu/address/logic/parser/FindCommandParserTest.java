@@ -5,11 +5,17 @@ import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailur
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.FuzzyFindCommand;
+import seedu.address.logic.commands.QueryFindCommand;
 import seedu.address.model.person.PersonContainsKeywordsPredicate;
+import seedu.address.model.person.PersonQuery;
+import seedu.address.model.person.QueryClause;
+import seedu.address.model.person.SearchField;
 
 public class FindCommandParserTest {
 
@@ -31,4 +37,55 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, " \n Alice \n \t Bob  \t", expectedFindCommand);
     }
 
+    @Test
+    public void parse_keywordNotSingleWord_throwsParseException() {
+        // a control character is not split on, but is trimmed to nothing
+        assertParseFailure(parser, "Alice \u0001 Bob", PersonContainsKeywordsPredicate.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, "? -\u0001 t/exco", QueryClause.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_fuzzyMarker_returnsFuzzyFindCommand() {
+        FuzzyFindCommand expectedFuzzyFindCommand = new FuzzyFindCommand(Arrays.asList("jon", "tan"));
+        assertParseSuccess(parser, "~jon tan", expectedFuzzyFindCommand);
+        assertParseSuccess(parser, " ~  jon \t tan ", expectedFuzzyFindCommand);
+
+        assertParseFailure(parser, " ~ ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_queryWords_returnsQueryFindCommand() {
+        PersonQuery query = new PersonQuery(List.of(
+                List.of(new QueryClause(SearchField.YEAR, "2", false), new QueryClause(SearchField.TAG, "exco", false),
+                        new QueryClause(SearchField.TAG, "alumni", true)),
+                List.of(new QueryClause(SearchField.ROLE, "treasurer", false))));
+        assertParseSuccess(parser, "?y/2 t/exco -t/alumni OR r/treasurer", new QueryFindCommand(query, false));
+        assertParseSuccess(parser, " ? explain  y/2 t/exco \t -t/alumni OR r/treasurer ",
+                new QueryFindCommand(query, true));
+
+        // a keyword without a prefix searches every field, and "year" is kept as an ordinary keyword
+        PersonQuery keywordQuery = new PersonQuery(List.of(List.of(new QueryClause(SearchField.ANY, "year", false),
+                new QueryClause(SearchField.ANY, "3", false), new QueryClause(SearchField.NAME, "meier", true))));
+        assertParseSuccess(parser, "? year 3 -n/meier", new QueryFindCommand(keywordQuery, false));
+
+        String invalidFormat = String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "?", invalidFormat);
+        assertParseFailure(parser, "? explain", invalidFormat);
+        assertParseFailure(parser, "? t/", invalidFormat);
+        assertParseFailure(parser, "? -t/ alumni", invalidFormat);
+        assertParseFailure(parser, "? OR t/exco", invalidFormat);
+        assertParseFailure(parser, "? t/exco OR", invalidFormat);
+        assertParseFailure(parser, "? t/exco OR OR r/treasurer", invalidFormat);
+    }
+
+    @Test
+    public void parse_queryWordsWithoutMarker_returnsFindCommand() {
+        assertParseSuccess(parser, "explain", new FindCommand(new PersonContainsKeywordsPredicate(
+                Arrays.asList("explain"))));
+        assertParseSuccess(parser, "tan OR lee", new FindCommand(new PersonContainsKeywordsPredicate(
+                Arrays.asList("tan", "OR", "lee"))));
+        assertParseSuccess(parser, "y/2 -t/alumni", new FindCommand(new PersonContainsKeywordsPredicate(
+                Arrays.asList("y/2", "-t/alumni"))));
+    }
+
 }
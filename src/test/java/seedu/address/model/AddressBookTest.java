@@ -9,15 +9,20 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.budget.Budget;
+import seedu.address.model.common.Money;
 import seedu.address.model.event.Event;
 import seedu.address.model.event.EventId;
 import seedu.address.model.person.Person;
@@ -162,6 +167,38 @@ public class AddressBookTest {
         assertEquals(null, foundEvent);
     }
 
+    @Test
+    public void getModificationVersion_afterModification_increases() {
+        long initialVersion = addressBook.getModificationVersion();
+        addressBook.addPerson(ALICE);
+        long versionAfterAdd = addressBook.getModificationVersion();
+        assertTrue(versionAfterAdd > initialVersion);
+
+        addressBook.hasPerson(ALICE);
+        addressBook.findPersonsByName(ALICE.getName());
+        assertEquals(versionAfterAdd, addressBook.getModificationVersion());
+
+        addressBook.removePerson(ALICE);
+        assertTrue(addressBook.getModificationVersion() > versionAfterAdd);
+    }
+
+    @Test
+    public void getDirtySections_someSectionsModified_returnsModifiedSections() {
+        addressBook.addPerson(ALICE);
+        Map<AddressBookSection, Long> savedVersions = addressBook.getSectionVersions();
+        assertEquals(Collections.emptySet(), addressBook.getDirtySections(savedVersions));
+
+        addressBook.addEvent(new EventBuilder().build());
+        addressBook.setBudget(new Budget(Money.parse("100"), LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 31)));
+        assertEquals(EnumSet.of(AddressBookSection.EVENTS, AddressBookSection.BUDGET),
+                addressBook.getDirtySections(savedVersions));
+
+        // Setting the same budget again does not modify it
+        savedVersions = addressBook.getSectionVersions();
+        addressBook.setBudget(addressBook.getBudget().get());
+        assertEquals(Collections.emptySet(), addressBook.getDirtySections(savedVersions));
+    }
+
     @Test
     public void getEventList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getEventList().remove(0));
@@ -2,12 +2,35 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalEvents.EVENT1;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.core.UndoHistorySettings;
+import seedu.address.model.attendance.Attendance;
+import seedu.address.model.budget.Budget;
+import seedu.address.model.common.Money;
+import seedu.address.model.event.Event;
+import seedu.address.model.event.EventId;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.EventBuilder;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.TypicalPersons;
+
 public class VersionedAddressBookTest {
 
     @Test
@@ -121,4 +144,235 @@ public class VersionedAddressBookTest {
         assertTrue(versionedAddressBook.hasPerson(ALICE));
         assertTrue(versionedAddressBook.hasPerson(BOB));
     }
+
+    @Test
+    public void getEventByEventId_afterUndoAndRedo_returnsRestoredEvent() {
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook();
+        Event renamedEvent1 = new EventBuilder(EVENT1).withDescription("Renamed").build();
+
+        versionedAddressBook.commit();
+        versionedAddressBook.addEvent(EVENT1);
+        versionedAddressBook.commit();
+        versionedAddressBook.setEvent(EVENT1, renamedEvent1);
+        versionedAddressBook.commit();
+        versionedAddressBook.removeEvent(renamedEvent1);
+        assertNull(versionedAddressBook.getEventByEventId(EVENT1.getEventId()));
+
+        assertTrue(versionedAddressBook.undo());
+        assertEquals(renamedEvent1, versionedAddressBook.getEventByEventId(EVENT1.getEventId()));
+        assertTrue(versionedAddressBook.undo());
+        assertEquals(EVENT1, versionedAddressBook.getEventByEventId(EVENT1.getEventId()));
+        assertTrue(versionedAddressBook.undo());
+        assertNull(versionedAddressBook.getEventByEventId(EVENT1.getEventId()));
+
+        assertTrue(versionedAddressBook.redo());
+        assertTrue(versionedAddressBook.redo());
+        assertEquals(renamedEvent1, versionedAddressBook.getEventByEventId(EVENT1.getEventId()));
+    }
+
+    @Test
+    public void snapshot_unchangedSections_shared() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(ALICE);
+        AddressBookSnapshot first = (AddressBookSnapshot) addressBook.snapshot();
+
+        addressBook.addEvent(EVENT1);
+        AddressBookSnapshot second = (AddressBookSnapshot) addressBook.snapshot();
+
+        assertSame(first.getPersons(), second.getPersons());
+        assertNotSame(first.getEvents(), second.getEvents());
+        assertEquals(List.of(ALICE), second.getPersons());
+        assertEquals(List.of(EVENT1), second.getEvents());
+    }
+
+    @Test
+    public void undo_afterEdit_restoresStateAndIndexes() {
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook();
+        versionedAddressBook.addPerson(ALICE);
+        versionedAddressBook.addEvent(EVENT1);
+        AddressBook expected = new AddressBook(versionedAddressBook);
+
+        versionedAddressBook.commit();
+        versionedAddressBook.setPerson(ALICE, BOB);
+        assertTrue(versionedAddressBook.undo());
+
+        assertEquals(expected, versionedAddressBook);
+        assertTrue(versionedAddressBook.hasPerson(ALICE));
+        assertFalse(versionedAddressBook.hasPerson(BOB));
+        assertEquals(List.of(ALICE), versionedAddressBook.findPersonsByName(ALICE.getName()));
+        assertEquals(EVENT1, versionedAddressBook.getEventByEventId(EVENT1.getEventId()));
+
+        assertTrue(versionedAddressBook.redo());
+        assertTrue(versionedAddressBook.hasPerson(BOB));
+        assertFalse(versionedAddressBook.hasPerson(ALICE));
+    }
+
+    @Test
+    public void undoAndRedo_randomCommands_restoreEveryState() {
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook();
+        versionedAddressBook.setUndoHistorySettings(new UndoHistorySettings(1000, Long.MAX_VALUE));
+        assertUndoAndRedoRestoreEveryState(versionedAddressBook);
+    }
+
+    @Test
+    public void undoAndRedo_historySpilledToDisk_restoreEveryState() {
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook();
+        versionedAddressBook.setUndoHistorySettings(new UndoHistorySettings(1000, 0));
+        assertUndoAndRedoRestoreEveryState(versionedAddressBook);
+    }
+
+    @Test
+    public void setUndoHistorySettings_noMemory_olderStatesMovedToDisk() {
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook();
+        versionedAddressBook.commit();
+        versionedAddressBook.addPerson(ALICE);
+        versionedAddressBook.commit();
+        versionedAddressBook.addPerson(BOB);
+
+        versionedAddressBook.setUndoHistorySettings(new UndoHistorySettings(10, 0));
+        UndoHistoryUsage usage = versionedAddressBook.getUndoHistoryUsage();
+        assertEquals(2, usage.getUndoSteps());
+        assertTrue(usage.getBytesOnDisk() > 0);
+
+        assertTrue(versionedAddressBook.undo());
+        assertTrue(versionedAddressBook.undo());
+        assertEquals(new AddressBook(), new AddressBook(versionedAddressBook));
+        assertEquals(0, versionedAddressBook.getUndoHistoryUsage().getBytesOnDisk());
+    }
+
+    @Test
+    public void commit_beyondMaxDepth_oldestStatesDropped() {
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook();
+        versionedAddressBook.setUndoHistorySettings(new UndoHistorySettings(2, 0));
+        versionedAddressBook.commit();
+        versionedAddressBook.addPerson(ALICE);
+        versionedAddressBook.commit();
+        versionedAddressBook.addPerson(BOB);
+        versionedAddressBook.commit();
+        versionedAddressBook.removePerson(ALICE);
+
+        assertEquals(2, versionedAddressBook.getUndoCount());
+        assertTrue(versionedAddressBook.undo());
+        assertTrue(versionedAddressBook.undo());
+        assertFalse(versionedAddressBook.undo());
+        assertTrue(versionedAddressBook.hasPerson(ALICE));
+        assertFalse(versionedAddressBook.hasPerson(BOB));
+    }
+
+    private static void assertUndoAndRedoRestoreEveryState(VersionedAddressBook versionedAddressBook) {
+        Random random = new Random(2103);
+        List<Person> personPool = TypicalPersons.getTypicalPersons();
+        List<EventId> eventIds = List.of(new EventId("Camp"), new EventId("Orientation"), new EventId("Dinner"));
+        List<AddressBook> states = new ArrayList<>();
+        states.add(new AddressBook(versionedAddressBook));
+
+        for (int command = 0; command < 300; command++) {
+            versionedAddressBook.commit();
+            for (int op = random.nextInt(3); op >= 0; op--) {
+                applyRandomChange(random, versionedAddressBook, personPool, eventIds);
+            }
+            states.add(new AddressBook(versionedAddressBook));
+        }
+
+        for (int i = states.size() - 2; i >= 0; i--) {
+            assertTrue(versionedAddressBook.undo());
+            assertSameState(states.get(i), versionedAddressBook, personPool, eventIds);
+        }
+        assertFalse(versionedAddressBook.undo());
+
+        for (int i = 1; i < states.size(); i++) {
+            assertTrue(versionedAddressBook.redo());
+            assertSameState(states.get(i), versionedAddressBook, personPool, eventIds);
+        }
+        assertFalse(versionedAddressBook.redo());
+    }
+
+    private static void applyRandomChange(Random random, AddressBook addressBook, List<Person> personPool,
+            List<EventId> eventIds) {
+        List<Person> persons = addressBook.getPersonList();
+        Person candidate = personPool.get(random.nextInt(personPool.size()));
+        EventId eventId = eventIds.get(random.nextInt(eventIds.size()));
+        switch (random.nextInt(8)) {
+        case 0:
+            if (!addressBook.hasPerson(candidate)) {
+                addressBook.addPerson(candidate);
+            }
+            break;
+        case 1:
+            if (!persons.isEmpty()) {
+                Person target = persons.get(random.nextInt(persons.size()));
+                Person renamed = new PersonBuilder(target).withName(candidate.getName().fullName).build();
+                addressBook.setPerson(target, renamed);
+                addressBook.renameAttendanceForMember(target.getName(), renamed.getName());
+            }
+            break;
+        case 2:
+            if (!persons.isEmpty()) {
+                Person target = persons.get(random.nextInt(persons.size()));
+                addressBook.removePerson(target);
+                addressBook.removeAttendanceForMember(target.getName());
+            }
+            break;
+        case 3:
+            if (!persons.isEmpty()) {
+                Attendance attendance = new Attendance(eventId,
+                        persons.get(random.nextInt(persons.size())).getName());
+                if (!addressBook.hasAttendance(attendance)) {
+                    addressBook.addAttendance(attendance);
+                } else {
+                    addressBook.removeAttendance(addressBook.getAttendanceForEvent(eventId).stream()
+                            .filter(attendance::isSameAttendance).findFirst().get());
+                }
+            }
+            break;
+        case 4:
+            Event event = new Event(eventId, LocalDate.of(2024, 1, 1).plusDays(random.nextInt(5)), "Event",
+                    Money.parse(String.valueOf(random.nextInt(50))));
+            Event existing = addressBook.getEventByEventId(eventId);
+            if (existing == null) {
+                addressBook.addEvent(event);
+            } else if (random.nextBoolean()) {
+                addressBook.setEvent(existing, event);
+            } else {
+                addressBook.removeEvent(existing);
+            }
+            break;
+        case 5:
+            if (random.nextBoolean()) {
+                addressBook.setBudget(new Budget(Money.parse(String.valueOf(random.nextInt(500))),
+                        LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 3)));
+            } else {
+                addressBook.clearBudget();
+            }
+            break;
+        case 6:
+            List<Person> reordered = new ArrayList<>(persons);
+            Collections.shuffle(reordered, random);
+            addressBook.setPersons(reordered);
+            break;
+        default:
+            addressBook.setPersons(List.of());
+            addressBook.setAttendances(List.of());
+            break;
+        }
+    }
+
+    private static void assertSameState(AddressBook expected, AddressBook actual, List<Person> personPool,
+            List<EventId> eventIds) {
+        assertEquals(expected, actual);
+        assertEquals(expected.getBudget(), actual.getBudget());
+        for (Person person : personPool) {
+            Name name = person.getName();
+            assertEquals(expected.getPersonList().stream().filter(p -> p.getName().equals(name))
+                    .collect(Collectors.toList()), actual.findPersonsByName(name));
+            assertEquals(expected.hasPerson(person), actual.hasPerson(person));
+            assertEquals(expected.getAttendanceForMember(name), actual.getAttendanceForMember(name));
+        }
+        for (EventId eventId : eventIds) {
+            assertEquals(expected.getEventByEventId(eventId), actual.getEventByEventId(eventId));
+            assertEquals(expected.getAttendanceForEvent(eventId), actual.getAttendanceForEvent(eventId));
+        }
+        assertEquals(expected.getEventsWithin(LocalDate.MIN, LocalDate.MAX),
+                actual.getEventsWithin(LocalDate.MIN, LocalDate.MAX));
+    }
 }
@@ -0,0 +1,113 @@
+package seedu.address.model.attendance;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.attendance.exceptions.AttendanceNotFoundException;
+import seedu.address.model.attendance.exceptions.DuplicateAttendanceException;
+import seedu.address.model.event.EventId;
+import seedu.address.model.person.Name;
+
+public class UniqueAttendanceListTest {
+
+    private static final EventId ORIENTATION = new EventId("Orientation2023");
+    private static final EventId CAMP = new EventId("Camp2023");
+    private static final Name JOHN = new Name("John Doe");
+    private static final Name JANE = new Name("Jane Smith");
+
+    private final UniqueAttendanceList uniqueAttendanceList = new UniqueAttendanceList();
+
+    @Test
+    public void contains_attendanceWithSameIdentityInList_returnsTrue() {
+        uniqueAttendanceList.add(new Attendance(ORIENTATION, JOHN));
+        assertTrue(uniqueAttendanceList.contains(new Attendance(ORIENTATION, JOHN, true)));
+        assertFalse(uniqueAttendanceList.contains(new Attendance(CAMP, JOHN)));
+        assertFalse(uniqueAttendanceList.contains(new Attendance(ORIENTATION, JANE)));
+    }
+
+    @Test
+    public void add_attendanceWithSameIdentity_throwsDuplicateAttendanceException() {
+        uniqueAttendanceList.add(new Attendance(ORIENTATION, JOHN));
+        assertThrows(DuplicateAttendanceException.class, () ->
+                uniqueAttendanceList.add(new Attendance(ORIENTATION, JOHN, true)));
+    }
+
+    @Test
+    public void setAttendance_markAttended_success() {
+        Attendance absent = new Attendance(ORIENTATION, JOHN);
+        uniqueAttendanceList.add(absent);
+        uniqueAttendanceList.setAttendance(absent, absent.markAttended());
+        assertEquals(List.of(absent.markAttended()), uniqueAttendanceList.asUnmodifiableObservableList());
+        assertThrows(AttendanceNotFoundException.class, () -> uniqueAttendanceList.remove(absent));
+    }
+
+    @Test
+    public void removeAttendancesByMember_removesOnlyThatMember() {
+        uniqueAttendanceList.add(new Attendance(ORIENTATION, JOHN));
+        uniqueAttendanceList.add(new Attendance(CAMP, JOHN));
+        uniqueAttendanceList.add(new Attendance(ORIENTATION, JANE));
+
+        uniqueAttendanceList.removeAttendancesByMember(JOHN);
+
+        assertEquals(List.of(new Attendance(ORIENTATION, JANE)), uniqueAttendanceList.asUnmodifiableObservableList());
+        assertFalse(uniqueAttendanceList.contains(new Attendance(CAMP, JOHN)));
+        // the removed identity can be added again
+        uniqueAttendanceList.add(new Attendance(CAMP, JOHN));
+        assertTrue(uniqueAttendanceList.contains(new Attendance(CAMP, JOHN)));
+    }
+
+    @Test
+    public void renameMember_updatesIdentity() {
+        uniqueAttendanceList.add(new Attendance(ORIENTATION, JOHN, true));
+        uniqueAttendanceList.renameMember(JOHN, JANE);
+        assertFalse(uniqueAttendanceList.contains(new Attendance(ORIENTATION, JOHN)));
+        assertTrue(uniqueAttendanceList.contains(new Attendance(ORIENTATION, JANE)));
+    }
+
+    @Test
+    public void getAttendancesForEvent_keepsListOrderAcrossUpdates() {
+        Attendance john = new Attendance(ORIENTATION, JOHN);
+        Attendance jane = new Attendance(ORIENTATION, JANE);
+        uniqueAttendanceList.add(john);
+        uniqueAttendanceList.add(new Attendance(CAMP, JOHN));
+        uniqueAttendanceList.add(jane);
+
+        uniqueAttendanceList.setAttendance(john, john.markAttended());
+
+        assertEquals(List.of(john.markAttended(), jane), uniqueAttendanceList.getAttendancesForEvent(ORIENTATION));
+        assertEquals(List.of(new Attendance(CAMP, JOHN)), uniqueAttendanceList.getAttendancesForEvent(CAMP));
+        assertTrue(uniqueAttendanceList.getAttendancesForEvent(new EventId("Unknown")).isEmpty());
+    }
+
+    @Test
+    public void getAttendancesForMember_afterRemoveAndReset_updated() {
+        Attendance johnOrientation = new Attendance(ORIENTATION, JOHN);
+        Attendance johnCamp = new Attendance(CAMP, JOHN);
+        uniqueAttendanceList.add(johnOrientation);
+        uniqueAttendanceList.add(johnCamp);
+        assertEquals(List.of(johnOrientation, johnCamp), uniqueAttendanceList.getAttendancesForMember(JOHN));
+
+        uniqueAttendanceList.remove(johnOrientation);
+        assertEquals(List.of(johnCamp), uniqueAttendanceList.getAttendancesForMember(JOHN));
+        assertTrue(uniqueAttendanceList.getAttendancesForEvent(ORIENTATION).isEmpty());
+
+        uniqueAttendanceList.setAttendances(List.of(new Attendance(CAMP, JANE)));
+        assertTrue(uniqueAttendanceList.getAttendancesForMember(JOHN).isEmpty());
+        assertEquals(List.of(new Attendance(CAMP, JANE)), uniqueAttendanceList.getAttendancesForEvent(CAMP));
+    }
+
+    @Test
+    public void getAttendancesForMember_afterRename_movedToNewName() {
+        uniqueAttendanceList.add(new Attendance(ORIENTATION, JOHN, true));
+        uniqueAttendanceList.renameMember(JOHN, JANE);
+        assertTrue(uniqueAttendanceList.getAttendancesForMember(JOHN).isEmpty());
+        assertEquals(List.of(new Attendance(ORIENTATION, JANE, true)),
+                uniqueAttendanceList.getAttendancesForMember(JANE));
+    }
+}
@@ -2,14 +2,25 @@ package seedu.address.model.event;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.common.Money;
 import seedu.address.model.event.exceptions.DuplicateEventException;
 import seedu.address.model.event.exceptions.EventNotFoundException;
 import seedu.address.testutil.EventBuilder;
@@ -271,4 +282,143 @@ public class UniqueEventListTest {
         String expected = uniqueEventList.asUnmodifiableObservableList().toString();
         assertEquals(expected, uniqueEventList.toString());
     }
+
+    @Test
+    public void getEvent_eventInList_returnsEvent() {
+        UniqueEventList uniqueEventList = new UniqueEventList();
+        Event event = new EventBuilder().build();
+        uniqueEventList.add(event);
+        assertSame(event, uniqueEventList.getEvent(event.getEventId()));
+        assertNull(uniqueEventList.getEvent(new EventId("different")));
+    }
+
+    @Test
+    public void getEventsWithin_returnsEventsInDateOrderWithTotal() {
+        UniqueEventList uniqueEventList = new UniqueEventList();
+        Event late = new Event(new EventId("Late"), LocalDate.of(2024, 3, 1), "Late", Money.parse("5.50"));
+        Event earlyB = new Event(new EventId("B"), LocalDate.of(2024, 1, 1), "Early B", Money.parse("10"));
+        Event earlyA = new Event(new EventId("A"), LocalDate.of(2024, 1, 1), "Early A", Money.parse("1.25"));
+        Event outside = new Event(new EventId("Outside"), LocalDate.of(2024, 5, 1), "Outside", Money.parse("100"));
+        uniqueEventList.setEvents(List.of(late, earlyB, outside, earlyA));
+
+        EventsInRange eventsInRange = uniqueEventList.getEventsWithin(LocalDate.of(2024, 1, 1),
+                LocalDate.of(2024, 3, 1));
+        assertEquals(List.of(earlyA, earlyB, late), eventsInRange.getEvents());
+        assertEquals(Money.parse("16.75"), eventsInRange.getTotalExpense());
+
+        Event movedLate = new Event(late.getEventId(), LocalDate.of(2024, 6, 1), "Late", late.getExpense());
+        uniqueEventList.setEvent(late, movedLate);
+        uniqueEventList.remove(earlyB);
+        assertEquals(new EventsInRange(List.of(earlyA), Money.parse("1.25")),
+                uniqueEventList.getEventsWithin(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 3, 1)));
+        assertEquals(EventsInRange.empty(),
+                uniqueEventList.getEventsWithin(LocalDate.of(2024, 3, 1), LocalDate.of(2024, 1, 1)));
+    }
+
+    @Test
+    public void getTotalExpenseWithin_afterExpenseChanges_updated() {
+        UniqueEventList uniqueEventList = new UniqueEventList();
+        Event first = new Event(new EventId("First"), LocalDate.MIN, "First", Money.parse("0.01"));
+        Event second = new Event(new EventId("Second"), LocalDate.of(2024, 1, 1), "Second", Money.parse("20"));
+        Event last = new Event(new EventId("Last"), LocalDate.MAX, "Last", Money.parse("300"));
+        uniqueEventList.setEvents(List.of(first, second, last));
+        assertEquals(Money.parse("320.01"), uniqueEventList.getTotalExpenseWithin(LocalDate.MIN, LocalDate.MAX));
+
+        Event updatedSecond = new Event(second.getEventId(), second.getDate(), "Second", Money.parse("2.50"));
+        uniqueEventList.setEvent(second, updatedSecond);
+        uniqueEventList.remove(last);
+        assertEquals(Money.parse("2.51"), uniqueEventList.getTotalExpenseWithin(LocalDate.MIN, LocalDate.MAX));
+        assertEquals(Money.parse("2.50"), uniqueEventList.getTotalExpenseWithin(LocalDate.of(2024, 1, 1),
+                LocalDate.of(2024, 1, 1)));
+        assertEquals(Money.zero(), uniqueEventList.getTotalExpenseWithin(LocalDate.of(2024, 1, 2), LocalDate.MAX));
+    }
+
+    @Test
+    public void getTotalExpenseWithin_manyExpensesBeyondLongOfCents_exact() {
+        UniqueEventList uniqueEventList = new UniqueEventList();
+        List<Event> events = new ArrayList<>();
+        BigDecimal largeExpense = new BigDecimal("12345678901234567890.12");
+        for (int i = 0; i < 1000; i++) {
+            events.add(new Event(new EventId("E" + i), LocalDate.of(2024, 1, 1).plusDays(i % 3), "Large",
+                    Money.of(largeExpense)));
+        }
+        uniqueEventList.setEvents(events);
+        assertEquals(Money.of(largeExpense.multiply(BigDecimal.valueOf(1000))),
+                uniqueEventList.getTotalExpenseWithin(LocalDate.MIN, LocalDate.MAX));
+        assertEquals(Money.of(largeExpense.multiply(BigDecimal.valueOf(333))),
+                uniqueEventList.getTotalExpenseWithin(LocalDate.of(2024, 1, 2), LocalDate.of(2024, 1, 2)));
+    }
+
+    @Test
+    public void getEvent_randomOperations_consistentWithList() {
+        Random random = new Random(2103);
+        UniqueEventList uniqueEventList = new UniqueEventList();
+        List<EventId> eventIds = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            eventIds.add(new EventId("Event" + i));
+        }
+
+        for (int step = 0; step < 2000; step++) {
+            List<Event> current = new ArrayList<>(uniqueEventList.asUnmodifiableObservableList());
+            Event candidate = randomEvent(random, eventIds);
+            switch (random.nextInt(5)) {
+            case 0:
+                if (!uniqueEventList.contains(candidate)) {
+                    uniqueEventList.add(candidate);
+                }
+                break;
+            case 1:
+                if (!current.isEmpty()) {
+                    Event target = current.get(random.nextInt(current.size()));
+                    if (target.isSameEvent(candidate) || !uniqueEventList.contains(candidate)) {
+                        uniqueEventList.setEvent(target, candidate);
+                    }
+                }
+                break;
+            case 2:
+                if (!current.isEmpty()) {
+                    uniqueEventList.remove(current.get(random.nextInt(current.size())));
+                }
+                break;
+            case 3:
+                Map<EventId, Event> replacement = new LinkedHashMap<>();
+                for (int i = random.nextInt(eventIds.size()); i > 0; i--) {
+                    Event event = randomEvent(random, eventIds);
+                    replacement.put(event.getEventId(), event);
+                }
+                uniqueEventList.setEvents(new ArrayList<>(replacement.values()));
+                break;
+            default:
+                UniqueEventList copy = new UniqueEventList();
+                copy.setEvents(uniqueEventList);
+                uniqueEventList = copy;
+                break;
+            }
+
+            for (EventId eventId : eventIds) {
+                Event expected = uniqueEventList.asUnmodifiableObservableList().stream()
+                        .filter(event -> event.getEventId().equals(eventId))
+                        .findFirst()
+                        .orElse(null);
+                assertEquals(expected, uniqueEventList.getEvent(eventId), "step " + step);
+            }
+
+            LocalDate start = LocalDate.of(2024, 1, 1).plusDays(random.nextInt(3));
+            LocalDate end = start.plusDays(random.nextInt(2));
+            List<Event> expectedInRange = uniqueEventList.asUnmodifiableObservableList().stream()
+                    .filter(event -> !event.getDate().isBefore(start) && !event.getDate().isAfter(end))
+                    .sorted(Comparator.comparing(Event::getDate).thenComparing(event -> event.getEventId().value))
+                    .collect(Collectors.toList());
+            Money expectedTotal = expectedInRange.stream().map(Event::getExpense).reduce(Money.zero(), Money::plus);
+            assertEquals(new EventsInRange(expectedInRange, expectedTotal),
+                    uniqueEventList.getEventsWithin(start, end), "step " + step);
+            assertEquals(expectedTotal, uniqueEventList.getTotalExpenseWithin(start, end), "step " + step);
+        }
+    }
+
+    private static Event randomEvent(Random random, List<EventId> eventIds) {
+        EventId eventId = eventIds.get(random.nextInt(eventIds.size()));
+        return new Event(eventId, LocalDate.of(2024, 1, 1).plusDays(random.nextInt(3)),
+                "Description " + random.nextInt(3), Money.parse(String.valueOf(random.nextInt(100))));
+    }
 }
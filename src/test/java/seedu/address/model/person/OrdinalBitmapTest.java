@@ -0,0 +1,89 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.BitSet;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class OrdinalBitmapTest {
+
+    @Test
+    public void add_manyValuesInOneChunk_switchesBetweenArrayAndBitmap() {
+        OrdinalBitmap bitmap = new OrdinalBitmap();
+        for (int i = 0; i < OrdinalBitmap.MAX_ARRAY_SIZE + 1; i++) {
+            bitmap.add(i * 2);
+        }
+        // Held as a bitmap of 1024 words rather than an array of 4097 values
+        assertEquals(1024, bitmap.getReadCost());
+        assertTrue(bitmap.contains(8192));
+        assertFalse(bitmap.contains(8193));
+
+        bitmap.remove(0);
+        assertEquals(OrdinalBitmap.MAX_ARRAY_SIZE, bitmap.getReadCost());
+        assertEquals(OrdinalBitmap.MAX_ARRAY_SIZE, bitmap.size());
+        assertFalse(bitmap.contains(0));
+    }
+
+    @Test
+    public void setOperations_randomSets_sameAsBitSet() {
+        Random random = new Random(4);
+        // Densities either side of the array limit, across several chunks
+        for (double density : new double[] {0.001, 0.03, 0.2, 0.9}) {
+            BitSet expectedFirst = new BitSet();
+            BitSet expectedSecond = new BitSet();
+            OrdinalBitmap first = new OrdinalBitmap();
+            OrdinalBitmap second = new OrdinalBitmap();
+            for (int value = 0; value < 200_000; value++) {
+                if (random.nextDouble() < density) {
+                    expectedFirst.set(value);
+                    first.add(value);
+                }
+                if (random.nextDouble() < density / 2) {
+                    expectedSecond.set(value);
+                    second.add(value);
+                }
+            }
+            for (int value = 0; value < 200_000; value += 7) {
+                expectedFirst.clear(value);
+                first.remove(value);
+            }
+
+            assertSameValues(expectedFirst, first);
+            BitSet and = (BitSet) expectedFirst.clone();
+            and.and(expectedSecond);
+            assertSameValues(and, first.and(second));
+            BitSet or = (BitSet) expectedFirst.clone();
+            or.or(expectedSecond);
+            assertSameValues(or, first.or(second));
+            BitSet andNot = (BitSet) expectedFirst.clone();
+            andNot.andNot(expectedSecond);
+            assertSameValues(andNot, first.andNot(second));
+            BitSet reverseAndNot = (BitSet) expectedSecond.clone();
+            reverseAndNot.andNot(expectedFirst);
+            assertSameValues(reverseAndNot, second.andNot(first));
+        }
+    }
+
+    @Test
+    public void setOperations_operandsUnchanged() {
+        OrdinalBitmap first = OrdinalBitmap.of(1, 70_000);
+        OrdinalBitmap second = OrdinalBitmap.of(1, 2);
+        first.or(second).add(3);
+        first.andNot(second).add(4);
+        assertArrayEquals(new int[] {1, 70_000}, first.toArray());
+        assertArrayEquals(new int[] {1, 2}, second.toArray());
+    }
+
+    private static void assertSameValues(BitSet expected, OrdinalBitmap actual) {
+        assertArrayEquals(expected.stream().toArray(), actual.toArray());
+        assertEquals(expected.cardinality(), actual.size());
+        for (int value = 0; value < 200_000; value += 13) {
+            assertEquals(expected.get(value), actual.contains(value));
+        }
+    }
+}
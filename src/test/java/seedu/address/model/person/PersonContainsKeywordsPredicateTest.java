@@ -42,6 +42,16 @@ public class PersonContainsKeywordsPredicateTest {
         assertFalse(firstPredicate.equals(secondPredicate));
     }
 
+    @Test
+    public void test_keywordNotSingleWord_returnsFalse() {
+        PersonContainsKeywordsPredicate predicate = new PersonContainsKeywordsPredicate(
+                Arrays.asList("Amy", "Amy Bee"));
+        assertFalse(predicate.test(new PersonBuilder().withName("Amy Bee").build()));
+
+        predicate = new PersonContainsKeywordsPredicate(Collections.singletonList(" "));
+        assertFalse(predicate.test(new PersonBuilder().withName("Amy Bee").build()));
+    }
+
     @Test
     public void test_nameContainsKeywords_returnsTrue() {
         // One keyword that matches the entire Person (relaxed standard)
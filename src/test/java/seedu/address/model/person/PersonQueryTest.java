@@ -0,0 +1,59 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class PersonQueryTest {
+
+    @Test
+    public void constructor_noConditions_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new PersonQuery(List.of()));
+        assertThrows(IllegalArgumentException.class, () -> new PersonQuery(List.of(List.of())));
+        assertThrows(IllegalArgumentException.class, () -> new QueryClause(SearchField.TAG, "two words", false));
+    }
+
+    @Test
+    public void test_fieldScopedClauses() {
+        PersonQuery query = new PersonQuery(List.of(List.of(new QueryClause(SearchField.YEAR, "2", false),
+                new QueryClause(SearchField.TAG, "friends", true))));
+        assertTrue(query.test(ELLE));
+        // Has tag friends
+        assertFalse(query.test(ALICE));
+        // Not year 2
+        assertFalse(query.test(BENSON));
+
+        // "2" in another field does not match a clause limited to the year
+        assertFalse(new PersonQuery(List.of(List.of(new QueryClause(SearchField.NAME, "2", false))))
+                .test(ELLE));
+    }
+
+    @Test
+    public void test_anyBranchMatches() {
+        PersonQuery query = new PersonQuery(List.of(List.of(new QueryClause(SearchField.TAG, "owesMoney", false)),
+                List.of(new QueryClause(SearchField.NAME, "elle", false))));
+        assertTrue(query.test(BENSON));
+        assertTrue(query.test(ELLE));
+        assertFalse(query.test(ALICE));
+    }
+
+    @Test
+    public void equals() {
+        PersonQuery query = new PersonQuery(List.of(List.of(new QueryClause(SearchField.TAG, "exco", false))));
+
+        assertTrue(query.equals(query));
+        // words equal ignoring case -> returns true
+        assertTrue(query.equals(new PersonQuery(List.of(List.of(new QueryClause(SearchField.TAG, "EXCO", false))))));
+        assertFalse(query.equals(new PersonQuery(List.of(List.of(new QueryClause(SearchField.TAG, "exco", true))))));
+        assertFalse(query.equals(new PersonQuery(List.of(List.of(new QueryClause(SearchField.ANY, "exco", false))))));
+        assertFalse(query.equals(null));
+        assertFalse(query.equals(1));
+    }
+}
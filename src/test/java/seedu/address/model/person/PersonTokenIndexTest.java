@@ -0,0 +1,189 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonTokenIndexTest {
+
+    private static final List<List<String>> KEYWORD_LISTS = List.of(
+            List.of("meier"), List.of("MEIER", "benson"), List.of("Alice", "friends"), List.of("year", "2"),
+            List.of("2", "year", "vegetarian"), List.of("year"), List.of("2"), List.of("member", "owesMoney"),
+            List.of("alice@example.com"), List.of("nobody"), List.of("meier", "nobody"), List.of(" kurz "));
+
+    private static final List<PersonQuery> QUERIES = List.of(
+            query(List.of(clause(SearchField.YEAR, "2"))),
+            query(List.of(clause(SearchField.YEAR, "2"), new QueryClause(SearchField.TAG, "friends", true))),
+            query(List.of(clause(SearchField.TAG, "FRIENDS"), clause(SearchField.NAME, "meier"))),
+            query(List.of(clause(SearchField.NAME, "member"))),
+            query(List.of(new QueryClause(SearchField.ANY, "meier", true))),
+            query(List.of(clause(SearchField.ROLE, "member"), clause(SearchField.DIETARY_REQUIREMENTS, "halal")),
+                    List.of(clause(SearchField.TAG, "owesMoney")), List.of(clause(SearchField.TAG, "nobody"))),
+            query(List.of(clause(SearchField.EMAIL, "alice@example.com"), clause(SearchField.ANY, "2"))),
+            query(List.of(new QueryClause(SearchField.TAG, "friends", true)),
+                    List.of(clause(SearchField.TAG, "friends"), clause(SearchField.TAG, "owesMoney"))));
+
+    @Test
+    public void createPredicate_typicalPersons_sameResultsAsPredicate() {
+        PersonTokenIndex index = new PersonTokenIndex();
+        getTypicalPersons().forEach(index::add);
+
+        assertSameResults(index, getTypicalPersons());
+    }
+
+    @Test
+    public void createPredicate_afterRemovalsAndRenumbering_sameResultsAsPredicate() {
+        PersonTokenIndex index = new PersonTokenIndex();
+        List<Person> persons = new ArrayList<>(getTypicalPersons());
+        persons.forEach(index::add);
+        // Enough edits to renumber the index more than once
+        for (int i = 0; i < 3000; i++) {
+            Person person = persons.remove(0);
+            index.remove(person);
+            Person copy = new PersonBuilder(person).build();
+            index.add(copy);
+            persons.add(copy);
+        }
+
+        assertSameResults(index, persons);
+    }
+
+    @Test
+    public void createPredicate_indexCleared_testedByPredicate() {
+        PersonTokenIndex index = new PersonTokenIndex();
+        getTypicalPersons().forEach(index::add);
+        Predicate<Person> indexedPredicate = index.createPredicate(
+                new PersonContainsKeywordsPredicate(List.of("meier")));
+
+        index.clear();
+        assertTrue(indexedPredicate.test(BENSON));
+        assertFalse(indexedPredicate.test(ALICE));
+        assertTrue(index.find(query(List.of(clause(SearchField.NAME, "meier")))).isEmpty());
+    }
+
+    @Test
+    public void createPredicate_personsChangedLater_testedByPredicate() {
+        PersonTokenIndex index = new PersonTokenIndex();
+        index.add(ALICE);
+        PersonContainsKeywordsPredicate predicate = new PersonContainsKeywordsPredicate(List.of("meier"));
+        Predicate<Person> indexedPredicate = index.createPredicate(predicate);
+
+        index.add(BENSON);
+        assertFalse(indexedPredicate.test(ALICE));
+        assertTrue(indexedPredicate.test(BENSON));
+
+        // Renumbering gives new ordinals to the persons indexed before
+        for (int i = 0; i < 3000; i++) {
+            index.remove(ALICE);
+            index.add(ALICE);
+        }
+        assertFalse(indexedPredicate.test(ALICE));
+        assertTrue(indexedPredicate.test(BENSON));
+    }
+
+    @Test
+    public void plan_indexedFields_shortestPostingListFirst() {
+        PersonTokenIndex index = new PersonTokenIndex();
+        getTypicalPersons().forEach(index::add);
+
+        QueryPlan plan = index.plan(query(List.of(clause(SearchField.YEAR, "3"), clause(SearchField.TAG, "owesMoney"),
+                new QueryClause(SearchField.TAG, "alumni", true))));
+        assertEquals("Query plan, estimated cost 3:\n"
+                + "  Look up tag \"owesMoney\" in the tag bitmaps: 1 persons\n"
+                + "  Intersect with year \"3\" in the year index: 2 persons\n"
+                + "  Check not tag \"alumni\" for each of up to 1 persons", plan.describe());
+        assertEquals(3, plan.getCost());
+    }
+
+    @Test
+    public void plan_unindexedClauses_checkedAfterLookups() {
+        PersonTokenIndex index = new PersonTokenIndex();
+        getTypicalPersons().forEach(index::add);
+
+        // Names have no index of their own, so the word index finds persons with "meier" in any field
+        QueryPlan namePlan = index.plan(query(List.of(clause(SearchField.NAME, "meier"))));
+        assertEquals("Query plan, estimated cost 6:\n"
+                + "  Look up name \"meier\" in the word index: 3 persons\n"
+                + "  Check name \"meier\" for each of up to 3 persons", namePlan.describe());
+
+        // Negated clauses alone are checked against every person
+        assertEquals(9, index.plan(query(List.of(new QueryClause(SearchField.NAME, "meier", true)))).getCost());
+
+        QueryPlan missingPlan = index.plan(query(List.of(clause(SearchField.TAG, "nobody")),
+                List.of(clause(SearchField.YEAR, "3"))));
+        assertEquals(2, missingPlan.getCost());
+        assertTrue(missingPlan.describe().contains("No person has tag \"nobody\", so none match"));
+    }
+
+    @Test
+    public void plan_tagsOnly_combinedAsBitmaps() {
+        PersonTokenIndex index = new PersonTokenIndex();
+        getTypicalPersons().forEach(index::add);
+
+        // The bitmaps of all 9 persons and of the 3 friends are read
+        QueryPlan plan = index.plan(query(List.of(new QueryClause(SearchField.TAG, "friends", true))));
+        assertEquals("Query plan, estimated cost 12:\n"
+                + "  Start from all 9 persons\n"
+                + "  Subtract tag \"friends\" in the tag bitmaps: 3 persons", plan.describe());
+
+        assertEquals(List.of(ALICE, DANIEL), index.find(query(
+                List.of(clause(SearchField.TAG, "friends"), new QueryClause(SearchField.TAG, "owesMoney", true)))));
+        assertEquals(List.of(ALICE, BENSON, DANIEL), index.find(query(
+                List.of(clause(SearchField.TAG, "owesMoney")), List.of(clause(SearchField.TAG, "friends")))));
+    }
+
+    @Test
+    public void findApproximately_prefixesAndTypos_rankedByTypos() {
+        PersonTokenIndex index = new PersonTokenIndex();
+        getTypicalPersons().forEach(index::add);
+
+        // Benson Meier, Daniel Meier and Hoon Meier need no typos, Elle Meyer one
+        assertEquals(List.of(BENSON, DANIEL, HOON, ELLE), index.findApproximately(List.of("meier"), 10));
+        assertEquals(List.of(BENSON, DANIEL), index.findApproximately(List.of("MEIER"), 2));
+        assertEquals(List.of(CARL, FIONA), index.findApproximately(List.of("kurz"), 10));
+        // Every word must match
+        assertEquals(List.of(BENSON), index.findApproximately(List.of("meir", "be"), 10));
+        assertEquals(List.of(), index.findApproximately(List.of("meier", "zz"), 10));
+    }
+
+    private static void assertSameResults(PersonTokenIndex index, List<Person> persons) {
+        for (List<String> keywords : KEYWORD_LISTS) {
+            PersonContainsKeywordsPredicate predicate = new PersonContainsKeywordsPredicate(keywords);
+            Predicate<Person> indexedPredicate = index.createPredicate(predicate);
+            for (Person person : persons) {
+                assertEquals(predicate.test(person), indexedPredicate.test(person), keywords + " " + person);
+            }
+        }
+        for (PersonQuery query : QUERIES) {
+            Predicate<Person> indexedPredicate = index.createPredicate(query);
+            for (Person person : persons) {
+                assertEquals(query.test(person), indexedPredicate.test(person), query + " " + person);
+            }
+        }
+    }
+
+    private static QueryClause clause(SearchField field, String word) {
+        return new QueryClause(field, word, false);
+    }
+
+    @SafeVarargs
+    private static PersonQuery query(List<QueryClause>... branches) {
+        return new PersonQuery(List.of(branches));
+    }
+}
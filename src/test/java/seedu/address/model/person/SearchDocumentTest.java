@@ -0,0 +1,73 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class SearchDocumentTest {
+
+    @Test
+    public void containsWord_foldedWords_matchesEveryField() {
+        SearchDocument document = BENSON.getSearchDocument();
+        for (String word : new String[] {"benson", "meier", "3", "b2345678y", "johnd@example.com", "98765432", "no",
+            "restrictions", "member", "owesmoney", "friends"}) {
+            assertTrue(document.containsWord(word), word);
+        }
+        assertFalse(document.containsWord("bens"));
+        assertFalse(document.containsWord("Benson"));
+        assertTrue(document.containsWord(SearchField.NAME, "meier"));
+        assertFalse(document.containsWord(SearchField.NAME, "member"));
+        assertTrue(document.containsWord(SearchField.YEAR, "3"));
+        assertTrue(document.containsWord(SearchField.TAG, "friends"));
+        assertFalse(document.containsWord(SearchField.TAG, "meier"));
+        assertTrue(document.containsWord(SearchField.ANY, "friends"));
+    }
+
+    @Test
+    public void containsWord_manyTags_allTagsFound() {
+        PersonBuilder builder = new PersonBuilder();
+        String[] tags = new String[100];
+        for (int i = 0; i < tags.length; i++) {
+            tags[i] = "SearchDocumentTestTag" + i;
+        }
+        SearchDocument document = builder.withTags(tags).build().getSearchDocument();
+        for (String tag : tags) {
+            assertTrue(document.containsWord(SearchDocument.fold(tag)), tag);
+        }
+        assertFalse(new PersonBuilder().build().getSearchDocument().containsWord(SearchDocument.fold(tags[0])));
+
+        Set<String> words = new HashSet<>();
+        document.forEachWord(words::add);
+        assertTrue(words.contains(SearchDocument.fold(tags[0])));
+        assertTrue(words.contains(SearchDocument.fold(tags[tags.length - 1])));
+    }
+
+    @Test
+    public void getSearchDocument_builtOnce() {
+        Person person = new PersonBuilder().build();
+        assertSame(person.getSearchDocument(), person.getSearchDocument());
+    }
+
+    @Test
+    public void fold_equalIgnoringCase_sameKey() {
+        assertEquals(SearchDocument.fold("Meier"), SearchDocument.fold("mEIER"));
+        assertEquals(SearchDocument.fold("İ"), SearchDocument.fold("i"));
+    }
+
+    @Test
+    public void foldKeyword_notSingleWord_null() {
+        assertEquals("alice", SearchDocument.foldKeyword(" Alice "));
+        assertNull(SearchDocument.foldKeyword("  "));
+        assertNull(SearchDocument.foldKeyword("Alice Bob"));
+    }
+}
@@ -96,4 +96,11 @@ public class StudentNumberTest {
         StudentNumber studentNumber = new StudentNumber("B9876543Y");
         assertEquals("B9876543Y", studentNumber.value);
     }
+
+    @Test
+    public void getNormalizedValue_returnsUpperCaseValue() {
+        assertEquals("A1234567X", new StudentNumber("a1234567x").getNormalizedValue());
+        assertEquals("A1234567X", new StudentNumber("A1234567X").getNormalizedValue());
+        assertEquals("a1234567x", new StudentNumber("a1234567x").value);
+    }
 }
@@ -0,0 +1,60 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.Test;
+
+public class TokenTrieTest {
+
+    private static final List<String> WORDS = List.of("jon", "jonathan", "john", "johnson", "joan", "tan", "tang",
+            "wei", "wen", "a");
+
+    @Test
+    public void forEachMatch_exactPrefix_wordsStartingWithPrefix() {
+        TokenTrie trie = buildTrie();
+        assertEquals(Map.of("jon", 0, "jonathan", 0), findMatches(trie, "jon", 0));
+        assertEquals(Map.of("tan", 0, "tang", 0), findMatches(trie, "ta", 0));
+        assertEquals(Map.of(), findMatches(trie, "x", 0));
+    }
+
+    @Test
+    public void forEachMatch_typos_fewestTyposReported() {
+        TokenTrie trie = buildTrie();
+        assertEquals(Map.of("jon", 0, "jonathan", 0, "john", 1, "johnson", 1, "joan", 1),
+                findMatches(trie, "jon", 1));
+        // A missing letter
+        assertEquals(Map.of("johnson", 1), findMatches(trie, "jonson", 1));
+        // Swapped letters count as two typos
+        assertEquals(Map.of("jonathan", 2), findMatches(trie, "jonahtan", 2));
+    }
+
+    @Test
+    public void remove_wordsRemoved_trieStaysConsistent() {
+        TokenTrie trie = buildTrie();
+        trie.remove("jon");
+        trie.remove("tang");
+        trie.remove("a");
+        assertEquals(Map.of("jonathan", 0), findMatches(trie, "jon", 0));
+        assertEquals(Map.of("tan", 0), findMatches(trie, "ta", 0));
+
+        trie.remove("jonathan");
+        trie.add("jon");
+        assertEquals(Map.of("joan", 0, "john", 0, "johnson", 0, "jon", 0), findMatches(trie, "jo", 0));
+    }
+
+    private static TokenTrie buildTrie() {
+        TokenTrie trie = new TokenTrie();
+        WORDS.forEach(trie::add);
+        return trie;
+    }
+
+    private static Map<String, Integer> findMatches(TokenTrie trie, String prefix, int maxDistance) {
+        Map<String, Integer> matches = new TreeMap<>();
+        trie.forEachMatch(prefix, maxDistance, matches::put);
+        return matches;
+    }
+}
@@ -8,10 +8,15 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
@@ -47,6 +52,78 @@ public class UniquePersonListTest {
         assertTrue(uniquePersonList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_personWithDifferentCaseStudentNumberInList_returnsTrue() {
+        uniquePersonList.add(ALICE);
+        Person lowerCaseAlice = new PersonBuilder(ALICE)
+                .withStudentNumber(ALICE.getStudentNumber().value.toLowerCase()).build();
+        assertTrue(uniquePersonList.contains(lowerCaseAlice));
+    }
+
+    @Test
+    public void findByStudentNumber_caseInsensitive_returnsPerson() {
+        uniquePersonList.add(ALICE);
+        String lowerCase = ALICE.getStudentNumber().value.toLowerCase();
+        assertEquals(Optional.of(ALICE), uniquePersonList.findByStudentNumber(new StudentNumber(lowerCase)));
+        assertEquals(Optional.empty(), uniquePersonList.findByStudentNumber(BOB.getStudentNumber()));
+    }
+
+    @Test
+    public void findByStudentNumber_afterStudentNumberEdited_returnsEditedPerson() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertEquals(Optional.empty(), uniquePersonList.findByStudentNumber(ALICE.getStudentNumber()));
+        assertEquals(Optional.of(BOB), uniquePersonList.findByStudentNumber(BOB.getStudentNumber()));
+    }
+
+    @Test
+    public void findByName_duplicateNames_returnsAllInListOrder() {
+        Person aliceNamedCarl = new PersonBuilder(ALICE).withName(CARL.getName().fullName).build();
+        uniquePersonList.add(CARL);
+        uniquePersonList.add(BOB);
+        uniquePersonList.add(aliceNamedCarl);
+        assertEquals(List.of(CARL, aliceNamedCarl), uniquePersonList.findByName(CARL.getName()));
+        assertTrue(uniquePersonList.findByName(ALICE.getName()).isEmpty());
+
+        uniquePersonList.remove(CARL);
+        assertEquals(List.of(aliceNamedCarl), uniquePersonList.findByName(CARL.getName()));
+    }
+
+    @Test
+    public void findByName_afterRenameAndReset_updated() {
+        uniquePersonList.add(ALICE);
+        Person renamedAlice = new PersonBuilder(ALICE).withName(CARL.getName().fullName).build();
+        uniquePersonList.setPerson(ALICE, renamedAlice);
+        assertTrue(uniquePersonList.findByName(ALICE.getName()).isEmpty());
+        assertEquals(List.of(renamedAlice), uniquePersonList.findByName(CARL.getName()));
+
+        Person editedAlice = new PersonBuilder(renamedAlice).withAddress(VALID_ADDRESS_BOB).build();
+        uniquePersonList.setPerson(renamedAlice, editedAlice);
+        assertEquals(List.of(editedAlice), uniquePersonList.findByName(CARL.getName()));
+
+        uniquePersonList.setPersons(List.of(BOB));
+        assertTrue(uniquePersonList.findByName(CARL.getName()).isEmpty());
+        assertEquals(List.of(BOB), uniquePersonList.findByName(BOB.getName()));
+    }
+
+    @Test
+    public void createIndexedPredicate_afterEditsAndReset_matchesCurrentPersons() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(CARL);
+        PersonContainsKeywordsPredicate predicate = new PersonContainsKeywordsPredicate(List.of("kurz"));
+        assertEquals(List.of(CARL), filter(uniquePersonList.createIndexedPredicate(predicate)));
+
+        Person aliceKurz = new PersonBuilder(ALICE).withName("Alice Kurz").build();
+        uniquePersonList.setPerson(ALICE, aliceKurz);
+        assertEquals(List.of(aliceKurz, CARL), filter(uniquePersonList.createIndexedPredicate(predicate)));
+
+        uniquePersonList.remove(CARL);
+        assertEquals(List.of(aliceKurz), filter(uniquePersonList.createIndexedPredicate(predicate)));
+
+        uniquePersonList.setPersons(List.of(BOB, CARL));
+        assertEquals(List.of(CARL), filter(uniquePersonList.createIndexedPredicate(predicate)));
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.add(null));
@@ -100,6 +177,8 @@ public class UniquePersonListTest {
         UniquePersonList expectedUniquePersonList = new UniquePersonList();
         expectedUniquePersonList.add(BOB);
         assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
     }
 
     @Test
@@ -109,6 +188,25 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPerson(ALICE, BOB));
     }
 
+    @Test
+    public void setPerson_afterEarlierPersonRemoved_replacesAtShiftedPosition() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        uniquePersonList.add(CARL);
+        uniquePersonList.setPerson(CARL, CARL); // positions are indexed before the removal shifts them
+        uniquePersonList.remove(ALICE);
+        Person editedCarl = new PersonBuilder(CARL).withTags(VALID_TAG_HUSBAND).build();
+        uniquePersonList.setPerson(CARL, editedCarl);
+        assertEquals(Arrays.asList(BOB, editedCarl), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void remove_equivalentPersonWithDifferentFields_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.remove(editedAlice));
+    }
+
     @Test
     public void remove_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.remove(null));
@@ -125,6 +223,7 @@ public class UniquePersonListTest {
         uniquePersonList.remove(ALICE);
         UniquePersonList expectedUniquePersonList = new UniquePersonList();
         assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertFalse(uniquePersonList.contains(ALICE));
     }
 
     @Test
@@ -162,6 +261,27 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setElementsIfUnique_listWithDuplicatePersons_returnsDuplicateKeysAndKeepsList() {
+        uniquePersonList.add(BOB);
+        Person lowerCaseAlice = new PersonBuilder(ALICE)
+                .withStudentNumber(ALICE.getStudentNumber().value.toLowerCase()).build();
+        Set<Object> duplicateKeys = uniquePersonList.setElementsIfUnique(Arrays.asList(ALICE, CARL, lowerCaseAlice));
+        assertEquals(Set.of(ALICE.getStudentNumber().value.toUpperCase()), duplicateKeys);
+        assertEquals(List.of(BOB), uniquePersonList.asUnmodifiableObservableList());
+        assertTrue(uniquePersonList.contains(BOB));
+        assertFalse(uniquePersonList.contains(CARL));
+    }
+
+    @Test
+    public void setElementsIfUnique_uniqueList_replacesList() {
+        uniquePersonList.add(BOB);
+        assertTrue(uniquePersonList.setElementsIfUnique(Arrays.asList(ALICE, CARL)).isEmpty());
+        assertEquals(List.of(ALICE, CARL), uniquePersonList.asUnmodifiableObservableList());
+        assertFalse(uniquePersonList.contains(BOB));
+        assertTrue(uniquePersonList.contains(CARL));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -172,4 +292,8 @@ public class UniquePersonListTest {
     public void toStringMethod() {
         assertEquals(uniquePersonList.asUnmodifiableObservableList().toString(), uniquePersonList.toString());
     }
+
+    private List<Person> filter(Predicate<Person> predicate) {
+        return uniquePersonList.asUnmodifiableObservableList().stream().filter(predicate).collect(Collectors.toList());
+    }
 }
@@ -7,6 +7,7 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalTasks.ALICE;
 import static seedu.address.testutil.TypicalTasks.BOB;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -121,6 +122,15 @@ public class UniqueTaskListTest {
         uniqueTaskList.remove(ALICE);
         UniqueTaskList expectedUniqueTaskList = new UniqueTaskList();
         assertEquals(expectedUniqueTaskList, uniqueTaskList);
+        assertFalse(uniqueTaskList.contains(ALICE));
+    }
+
+    @Test
+    public void contains_taskWithoutDeadline_identifiedByTitle() {
+        Task noDeadline = new TaskBuilder(ALICE).withDeadline((LocalDateTime) null).build();
+        uniqueTaskList.add(noDeadline);
+        assertTrue(uniqueTaskList.contains(new TaskBuilder(noDeadline).withIsDone(true).build()));
+        assertFalse(uniqueTaskList.contains(ALICE));
     }
 
     @Test
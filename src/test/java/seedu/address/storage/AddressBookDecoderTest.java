@@ -0,0 +1,109 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookSection;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.EventBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class AddressBookDecoderTest {
+
+    private static final int PERSON_COUNT = AddressBookDecoder.CHUNK_SIZE * 3 + 7;
+
+    @Test
+    public void decode_manyChunks_keepsOrder() throws Exception {
+        List<Person> persons = buildPersons(PERSON_COUNT);
+        AddressBookDecoder decoder = new AddressBookDecoder();
+        persons.forEach(person -> decoder.addPerson(new JsonAdaptedPerson(person)));
+        decoder.addEvent(new JsonAdaptedEvent(new EventBuilder().build()));
+
+        AddressBook addressBook = decoder.decode();
+        assertEquals(persons, addressBook.getPersonList());
+        assertEquals(List.of(new EventBuilder().build()), addressBook.getEventList());
+    }
+
+    @Test
+    public void decode_duplicateAcrossChunks_throwsIllegalValueException() {
+        List<Person> persons = buildPersons(PERSON_COUNT);
+        AddressBookDecoder decoder = new AddressBookDecoder();
+        persons.forEach(person -> decoder.addPerson(new JsonAdaptedPerson(person)));
+        decoder.addPerson(new JsonAdaptedPerson(persons.get(0)));
+
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON,
+                decoder::decode);
+    }
+
+    @Test
+    public void decode_duplicateBeforeInvalidPerson_reportsDuplicate() {
+        // The duplicate comes first in the file, so it is reported even if the invalid person is converted first
+        List<Person> persons = buildPersons(AddressBookDecoder.CHUNK_SIZE);
+        AddressBookDecoder decoder = new AddressBookDecoder();
+        persons.forEach(person -> decoder.addPerson(new JsonAdaptedPerson(person)));
+        decoder.addPerson(new JsonAdaptedPerson(persons.get(0)));
+        decoder.addPerson(new JsonAdaptedPerson(new PersonBuilder().build()) {
+            @Override
+            public Person toModelType() throws IllegalValueException {
+                throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+            }
+        });
+
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON,
+                decoder::decode);
+    }
+
+    @Test
+    public void decodeTrusted_matchingChecksums_addressBookReturned() {
+        List<Person> persons = buildPersons(PERSON_COUNT);
+        AddressBookDecoder decoder = new AddressBookDecoder(true);
+        persons.forEach(person -> decoder.addPerson(new JsonAdaptedPerson(person)));
+
+        AddressBook expected = new AddressBook();
+        persons.forEach(expected::addPerson);
+        assertEquals(Optional.of(expected), decoder.decodeTrusted(getChecksums(persons)));
+    }
+
+    @Test
+    public void decodeTrusted_mismatchedChecksums_emptyResult() {
+        List<Person> persons = buildPersons(PERSON_COUNT);
+        AddressBookDecoder decoder = new AddressBookDecoder(true);
+        persons.forEach(person -> decoder.addPerson(new JsonAdaptedPerson(person)));
+
+        assertEquals(Optional.empty(), decoder.decodeTrusted(getChecksums(persons.subList(1, persons.size()))));
+    }
+
+    /**
+     * Returns the checksums of an address book holding only {@code persons}.
+     */
+    private static Map<AddressBookSection, Long> getChecksums(List<Person> persons) {
+        Map<AddressBookSection, Long> checksums = new EnumMap<>(AddressBookSection.class);
+        for (AddressBookSection section : AddressBookSection.values()) {
+            checksums.put(section, new SectionChecksum().getValue());
+        }
+        SectionChecksum personsChecksum = new SectionChecksum();
+        persons.forEach(person -> personsChecksum.add(SectionChecksum.of(person)));
+        checksums.put(AddressBookSection.PERSONS, personsChecksum.getValue());
+        return checksums;
+    }
+
+    private static List<Person> buildPersons(int count) {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            persons.add(new PersonBuilder().withName("Person " + i)
+                    .withStudentNumber(String.format("A%07dX", i)).build());
+        }
+        return persons;
+    }
+}
@@ -0,0 +1,177 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalEvents.EVENT1;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReversibleEdit;
+import seedu.address.model.attendance.Attendance;
+import seedu.address.model.budget.Budget;
+import seedu.address.model.common.Money;
+import seedu.address.model.event.Event;
+import seedu.address.testutil.TypicalTasks;
+
+public class AddressBookJournalTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void replay_appendedChanges_madeInOrder() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        AddressBookJournal journal = new AddressBookJournal(testFolder.resolve("data.json"));
+        journal.append(recordChanges(addressBook, ab -> ab.addPerson(ALICE)));
+        journal.append(recordChanges(addressBook, ab -> {
+            ab.addPerson(BOB);
+            ab.removePerson(ALICE);
+        }));
+        journal.sync();
+
+        AddressBook replayed = new AddressBook();
+        assertEquals(2, new AddressBookJournal(testFolder.resolve("data.json")).replay(replayed));
+        assertEquals(addressBook, replayed);
+    }
+
+    @Test
+    public void replay_everyKindOfChange_madeInOrder() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        AddressBookJournal journal = new AddressBookJournal(testFolder.resolve("data.json"));
+        journal.append(recordChanges(addressBook, ab -> {
+            ab.setPersons(getTypicalPersons());
+            ab.addEvent(new Event(EVENT1.getEventId(), EVENT1.getDate(), EVENT1.getDescription(),
+                    Money.parse("12.34")));
+            ab.addTask(TypicalTasks.ALICE);
+            ab.addAttendance(new Attendance(EVENT1.getEventId(), ALICE.getName(), true));
+            ab.setBudget(new Budget(Money.parse("500.50"), LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31)));
+        }));
+        journal.sync();
+
+        AddressBook replayed = new AddressBook();
+        assertEquals(1, new AddressBookJournal(testFolder.resolve("data.json")).replay(replayed));
+        assertEquals(addressBook, replayed);
+        assertEquals(addressBook.getBudget(), replayed.getBudget());
+    }
+
+    @Test
+    public void append_memberRenamed_onlyRenamedAttendancesJournaled() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addEvent(EVENT1);
+        addressBook.addAttendance(new Attendance(EVENT1.getEventId(), ALICE.getName(), true));
+        addressBook.addAttendance(new Attendance(EVENT1.getEventId(), BOB.getName(), false));
+        AddressBook replayed = new AddressBook(addressBook);
+        AddressBookJournal journal = new AddressBookJournal(testFolder.resolve("data.json"));
+        journal.append(recordChanges(addressBook, ab -> ab.renameAttendanceForMember(ALICE.getName(),
+                CARL.getName())));
+        journal.sync();
+
+        String journalText = new String(Files.readAllBytes(testFolder.resolve("data.json.journal")),
+                StandardCharsets.UTF_8);
+        assertFalse(journalText.contains(BOB.getName().fullName));
+        assertEquals(1, new AddressBookJournal(testFolder.resolve("data.json")).replay(replayed));
+        assertEquals(addressBook, replayed);
+    }
+
+    @Test
+    public void replay_partlyWrittenRecord_cutOff() throws Exception {
+        Path journalFile = testFolder.resolve("data.json.journal");
+        AddressBook addressBook = new AddressBook();
+        AddressBookJournal journal = new AddressBookJournal(testFolder.resolve("data.json"));
+        journal.append(recordChanges(addressBook, ab -> ab.addPerson(ALICE)));
+        journal.sync();
+        long completeSize = Files.size(journalFile);
+        Files.write(journalFile, new byte[] {0, 0, 1, 0, 42, 42, 42, 42, 1, 7}, StandardOpenOption.APPEND);
+
+        AddressBook replayed = new AddressBook();
+        assertEquals(1, new AddressBookJournal(testFolder.resolve("data.json")).replay(replayed));
+        assertEquals(addressBook, replayed);
+        assertEquals(completeSize, Files.size(journalFile));
+    }
+
+    @Test
+    public void replay_dataFileAlreadyHoldsChanges_changesNotReplayedAgain() throws Exception {
+        Path dataFile = testFolder.resolve("data.json");
+        Path journalFile = testFolder.resolve("data.json.journal");
+        Path journalLeftByCrash = testFolder.resolve("crash.journal");
+        JsonAddressBookStorage dataFileStorage = new JsonAddressBookStorage(dataFile);
+        AddressBook addressBook = new AddressBook();
+        dataFileStorage.saveAddressBook(addressBook);
+        AddressBookJournal journal = new AddressBookJournal(dataFile);
+        journal.append(recordChanges(addressBook, ab -> ab.addPerson(ALICE)));
+
+        // Keeps the journal that the new data file replaces, as if the application stopped before deleting it
+        journal.writeSnapshotAndClear(filePath -> {
+            dataFileStorage.saveAddressBook(addressBook, filePath);
+            Files.createLink(journalLeftByCrash, journalFile);
+        });
+        Files.move(journalLeftByCrash, journalFile);
+
+        AddressBook replayed = new AddressBook(dataFileStorage.readAddressBook().get());
+        assertEquals(0, new AddressBookJournal(dataFile).replay(replayed));
+        assertEquals(addressBook, replayed);
+    }
+
+    @Test
+    public void replay_changesDoNotApply_throwsDataLoadingException() throws Exception {
+        AddressBookJournal journal = new AddressBookJournal(testFolder.resolve("data.json"));
+        journal.append(recordChanges(new AddressBook(), ab -> ab.addPerson(ALICE)));
+        journal.sync();
+
+        AddressBook addressBookWithAlice = new AddressBook();
+        addressBookWithAlice.addPerson(ALICE);
+        assertThrows(DataLoadingException.class, () -> journal.replay(addressBookWithAlice));
+    }
+
+    @Test
+    public void setAside_changesAppended_journalEmptyAndKept() throws Exception {
+        AddressBookJournal journal = new AddressBookJournal(testFolder.resolve("data.json"));
+        journal.append(recordChanges(new AddressBook(), ab -> ab.addPerson(ALICE)));
+        byte[] journalBytes = Files.readAllBytes(testFolder.resolve("data.json.journal"));
+
+        List<Path> setAsideFilePaths = journal.setAside();
+        assertTrue(journal.isEmpty());
+        assertEquals(1, setAsideFilePaths.size());
+        assertArrayEquals(journalBytes, Files.readAllBytes(setAsideFilePaths.get(0)));
+    }
+
+    @Test
+    public void clear_changesAppended_journalEmpty() throws Exception {
+        AddressBookJournal journal = new AddressBookJournal(testFolder.resolve("data.json"));
+        journal.append(recordChanges(new AddressBook(), ab -> ab.addPerson(ALICE)));
+        journal.clear();
+
+        assertTrue(journal.isEmpty());
+        assertEquals(0, journal.replay(new AddressBook()));
+    }
+
+    /**
+     * Makes {@code change} on {@code addressBook} and returns the edits it made.
+     */
+    private static List<ReversibleEdit> recordChanges(AddressBook addressBook, Consumer<AddressBook> change) {
+        List<ReversibleEdit> changes = new ArrayList<>();
+        addressBook.setChangeListener(changes::add);
+        change.accept(addressBook);
+        addressBook.setChangeListener(null);
+        return changes;
+    }
+}
@@ -0,0 +1,127 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.EditVisitor;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReversibleEdit;
+
+public class AddressBookSaverTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new AddressBookSaver(null));
+    }
+
+    @Test
+    public void save_whileEarlierSaveIsWritten_coalescedIntoOneWrite() throws Exception {
+        RecordingStorage storage = new RecordingStorage(testFolder);
+        AddressBookSaver saver = new AddressBookSaver(storage);
+        ReadOnlyAddressBook first = new AddressBook().snapshot();
+        ReadOnlyAddressBook second = new AddressBook().snapshot();
+        ReadOnlyAddressBook third = getTypicalAddressBook().snapshot();
+        ReversibleEdit firstEdit = new EditStub();
+        ReversibleEdit secondEdit = new EditStub();
+        ReversibleEdit thirdEdit = new EditStub();
+
+        saver.save(first, List.of(firstEdit));
+        storage.firstSaveStarted.await();
+        saver.save(second, List.of(secondEdit));
+        saver.save(third, List.of(thirdEdit));
+        storage.firstSaveMayFinish.countDown();
+
+        assertFalse(saver.flush());
+        assertEquals(2, storage.savedAddressBooks.size());
+        assertSame(first, storage.savedAddressBooks.get(0));
+        assertSame(third, storage.savedAddressBooks.get(1));
+        assertEquals(List.of(List.of(firstEdit), List.of(secondEdit, thirdEdit)), storage.savedChanges);
+    }
+
+    @Test
+    public void flush_lastSaveFailed_returnsTrueAndReportsFailure() throws Exception {
+        IOException exception = new IOException("dummy IO exception");
+        RecordingStorage storage = new RecordingStorage(testFolder);
+        storage.firstSaveMayFinish.countDown();
+        storage.exceptionToThrow = exception;
+        AddressBookSaver saver = new AddressBookSaver(storage);
+        List<IOException> failures = new ArrayList<>();
+        saver.setFailureHandler(failures::add);
+
+        saver.save(new AddressBook().snapshot(), List.of());
+        assertTrue(saver.flush());
+        assertEquals(List.of(exception), failures);
+
+        // A later successful save clears the failure
+        storage.exceptionToThrow = null;
+        saver.save(new AddressBook().snapshot(), List.of());
+        assertFalse(saver.flush());
+    }
+
+    /**
+     * A storage that records the saves requested of it, and holds up the first save until allowed to finish.
+     */
+    private static class RecordingStorage extends StorageManager {
+        private final CountDownLatch firstSaveStarted = new CountDownLatch(1);
+        private final CountDownLatch firstSaveMayFinish = new CountDownLatch(1);
+        private final List<ReadOnlyAddressBook> savedAddressBooks = new ArrayList<>();
+        private final List<List<ReversibleEdit>> savedChanges = new ArrayList<>();
+        private volatile IOException exceptionToThrow;
+
+        RecordingStorage(Path folder) {
+            super(new JsonAddressBookStorage(folder.resolve("ab")), new JsonUserPrefsStorage(folder.resolve("prefs")));
+        }
+
+        @Override
+        public void saveAddressBookChanges(ReadOnlyAddressBook addressBook, List<ReversibleEdit> changes)
+                throws IOException {
+            firstSaveStarted.countDown();
+            try {
+                firstSaveMayFinish.await();
+            } catch (InterruptedException e) {
+                throw new AssertionError(e);
+            }
+            if (exceptionToThrow != null) {
+                throw exceptionToThrow;
+            }
+            savedAddressBooks.add(addressBook);
+            savedChanges.add(changes);
+        }
+    }
+
+    /**
+     * A reversible edit that does nothing.
+     */
+    private static class EditStub implements ReversibleEdit {
+        @Override
+        public void undo(AddressBook addressBook) {}
+
+        @Override
+        public void redo(AddressBook addressBook) {}
+
+        @Override
+        public long estimateBytes() {
+            return 0;
+        }
+
+        @Override
+        public void accept(EditVisitor visitor) {}
+    }
+}
@@ -0,0 +1,197 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalEvents.EVENT1;
+import static seedu.address.testutil.TypicalEvents.EVENT2;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.CRC32;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.attendance.Attendance;
+import seedu.address.model.budget.Budget;
+import seedu.address.model.common.Money;
+import seedu.address.model.event.Event;
+import seedu.address.model.event.EventId;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.task.Task;
+import seedu.address.testutil.TypicalTasks;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BinaryAddressBookStorage(null).readAddressBook(null));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(testFolder.resolve("missing.bin")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_everySection_success() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        AddressBook original = getFullAddressBook();
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+
+        storage.saveAddressBook(original);
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+
+        // Overwrite the existing file
+        original.removePerson(ALICE);
+        original.removeTask(TypicalTasks.ALICE);
+        storage.saveAddressBook(original);
+        readBack = storage.readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+    }
+
+    @Test
+    public void saveAddressBook_smallerThanJson() throws Exception {
+        Path binaryFilePath = testFolder.resolve("addressbook.bin");
+        Path jsonFilePath = testFolder.resolve("addressbook.json");
+        AddressBook addressBook = getFullAddressBook();
+
+        new BinaryAddressBookStorage(binaryFilePath).saveAddressBook(addressBook);
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(addressBook);
+        assertTrue(Files.size(binaryFilePath) < Files.size(jsonFilePath));
+    }
+
+    @Test
+    public void readAddressBook_jsonFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_unsupportedVersion_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(BinaryAddressBookFormat.MAGIC);
+        out.writeInt(3);
+        out.writeLong(0);
+        Files.write(filePath, bytes.toByteArray());
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getFullAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length / 2));
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_fileReplacedAfterRead_success() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        AddressBook original = getTypicalAddressBook();
+        new BinaryAddressBookStorage(filePath).saveAddressBook(original);
+
+        List<Person> persons = new BinaryAddressBookStorage(filePath).readAddressBook().get().getPersonList();
+        // The file is no longer in use once read, so it can be replaced
+        new BinaryAddressBookStorage(filePath).saveAddressBook(new AddressBook());
+        assertEquals(original.getPersonList(), persons);
+    }
+
+    @Test
+    public void readAddressBook_versionWithChecksum_success() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        Files.write(filePath, getEmptyVersionWithChecksum());
+
+        assertEquals(new AddressBook(),
+                new AddressBook(new BinaryAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_versionWithChecksumCorrupted_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        byte[] bytes = getEmptyVersionWithChecksum();
+        bytes[bytes.length / 2] ^= 1;
+        Files.write(filePath, bytes);
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    /**
+     * Returns an empty address book in version 2 of the format, which ends with a CRC32 checksum.
+     */
+    private static byte[] getEmptyVersionWithChecksum() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(BinaryAddressBookFormat.MAGIC);
+        out.writeInt(2);
+        for (int i = 0; i < 5; i++) {
+            out.writeInt(0); // four empty dictionaries, then no persons
+        }
+        out.writeInt(0); // the total length of the person records
+        for (int i = 0; i < 3; i++) {
+            out.writeInt(0); // no events, tasks or attendances
+        }
+        out.writeBoolean(false); // no budget
+        CRC32 crc = new CRC32();
+        crc.update(bytes.toByteArray());
+        out.writeLong(crc.getValue());
+        return bytes.toByteArray();
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new BinaryAddressBookStorage(testFolder.resolve("addressbook.bin")).saveAddressBook(null));
+    }
+
+    @Test
+    public void saveAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new BinaryAddressBookStorage(null).saveAddressBook(new AddressBook(), null));
+    }
+
+    /**
+     * Returns an address book with data in every section, including attendances of a member and an event that are
+     * not in the address book.
+     */
+    private static AddressBook getFullAddressBook() {
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.addEvent(EVENT1);
+        addressBook.addEvent(new Event(EVENT2.getEventId(), EVENT2.getDate(), EVENT2.getDescription(),
+                Money.parse("12.34")));
+        for (Task task : TypicalTasks.getTypicalTasks()) {
+            addressBook.addTask(task);
+        }
+        addressBook.addAttendance(new Attendance(EVENT1.getEventId(), ALICE.getName(), true));
+        addressBook.addAttendance(new Attendance(EVENT2.getEventId(), BENSON.getName(), false));
+        addressBook.addAttendance(new Attendance(new EventId("past"), new Name("Former Member"), true));
+        addressBook.setBudget(new Budget(Money.parse("500.50"), LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31)));
+        return addressBook;
+    }
+}
@@ -0,0 +1,57 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.budget.Budget;
+import seedu.address.model.common.Money;
+
+public class JsonAdaptedBudgetTest {
+
+    private static final String VALID_AMOUNT = "500.00";
+    private static final String VALID_START_DATE = "2024-01-01";
+    private static final String VALID_END_DATE = "2024-12-31";
+
+    @Test
+    public void toModelType_validBudget_returnsBudget() throws Exception {
+        Budget budget = new Budget(Money.parse(VALID_AMOUNT), LocalDate.parse(VALID_START_DATE),
+                LocalDate.parse(VALID_END_DATE));
+        assertEquals(budget, new JsonAdaptedBudget(budget).toModelType());
+    }
+
+    @Test
+    public void toModelType_amountAboveEntryCap_returnsBudget() throws Exception {
+        JsonAdaptedBudget budget = new JsonAdaptedBudget("12345678901234567890", VALID_START_DATE, VALID_END_DATE);
+        assertEquals(Money.parse("12345678901234567890"), budget.toModelType().getAmount());
+    }
+
+    @Test
+    public void toModelType_invalidAmount_throwsIllegalValueException() {
+        JsonAdaptedBudget budget = new JsonAdaptedBudget("12.3.4", VALID_START_DATE, VALID_END_DATE);
+        assertThrows(IllegalValueException.class, budget::toModelType);
+    }
+
+    @Test
+    public void toModelType_nullAmount_throwsIllegalValueException() {
+        JsonAdaptedBudget budget = new JsonAdaptedBudget(null, VALID_START_DATE, VALID_END_DATE);
+        String expectedMessage = String.format(JsonAdaptedBudget.MISSING_FIELD_MESSAGE_FORMAT, "amount");
+        assertThrows(IllegalValueException.class, expectedMessage, budget::toModelType);
+    }
+
+    @Test
+    public void toModelType_invalidDate_throwsIllegalValueException() {
+        JsonAdaptedBudget budget = new JsonAdaptedBudget(VALID_AMOUNT, "2024-13-01", VALID_END_DATE);
+        assertThrows(IllegalValueException.class, JsonAdaptedBudget.MESSAGE_INVALID_DATE, budget::toModelType);
+    }
+
+    @Test
+    public void toModelType_endBeforeStart_throwsIllegalValueException() {
+        JsonAdaptedBudget budget = new JsonAdaptedBudget(VALID_AMOUNT, VALID_END_DATE, VALID_START_DATE);
+        assertThrows(IllegalValueException.class, JsonAdaptedBudget.MESSAGE_INVALID_DATE, budget::toModelType);
+    }
+}
@@ -0,0 +1,79 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BOB;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReversibleEdit;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
+
+public class JsonAdaptedEditTest {
+
+    @Test
+    public void redo_convertedEdits_madeAgain() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        List<ReversibleEdit> edits = recordEdits(addressBook, ab -> {
+            ab.addPerson(ALICE);
+            ab.addPerson(BOB);
+            ab.removePerson(ALICE);
+            ab.setPersons(List.of(ALICE));
+        });
+
+        AddressBook replayed = new AddressBook();
+        for (ReversibleEdit edit : edits) {
+            toJsonAndBack(JsonAdaptedEdit.of(edit)).redo(replayed);
+        }
+        assertEquals(addressBook, replayed);
+    }
+
+    @Test
+    public void redo_invalidElement_throwsIllegalValueException() throws Exception {
+        List<ReversibleEdit> edits = recordEdits(new AddressBook(), ab -> ab.addPerson(ALICE));
+        ObjectNode person = (ObjectNode) JsonUtil.toJsonNode(new JsonAdaptedPerson(ALICE));
+        person.put("name", "R@chel");
+        JsonAdaptedEdit edit = new JsonAdaptedEdit("PERSONS", 0, null, person);
+        assertThrows(IllegalValueException.class, () -> edit.redo(new AddressBook()));
+        // the valid edit the invalid one was made from is accepted
+        JsonAdaptedEdit.of(edits.get(0)).redo(new AddressBook());
+    }
+
+    @Test
+    public void redo_unknownSection_throwsIoException() {
+        JsonAdaptedEdit edit = new JsonAdaptedEdit("MEMBERS", 0, null, JsonNodeFactory.instance.objectNode());
+        assertThrows(IOException.class, () -> edit.redo(new AddressBook()));
+    }
+
+    @Test
+    public void redo_addressBookNotInStateEditWasMadeFrom_throwsRuntimeException() throws Exception {
+        List<ReversibleEdit> edits = recordEdits(new AddressBook(), ab -> {
+            ab.addPerson(ALICE);
+            ab.removePerson(ALICE);
+        });
+        assertThrows(PersonNotFoundException.class, () -> JsonAdaptedEdit.of(edits.get(1)).redo(new AddressBook()));
+    }
+
+    private static JsonAdaptedEdit toJsonAndBack(JsonAdaptedEdit edit) throws IOException {
+        return JsonUtil.fromJsonString(JsonUtil.toJsonString(edit), JsonAdaptedEdit.class);
+    }
+
+    private static List<ReversibleEdit> recordEdits(AddressBook addressBook, Consumer<AddressBook> change) {
+        List<ReversibleEdit> edits = new ArrayList<>();
+        addressBook.setChangeListener(edits::add);
+        change.accept(addressBook);
+        addressBook.setChangeListener(null);
+        return edits;
+    }
+}
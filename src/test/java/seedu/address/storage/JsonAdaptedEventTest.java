@@ -8,6 +8,7 @@ import java.time.LocalDate;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.common.Money;
 import seedu.address.model.event.Event;
 import seedu.address.testutil.EventBuilder;
 
@@ -65,6 +66,19 @@ public class JsonAdaptedEventTest {
         assertThrows(IllegalValueException.class, jsonEvent::toModelType);
     }
 
+    @Test
+    public void toModelType_expenseAboveEntryCap_success() throws Exception {
+        JsonAdaptedEvent jsonEvent = new JsonAdaptedEvent(VALID_EVENT_ID, VALID_DATE, VALID_DESCRIPTION,
+                "12345678901234567890");
+        assertEquals(Money.parse("12345678901234567890"), jsonEvent.toModelType().getExpense());
+    }
+
+    @Test
+    public void toModelType_invalidExpense_throwsIllegalValueException() {
+        JsonAdaptedEvent jsonEvent = new JsonAdaptedEvent(VALID_EVENT_ID, VALID_DATE, VALID_DESCRIPTION, "12.3.4");
+        assertThrows(IllegalValueException.class, jsonEvent::toModelType);
+    }
+
     @Test
     public void constructor_fromEvent_success() throws Exception {
         Event event = new EventBuilder().build();
@@ -7,6 +7,7 @@ import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
@@ -14,6 +15,8 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.testutil.PersonBuilder;
@@ -94,6 +97,71 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void readAddressBook_savedAsSerializableAddressBook_sameAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(original), filePath);
+
+        ReadOnlyAddressBook readBack = new JsonAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+    }
+
+    @Test
+    public void saveAddressBook_readAsSerializableAddressBook_sameAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        JsonSerializableAddressBook readBack = JsonUtil.readJsonFile(filePath, JsonSerializableAddressBook.class).get();
+        assertEquals(original, readBack.toModelType());
+    }
+
+    @Test
+    public void readAddressBook_unknownAndMissingFields_unknownFieldsIgnored() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        FileUtil.writeToFile(filePath,
+                "{ \"unknown\" : { \"persons\" : [ 1 ] }, \"persons\" : [ ], \"budget\" : null }");
+
+        ReadOnlyAddressBook readBack = new JsonAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(new AddressBook(), new AddressBook(readBack));
+    }
+
+    @Test
+    public void readAddressBook_invalidValueEditedByHand_throwDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        // The recorded checksums are kept, but no longer match the values in the file
+        String json = Files.readString(filePath);
+        FileUtil.writeToFile(filePath, json.replace(ALICE.getPhone().value, "not a phone"));
+
+        assertThrows(DataLoadingException.class, () -> new JsonAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_validValueEditedByHand_editedValueRead() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        String json = Files.readString(filePath);
+        FileUtil.writeToFile(filePath, json.replace(ALICE.getPhone().value, "91234567"));
+
+        AddressBook expected = getTypicalAddressBook();
+        expected.setPerson(ALICE, new PersonBuilder(ALICE).withPhone("91234567").build());
+        assertEquals(expected, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_unsupportedSchemaVersion_validatedAndRead() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+        String json = Files.readString(filePath);
+        FileUtil.writeToFile(filePath, json.replaceFirst("\"schemaVersion\" : [0-9]+",
+                "\"schemaVersion\" : " + (JsonAddressBookStorage.SCHEMA_VERSION + 1)));
+
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
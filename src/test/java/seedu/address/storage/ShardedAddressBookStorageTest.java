@@ -0,0 +1,246 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalEvents.EVENT1;
+import static seedu.address.testutil.TypicalEvents.EVENT2;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookSection;
+import seedu.address.model.attendance.Attendance;
+import seedu.address.model.budget.Budget;
+import seedu.address.model.common.Money;
+import seedu.address.model.task.Task;
+import seedu.address.testutil.TypicalTasks;
+
+public class ShardedAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void getShardDirectory() {
+        assertEquals(Paths.get("data", "addressbook"),
+                ShardedAddressBookStorage.getShardDirectory(Paths.get("data", "addressbook.manifest")));
+        assertEquals(Paths.get("data", "addressbook"),
+                ShardedAddressBookStorage.getShardDirectory(Paths.get("data", "addressbook.manifest.tmp")));
+        assertEquals(Paths.get("addressbook-shards"),
+                ShardedAddressBookStorage.getShardDirectory(Paths.get("addressbook")));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new ShardedAddressBookStorage(testFolder.resolve("missing.manifest")).readAddressBook()
+                .isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_everySection_success() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.manifest");
+        AddressBook original = getFullAddressBook();
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath);
+
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+        assertEquals(AddressBookSection.values().length, readManifest(filePath).getShards().size());
+
+        // Overwrite the existing data
+        original.removePerson(ALICE);
+        original.clearBudget();
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(new ShardedAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_oneSectionModified_onlyItsShardWritten() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.manifest");
+        AddressBook addressBook = getFullAddressBook();
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath);
+
+        storage.saveAddressBook(addressBook.snapshot());
+        Map<AddressBookSection, String> firstShards = readManifest(filePath).getShards();
+        addressBook.removeEvent(EVENT1);
+        storage.saveAddressBook(addressBook.snapshot());
+        Map<AddressBookSection, String> secondShards = readManifest(filePath).getShards();
+
+        for (AddressBookSection section : AddressBookSection.values()) {
+            if (section == AddressBookSection.EVENTS) {
+                assertNotEquals(firstShards.get(section), secondShards.get(section));
+            } else {
+                assertEquals(firstShards.get(section), secondShards.get(section));
+            }
+        }
+        assertEquals(addressBook, new AddressBook(new ShardedAddressBookStorage(filePath).readAddressBook().get()));
+
+        // The replaced shard is deleted once no manifest that may be in use names it
+        Path shardDirectory = ShardedAddressBookStorage.getShardDirectory(filePath);
+        assertTrue(Files.exists(shardDirectory.resolve(firstShards.get(AddressBookSection.EVENTS))));
+        storage.saveAddressBook(addressBook.snapshot());
+        assertFalse(Files.exists(shardDirectory.resolve(firstShards.get(AddressBookSection.EVENTS))));
+    }
+
+    @Test
+    public void saveAddressBook_anotherAddressBook_everyShardWritten() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.manifest");
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath);
+
+        storage.saveAddressBook(getFullAddressBook());
+        Map<AddressBookSection, String> firstShards = readManifest(filePath).getShards();
+        // The versions of another address book are not comparable, even if they are equal
+        storage.saveAddressBook(getFullAddressBook());
+        Map<AddressBookSection, String> secondShards = readManifest(filePath).getShards();
+
+        for (AddressBookSection section : AddressBookSection.values()) {
+            assertNotEquals(firstShards.get(section), secondShards.get(section));
+        }
+    }
+
+    @Test
+    public void readAddressBook_interruptedSave_previousDataRead() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.manifest");
+        AddressBook original = getFullAddressBook();
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+
+        // A shard written by a save that did not get to replace the manifest
+        Path orphanShard = ShardedAddressBookStorage.getShardDirectory(filePath).resolve("persons-99.json");
+        FileUtil.writeToFile(orphanShard, "[ { \"name\" : \"Half writ");
+
+        assertEquals(original, new AddressBook(new ShardedAddressBookStorage(filePath).readAddressBook().get()));
+        storage.saveAddressBook(original);
+        assertFalse(Files.exists(orphanShard));
+    }
+
+    @Test
+    public void saveAddressBook_checksumsRecorded() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.manifest");
+        AddressBook addressBook = getFullAddressBook();
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath);
+
+        storage.saveAddressBook(addressBook.snapshot());
+        Map<AddressBookSection, Long> firstChecksums = readManifest(filePath).getChecksums();
+        assertEquals(AddressBookSection.values().length, firstChecksums.size());
+        addressBook.removeEvent(EVENT1);
+        storage.saveAddressBook(addressBook.snapshot());
+        Map<AddressBookSection, Long> secondChecksums = readManifest(filePath).getChecksums();
+
+        for (AddressBookSection section : AddressBookSection.values()) {
+            if (section == AddressBookSection.EVENTS) {
+                assertNotEquals(firstChecksums.get(section), secondChecksums.get(section));
+            } else {
+                assertEquals(firstChecksums.get(section), secondChecksums.get(section));
+            }
+        }
+    }
+
+    @Test
+    public void readAddressBook_invalidValueInShard_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.manifest");
+        new ShardedAddressBookStorage(filePath).saveAddressBook(getFullAddressBook());
+        Path personsShard = ShardedAddressBookStorage.getShardDirectory(filePath)
+                .resolve(readManifest(filePath).getShards().get(AddressBookSection.PERSONS));
+        String persons = Files.readString(personsShard);
+        FileUtil.writeToFile(personsShard, persons.replace(ALICE.getPhone().value, "not a phone"));
+
+        assertThrows(DataLoadingException.class, () -> new ShardedAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_manifestWithoutChecksums_success() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.manifest");
+        AddressBook original = getFullAddressBook();
+        new ShardedAddressBookStorage(filePath).saveAddressBook(original);
+        JsonShardManifest manifest = readManifest(filePath);
+        FileUtil.writeToFile(filePath, JsonUtil.toJsonString(new JsonShardManifest(manifest.getGeneration(),
+                manifest.getShards(), Map.of())));
+
+        assertEquals(original, new AddressBook(new ShardedAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_missingShard_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.manifest");
+        new ShardedAddressBookStorage(filePath).saveAddressBook(getFullAddressBook());
+        Path shardDirectory = ShardedAddressBookStorage.getShardDirectory(filePath);
+        Files.delete(shardDirectory.resolve(readManifest(filePath).getShards().get(AddressBookSection.TASKS)));
+
+        assertThrows(DataLoadingException.class, () -> new ShardedAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_shardOutsideDirectory_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.manifest");
+        new JsonAddressBookStorage(testFolder.resolve("other.json")).saveAddressBook(getTypicalAddressBook());
+        FileUtil.writeToFile(filePath, JsonUtil.toJsonString(new JsonShardManifest(1,
+                Map.of(AddressBookSection.PERSONS, "../other.json"), Map.of())));
+
+        assertThrows(DataLoadingException.class, () -> new ShardedAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_unsupportedManifestVersion_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.manifest");
+        FileUtil.writeToFile(filePath, JsonUtil.toJsonString(new JsonShardManifest(
+                JsonShardManifest.FORMAT_VERSION + 1, 1, Map.of(), Map.of())));
+
+        assertThrows(DataLoadingException.class, () -> new ShardedAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_throughStorageManager_success() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.manifest");
+        AddressBook addressBook = getFullAddressBook();
+        StorageManager storageManager = new StorageManager(new ShardedAddressBookStorage(filePath),
+                new JsonUserPrefsStorage(testFolder.resolve("prefs")));
+
+        storageManager.saveAddressBook(addressBook.snapshot());
+        addressBook.removeEvent(EVENT2);
+        storageManager.saveAddressBook(addressBook.snapshot());
+
+        StorageManager reloaded = new StorageManager(new ShardedAddressBookStorage(filePath),
+                new JsonUserPrefsStorage(testFolder.resolve("prefs")));
+        assertEquals(addressBook, new AddressBook(reloaded.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new ShardedAddressBookStorage(testFolder.resolve("addressbook.manifest")).saveAddressBook(null));
+    }
+
+    private static JsonShardManifest readManifest(Path filePath) throws Exception {
+        return JsonUtil.readJsonFile(filePath, JsonShardManifest.class).get();
+    }
+
+    /**
+     * Returns an address book with data in every section.
+     */
+    private static AddressBook getFullAddressBook() {
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.addEvent(EVENT1);
+        addressBook.addEvent(EVENT2);
+        for (Task task : TypicalTasks.getTypicalTasks()) {
+            addressBook.addTask(task);
+        }
+        addressBook.addAttendance(new Attendance(EVENT1.getEventId(), ALICE.getName(), true));
+        addressBook.setBudget(new Budget(Money.parse("500.50"), LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31)));
+        return addressBook;
+    }
+}
@@ -2,9 +2,16 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -13,6 +20,7 @@ import org.junit.jupiter.api.io.TempDir;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReversibleEdit;
 import seedu.address.model.UserPrefs;
 
 public class StorageManagerTest {
@@ -60,6 +68,85 @@ public class StorageManagerTest {
         assertEquals(original, new AddressBook(retrieved));
     }
 
+    @Test
+    public void saveAddressBookChanges_afterRead_changesReplayedOnNextRead() throws Exception {
+        storageManager.saveAddressBook(getTypicalAddressBook());
+        AddressBook addressBook = new AddressBook(storageManager.readAddressBook().get());
+        List<ReversibleEdit> changes = new ArrayList<>();
+        addressBook.setChangeListener(changes::add);
+        addressBook.removePerson(ALICE);
+        addressBook.addPerson(AMY);
+        storageManager.saveAddressBookChanges(addressBook, changes);
+
+        // Only the journal was written
+        JsonAddressBookStorage dataFileStorage = new JsonAddressBookStorage(getTempFilePath("ab"));
+        assertEquals(getTypicalAddressBook(), new AddressBook(dataFileStorage.readAddressBook().get()));
+
+        StorageManager reopenedStorageManager = new StorageManager(dataFileStorage,
+                new JsonUserPrefsStorage(getTempFilePath("prefs")));
+        assertEquals(addressBook, new AddressBook(reopenedStorageManager.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_journalDoesNotApply_dataFileReadAndJournalSetAside() throws Exception {
+        storageManager.saveAddressBook(getTypicalAddressBook());
+        AddressBook addressBook = new AddressBook(storageManager.readAddressBook().get());
+        List<ReversibleEdit> changes = new ArrayList<>();
+        addressBook.setChangeListener(changes::add);
+        addressBook.removePerson(ALICE);
+        storageManager.saveAddressBookChanges(addressBook, changes);
+        storageManager.saveAddressBookChanges(addressBook, changes); // removes ALICE again, which cannot be replayed
+
+        StorageManager reopenedStorageManager = new StorageManager(new JsonAddressBookStorage(getTempFilePath("ab")),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")));
+        assertEquals(getTypicalAddressBook(), new AddressBook(reopenedStorageManager.readAddressBook().get()));
+        try (Stream<Path> files = Files.list(testFolder)) {
+            assertTrue(files.anyMatch(file -> file.getFileName().toString().startsWith("ab.journal.unreadable")));
+        }
+
+        // The journal set aside is not replayed again, and the data file is kept
+        assertEquals(getTypicalAddressBook(), new AddressBook(reopenedStorageManager.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBookChanges_withoutRead_wholeAddressBookSaved() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storageManager.saveAddressBookChanges(original, List.of());
+        assertEquals(original, new AddressBook(storageManager.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBookChanges_journalOverThreshold_compactedIntoDataFile() throws Exception {
+        JsonAddressBookStorage dataFileStorage = new JsonAddressBookStorage(getTempFilePath("ab"));
+        AddressBookJournal journal = new AddressBookJournal(getTempFilePath("ab"), 0);
+        StorageManager compactingStorageManager = new StorageManager(dataFileStorage,
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), journal);
+        compactingStorageManager.saveAddressBook(getTypicalAddressBook());
+        AddressBook addressBook = new AddressBook(compactingStorageManager.readAddressBook().get());
+        List<ReversibleEdit> changes = new ArrayList<>();
+        addressBook.setChangeListener(changes::add);
+        addressBook.removePerson(ALICE);
+        compactingStorageManager.saveAddressBookChanges(addressBook, changes);
+
+        journal.sync();
+        assertTrue(journal.isEmpty());
+        assertEquals(addressBook, new AddressBook(dataFileStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void compactAddressBook_changesJournalled_journalFoldedIntoDataFile() throws Exception {
+        storageManager.saveAddressBook(getTypicalAddressBook());
+        AddressBook addressBook = new AddressBook(storageManager.readAddressBook().get());
+        List<ReversibleEdit> changes = new ArrayList<>();
+        addressBook.setChangeListener(changes::add);
+        addressBook.removePerson(ALICE);
+        storageManager.saveAddressBookChanges(addressBook, changes);
+
+        storageManager.compactAddressBook(addressBook);
+        assertEquals(addressBook,
+                new AddressBook(new JsonAddressBookStorage(getTempFilePath("ab")).readAddressBook().get()));
+    }
+
     @Test
     public void getAddressBookFilePath() {
         assertNotNull(storageManager.getAddressBookFilePath());